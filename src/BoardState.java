@@ -0,0 +1,63 @@
+/**
+ * The {@code BoardState} class holds the items and clues placed in each room for a single game.
+ * Values are stored in parallel arrays indexed by {@link Room#ordinal()}, so independent games never share state.
+ *
+ * @author Alexander Chang
+ * @version 1.5, 10/17/2026
+ * @since 1.5
+ */
+public class BoardState {
+    private final Item[] items = new Item[Room.values().length];
+    private final Weapon[] weapons = new Weapon[Room.values().length];
+    private final Suspect[] weaponFingerprints = new Suspect[Room.values().length];
+    private final Suspect[] DNA = new Suspect[Room.values().length];
+    private final boolean[] UVCluePresent = new boolean[Room.values().length];
+
+    void setItem(Room room, Item item) {
+        items[room.ordinal()] = item;
+    }
+
+    boolean hasItem(Room room) {
+        return items[room.ordinal()] != null;
+    }
+
+    void setWeapon(Room room, Weapon weapon) {
+        weapons[room.ordinal()] = weapon;
+    }
+
+    boolean hasWeapon(Room room) {
+        return weapons[room.ordinal()] != null;
+    }
+
+    void setWeaponFingerprints(Room room, Suspect weaponFingerprints) {
+        this.weaponFingerprints[room.ordinal()] = weaponFingerprints;
+    }
+
+    void setDNA(Room room, Suspect DNA) {
+        this.DNA[room.ordinal()] = DNA;
+    }
+
+    void setUVCluePresent(Room room, boolean UVCluePresent) {
+        this.UVCluePresent[room.ordinal()] = UVCluePresent;
+    }
+
+    Item getItem(Room room) {
+        return items[room.ordinal()];
+    }
+
+    Weapon getWeapon(Room room) {
+        return weapons[room.ordinal()];
+    }
+
+    Suspect getWeaponFingerprints(Room room) {
+        return weaponFingerprints[room.ordinal()];
+    }
+
+    Suspect getDNA(Room room) {
+        return DNA[room.ordinal()];
+    }
+
+    boolean isUVCluePresent(Room room) {
+        return UVCluePresent[room.ordinal()];
+    }
+}
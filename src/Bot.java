@@ -0,0 +1,16 @@
+/**
+ * The {@code Bot} interface is implemented by the computer players that a {@code Tournament} pits against the headless game.
+ * A bot is created for a single game and may keep whatever it learns from the events of its own turns.
+ *
+ * @author Alexander Chang
+ * @version 1.5, 10/17/2026
+ * @since 1.5
+ */
+interface Bot {
+    /**
+     * Plays one turn of the given game, by applying, declining, or accusing exactly once
+     *
+     * @param engine the game, which must still be active
+     */
+    void playTurn(GameEngine engine);
+}
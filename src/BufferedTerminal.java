@@ -0,0 +1,34 @@
+/**
+ * The {@code BufferedTerminal} class collects the output of a {@code Terminal} in memory and writes it to its destination in one call when flushed.
+ *
+ * @author Alexander Chang
+ * @version 1.5, 10/17/2026
+ * @since 1.5
+ */
+public abstract class BufferedTerminal implements Terminal {
+    private final StringBuilder buffer = new StringBuilder();
+
+    @Override
+    public void print(CharSequence text) {
+        buffer.append(text);
+    }
+
+    @Override
+    public void print(char c) {
+        buffer.append(c);
+    }
+
+    @Override
+    public void flush() {
+        if (buffer.length() == 0) return;
+        write(buffer);
+        buffer.setLength(0);
+    }
+
+    /**
+     * Writes flushed output to the destination of the terminal
+     *
+     * @param text the output collected since the last flush
+     */
+    protected abstract void write(CharSequence text);
+}
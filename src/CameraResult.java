@@ -2,7 +2,7 @@
  * The {@code CameraResult} class encapsulates functionality for surveillance camera clips requested by the user
  * 
  * @author Alexander Chang
- * @version 1.3, 1/1/2025
+ * @version 1.5, 10/17/2026
  * @since 1.2
  */
 public class CameraResult {
@@ -12,10 +12,25 @@ public class CameraResult {
     private boolean weaponIsRedHerring;
     private Suspect suspect;
     private boolean suspectIsRedHerring;
-    private final int turnsForAnalysis = (int)(Math.random() * 3) + 8;
+    private final int turnsForAnalysis;
 
     CameraResult(Room answerRoom, Weapon answerWeapon, Suspect answerSuspect) {
-        double random = Math.random();
+        this(answerRoom, answerWeapon, answerSuspect, new GameRandom());
+    }
+
+    CameraResult(Room room, boolean roomIsRedHerring, Weapon weapon, boolean weaponIsRedHerring, Suspect suspect, boolean suspectIsRedHerring, int turnsForAnalysis) {
+        this.room = room;
+        this.roomIsRedHerring = roomIsRedHerring;
+        this.weapon = weapon;
+        this.weaponIsRedHerring = weaponIsRedHerring;
+        this.suspect = suspect;
+        this.suspectIsRedHerring = suspectIsRedHerring;
+        this.turnsForAnalysis = turnsForAnalysis;
+    }
+
+    CameraResult(Room answerRoom, Weapon answerWeapon, Suspect answerSuspect, GameRandom rng) {
+        turnsForAnalysis = rng.nextInt(3) + 8;
+        double random = rng.nextDouble();
         // 80% chance you get the room
         // <10% chance red herring for room
         if (random <= 0.9) {
@@ -23,12 +38,12 @@ public class CameraResult {
                 roomIsRedHerring = true;
                 // Select a random room that is not the answerRoom
                 do {
-                    room = Room.values()[(int)(Math.random() * 10)];
+                    room = Room.values()[rng.nextInt(Room.values().length)];
                 } while (room == answerRoom);
             } else room = answerRoom;
 
             // 35% chance you get the weapon
-            random = Math.random();
+            random = rng.nextDouble();
             if (random <= 0.35) {
                 weapon = answerWeapon;
             // <10% chance red herring for weapon
@@ -36,12 +51,12 @@ public class CameraResult {
                 weaponIsRedHerring = true;
                 // Select a random weapon that is not the answerWeapon
                 do {
-                    weapon = Weapon.values()[(int)(Math.random() * 7)];
+                    weapon = Weapon.values()[rng.nextInt(Weapon.values().length)];
                 } while (weapon == answerWeapon);
             }
 
             // 10% chance you get the suspect
-            random = Math.random();
+            random = rng.nextDouble();
             if (random <= 0.1) {
                 suspect = answerSuspect;
             // <10% chance red herring for suspect
@@ -49,7 +64,7 @@ public class CameraResult {
                 suspectIsRedHerring = true;
                 // Select a random suspect that is not the answerSuspect
                 do {
-                    suspect = Suspect.values()[(int)(Math.random() * 7)];
+                    suspect = Suspect.values()[rng.nextInt(Suspect.values().length)];
                 } while (suspect == answerSuspect);
             }
         }
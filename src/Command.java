@@ -1,39 +1,75 @@
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
 /**
  * The {@code Command} enum type contains all accepted user commands and their aliases.
  * The enum type also contains simple processing functions for game commands
+ * <p>
+ * The commands are declared in the order they are listed in menus, so an {@code EnumSet} of commands iterates in menu order.
  * 
  * @author Alexander Chang
- * @version 1.4, 1/2/2025
+ * @version 1.5, 10/17/2026
  * @since 1.0
  */
 public enum Command {
     ABOUT("about", "Learn more about Clue 2.0"),
     BEGIN("begin", "Start the game", "start"),
+    LOAD("load", "Continue a saved game"),
     YES("yes", "","y"),
     NO("no", "","n"),
     UP("up", "Move upwards", "w"),
     DOWN("down", "Move downwards", "s"),
     LEFT("left", "Move leftwards", "a"),
     RIGHT("right", "Move rightwards", "d"),
-    PASS("pass", "Pass through the secret pathway to the room at the opposite corner of the mansion."),
-    INVENTORY("inventory", "Open your inventory", "inv"),
-    LOG("log", "Open your detective's log"),
     SEARCH("search", "Search around the room you are currently in"),
     COLLECT_DNA("collectdna", "Collect DNA from the room you are currently in"),
     COLLECT_FINGERPRINTS("collectfingerprints", "Collect fingerprints from the room you are currently in", "fingerprint"),
     UV_SCAN("uvscan","Use a UV light to scan the room you are currently in for hidden clues"),
-    DISCARD_DNA("discarddna", "Discard the DNA sample you collected"),
-    DISCARD_FINGERPRINTS("discardfingerprints", "Discard the fingerprint sample you collected"),
+    PASS("pass", "Pass through the secret pathway to the room at the opposite corner of the mansion."),
+    GOTO("goto", "Head for a room by the shortest way, using up a turn for each step, such as goto kitchen"),
     SUBMIT_DNA("submitdna", "Submit DNA to Detective Joseph to send to the lab for analysis"),
     SUBMIT_FINGERPRINTS("submitfingerprints", "Submit fingerprints to Detective Joseph to send to the lab for analysis"),
     REQUEST_CAMERAS("requestcameras", "Request security camera footage from the night of the murder"),
-    ACCUSE("accuse","Report to Detective Joseph who you think committed the murder, with what, and where. One chance only.");
+    ACCUSE("accuse","Report to Detective Joseph who you think committed the murder, with what, and where. One chance only."),
+    INVENTORY("inventory", "Open your inventory", "inv"),
+    LOG("log", "Open your detective's log, or add a suspect, weapon, or room to see only the entries about it"),
+    NOTES("notes", "Review which suspects, weapons, and rooms the evidence so far has not ruled out"),
+    DISCARD_DNA("discarddna", "Discard the DNA sample you collected"),
+    DISCARD_FINGERPRINTS("discardfingerprints", "Discard the fingerprint sample you collected"),
+    SAVE("save", "Save the game to continue later, optionally under a name other than your own");
+
+    // The most times a command can be repeated with a count, which is more than enough to cross the mansion
+    static final int MAX_COUNT = 99;
+
+    // Every command name and alias, each at the same index as the command it names, so that entered text can be matched in place
+    private static final String[] names;
+    private static final Command[] named;
+    // Rendered menus, keyed by the set of offered commands, which is only copied when a new menu is cached
+    private static final Map<EnumSet<Command>, String> menuCache = new ConcurrentHashMap<>();
+
+    static {
+        ArrayList<String> allNames = new ArrayList<>();
+        ArrayList<Command> allNamed = new ArrayList<>();
+        for (Command command : values()) {
+            allNames.add(command.name);
+            allNamed.add(command);
+            for (String alias : command.aliases) {
+                allNames.add(alias);
+                allNamed.add(command);
+            }
+        }
+        names = allNames.toArray(new String[0]);
+        named = allNamed.toArray(new Command[0]);
+    }
 
     private final String name;
     private final String[] aliases;
     private final String description;
+    private String menuLine;
 
     Command(String name, String description) {
         this.name = name;
@@ -47,6 +83,128 @@ public enum Command {
         this.description = description;
     }
 
+    /**
+     * Finds the command with the given name or alias, ignoring case
+     *
+     * @param givenCommand the name or alias entered by the user
+     * @return the matching command, or {@code null} if no command has the given name or alias
+     */
+    static Command lookup(String givenCommand) {
+        return lookup(givenCommand, 0, givenCommand.length());
+    }
+
+    private static Command lookup(String line, int start, int end) {
+        for (int i = 0; i < names.length; i++) {
+            if (names[i].length() == end - start && line.regionMatches(true, start, names[i], 0, end - start)) return named[i];
+        }
+        return null;
+    }
+
+    /**
+     * Finds the command entered on a line, which may be followed by an argument after a space
+     *
+     * @param line the line entered by the user, in any case
+     * @return the entered command, or {@code null} if no command has the given name or alias or the command does not accept an argument
+     */
+    static Command parse(String line) {
+        int space = line.indexOf(' ');
+        int end = space < 0 ? line.length() : space;
+        int digits = countDigits(line);
+        Command command = lookup(line, digits, end);
+        if (command != null && hasArgument(line) && !command.acceptsArgument()) return null;
+        if (command != null && digits > 0 && (!command.acceptsCount() || countOf(line) == 0)) return null;
+        return command;
+    }
+
+    /**
+     * Returns the number of times a command entered on a line is to be repeated, as in {@code 5d}
+     *
+     * @param line the line entered by the user
+     * @return the number entered before the command, 1 if there is none, or 0 if it is not between 1 and {@value #MAX_COUNT}
+     */
+    static int countOf(String line) {
+        int digits = countDigits(line);
+        if (digits == 0) return 1;
+        // Longer numbers are out of range, and could overflow
+        if (digits > 3) return 0;
+        int count = 0;
+        for (int i = 0; i < digits; i++) count = count * 10 + line.charAt(i) - '0';
+        return count <= MAX_COUNT ? count : 0;
+    }
+
+    private static int countDigits(String line) {
+        int digits = 0;
+        while (digits < line.length() && line.charAt(digits) >= '0' && line.charAt(digits) <= '9') digits++;
+        return digits;
+    }
+
+    /**
+     * Returns anything entered after the command on a line
+     *
+     * @param line the line entered by the user
+     * @return the argument without surrounding whitespace, or {@code null} if nothing was entered after the command
+     */
+    static String argumentOf(String line) {
+        return hasArgument(line) ? line.substring(line.indexOf(' ') + 1).trim() : null;
+    }
+
+    private static boolean hasArgument(String line) {
+        int space = line.indexOf(' ');
+        if (space < 0) return false;
+        for (int i = space + 1; i < line.length(); i++) {
+            if (!Character.isWhitespace(line.charAt(i))) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Renders the menu listing the given commands, reusing the rendering for any set of commands that has been listed before
+     *
+     * @param commands the commands to list
+     * @return the menu, with one line per command
+     */
+    static String menuFor(EnumSet<Command> commands) {
+        String menu = menuCache.get(commands);
+        if (menu == null) {
+            StringBuilder builder = new StringBuilder();
+            for (Command command : commands) builder.append(command.getMenuLine()).append('\n');
+            menu = builder.toString();
+            menuCache.put(commands.clone(), menu);
+        }
+        return menu;
+    }
+
+    /**
+     * Returns the line listing the command in a menu, rendering it the first time it is needed
+     *
+     * @return the menu line, without a line break
+     */
+    String getMenuLine() {
+        if (menuLine == null) {
+            menuLine = Simulation.ANSI_BLUE_BACKGROUND + Simulation.ANSI_BLACK + " " + name + " " + Simulation.ANSI_RESET + " - " + description +
+                (aliases.length > 0 ? " (Alias" + (aliases.length > 1 ? "es" : "") + ": " + Arrays.stream(aliases).limit(aliases.length - 1).collect(Collectors.joining(", ")) + (aliases.length == 1 ? "" : (aliases.length == 2 ? "" : ",") + " and ") + aliases[aliases.length - 1] + ")" : "");
+        }
+        return menuLine;
+    }
+
+    /**
+     * Returns whether the command can be followed by an argument, such as the filter in {@code log <filter>}, the name in {@code save <name>}, or the room in {@code goto <room>}
+     *
+     * @return whether an argument is accepted
+     */
+    boolean acceptsArgument() {
+        return this == LOG || this == SAVE || this == GOTO;
+    }
+
+    /**
+     * Returns whether the command can be preceded by a number of times to repeat it, such as {@code 5d} for moving down five times
+     *
+     * @return whether a count is accepted
+     */
+    boolean acceptsCount() {
+        return this == UP || this == DOWN || this == LEFT || this == RIGHT;
+    }
+
     boolean matches(String givenCommand) {
         return givenCommand.equals(name) || containsAlias(givenCommand);
     }
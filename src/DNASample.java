@@ -2,13 +2,17 @@
  * The {@code DNASample} class encapsulates functionality for DNA samples collected by the user
  * 
  * @author Alexander Chang
- * @version 1.4, 1/2/2025
+ * @version 1.5, 10/17/2026
  * @since 1.1
  */
 public class DNASample extends EvidenceSample {
 
-    DNASample(Room room, Suspect suspect) {
-        super(room, suspect);
+    DNASample(Room room, Suspect suspect, GameRandom random) {
+        super(room, suspect, random);
+    }
+
+    DNASample(Room room, Suspect suspect, int turnsForAnalysis) {
+        super(room, suspect, turnsForAnalysis);
     }
 
     @Override
@@ -0,0 +1,230 @@
+import java.util.EnumSet;
+
+/**
+ * The {@code Deductions} class keeps track of which solutions to the murder the evidence so far still allows.
+ * There are only 324 possible solutions, one for each suspect, weapon, and murder room, so the live ones are kept as bits
+ * in six words, indexed by {@code suspect * 54 + weapon * 9 + room}. Each piece of evidence clears the bits it rules out
+ * with a precomputed mask, and the number of solutions left is kept up to date with a popcount, so the set can be updated
+ * on every turn of every game.
+ *
+ * @author Alexander Chang
+ * @version 1.5, 10/17/2026
+ * @since 1.5
+ */
+public class Deductions {
+    // The murder can take place in any room but the staircase, which comes last
+    static final int MURDER_ROOMS = 9;
+    static final int SOLUTIONS = Suspect.values().length * Weapon.values().length * MURDER_ROOMS;
+    private static final int WORDS = (SOLUTIONS + Long.SIZE - 1) / Long.SIZE;
+    private static final int SUSPECT_STRIDE = Weapon.values().length * MURDER_ROOMS;
+    private static final int WEAPON_STRIDE = MURDER_ROOMS;
+
+    // The solutions involving each suspect, weapon, and murder room
+    private static final long[][] suspectMasks = new long[Suspect.values().length][WORDS];
+    private static final long[][] weaponMasks = new long[Weapon.values().length][WORDS];
+    private static final long[][] roomMasks = new long[MURDER_ROOMS][WORDS];
+
+    static {
+        for (int solution = 0; solution < SOLUTIONS; solution++) {
+            long bit = 1L << solution;
+            suspectMasks[solution / SUSPECT_STRIDE][solution / Long.SIZE] |= bit;
+            weaponMasks[solution / WEAPON_STRIDE % Weapon.values().length][solution / Long.SIZE] |= bit;
+            roomMasks[solution % MURDER_ROOMS][solution / Long.SIZE] |= bit;
+        }
+    }
+
+    private final long[] candidates = new long[WORDS];
+    private int remaining;
+
+    /**
+     * Creates the deductions of a new game, in which every solution is still possible
+     */
+    Deductions() {
+        for (int solution = 0; solution < SOLUTIONS; solution++) candidates[solution / Long.SIZE] |= 1L << solution;
+        remaining = SOLUTIONS;
+    }
+
+    static int indexOf(Suspect suspect, Weapon weapon, Room room) {
+        return suspect.ordinal() * SUSPECT_STRIDE + weapon.ordinal() * WEAPON_STRIDE + room.ordinal();
+    }
+
+    static Suspect suspectAt(int solution) {
+        return Suspect.values()[solution / SUSPECT_STRIDE];
+    }
+
+    static Weapon weaponAt(int solution) {
+        return Weapon.values()[solution / WEAPON_STRIDE % Weapon.values().length];
+    }
+
+    static Room roomAt(int solution) {
+        return Room.values()[solution % MURDER_ROOMS];
+    }
+
+    /**
+     * Updates the deductions with what the given event reveals, ignoring events that reveal nothing certain
+     *
+     * @param event an event produced by the game
+     */
+    void observe(GameEvent event) {
+        switch (event.getType()) {
+            // Only the murder room holds DNA, so a room without any, or with DNA that cannot be identified, is ruled out
+            case DNA_NOT_FOUND -> ruleOut(event.getRoom());
+            case DNA_RESULT -> {
+                EvidenceSample sample = event.getSample();
+                if (sample.hasResult()) {
+                    confirm(sample.getSuspect());
+                    confirm(sample.getRoom());
+                } else ruleOut(sample.getRoom());
+            }
+            // The only weapon to be found is the murder weapon, and it carries the murderer's fingerprints
+            case FINGERPRINTS_COLLECTED -> confirm(((FingerprintSample) event.getSample()).getWeapon());
+            case FINGERPRINT_RESULT -> {
+                FingerprintSample sample = (FingerprintSample) event.getSample();
+                confirm(sample.getWeapon());
+                confirm(sample.getSuspect());
+            }
+            // Bloodspots only appear in the murder room
+            case UV_CLUE_FOUND -> confirm(event.getRoom());
+            // Footage shows the truth, except for red herrings, which are never the truth
+            case CAMERA_RESULT -> {
+                CameraResult footage = event.getFootage();
+                if (footage.getRoom() != null) {
+                    if (footage.isRoomRedHerring()) ruleOut(footage.getRoom());
+                    else confirm(footage.getRoom());
+                }
+                if (footage.getWeapon() != null) {
+                    if (footage.isWeaponRedHerring()) ruleOut(footage.getWeapon());
+                    else confirm(footage.getWeapon());
+                }
+                if (footage.getSuspect() != null) {
+                    if (footage.isSuspectRedHerring()) ruleOut(footage.getSuspect());
+                    else confirm(footage.getSuspect());
+                }
+            }
+            default -> {}
+        }
+    }
+
+    void confirm(Suspect suspect) {
+        retain(suspectMasks[suspect.ordinal()]);
+    }
+
+    void confirm(Weapon weapon) {
+        retain(weaponMasks[weapon.ordinal()]);
+    }
+
+    void confirm(Room room) {
+        if (room.ordinal() < MURDER_ROOMS) retain(roomMasks[room.ordinal()]);
+        else retain(new long[WORDS]);
+    }
+
+    void ruleOut(Suspect suspect) {
+        remove(suspectMasks[suspect.ordinal()]);
+    }
+
+    void ruleOut(Weapon weapon) {
+        remove(weaponMasks[weapon.ordinal()]);
+    }
+
+    void ruleOut(Room room) {
+        if (room.ordinal() < MURDER_ROOMS) remove(roomMasks[room.ordinal()]);
+    }
+
+    private void retain(long[] mask) {
+        int count = 0;
+        for (int i = 0; i < WORDS; i++) count += Long.bitCount(candidates[i] &= mask[i]);
+        remaining = count;
+    }
+
+    private void remove(long[] mask) {
+        int count = 0;
+        for (int i = 0; i < WORDS; i++) count += Long.bitCount(candidates[i] &= ~mask[i]);
+        remaining = count;
+    }
+
+    /**
+     * Returns the number of solutions the evidence still allows
+     *
+     * @return the number of solutions left, which is 1 once the murder is solved
+     */
+    int remaining() {
+        return remaining;
+    }
+
+    boolean isPossible(Suspect suspect, Weapon weapon, Room room) {
+        if (room.ordinal() >= MURDER_ROOMS) return false;
+        int solution = indexOf(suspect, weapon, room);
+        return (candidates[solution / Long.SIZE] & 1L << solution) != 0;
+    }
+
+    boolean isPossible(Suspect suspect) {
+        return intersects(suspectMasks[suspect.ordinal()]);
+    }
+
+    boolean isPossible(Weapon weapon) {
+        return intersects(weaponMasks[weapon.ordinal()]);
+    }
+
+    boolean isPossible(Room room) {
+        return room.ordinal() < MURDER_ROOMS && intersects(roomMasks[room.ordinal()]);
+    }
+
+    private boolean intersects(long[] mask) {
+        for (int i = 0; i < WORDS; i++) if ((candidates[i] & mask[i]) != 0) return true;
+        return false;
+    }
+
+    EnumSet<Suspect> possibleSuspects() {
+        EnumSet<Suspect> suspects = EnumSet.noneOf(Suspect.class);
+        for (Suspect suspect : Suspect.values()) if (isPossible(suspect)) suspects.add(suspect);
+        return suspects;
+    }
+
+    EnumSet<Weapon> possibleWeapons() {
+        EnumSet<Weapon> weapons = EnumSet.noneOf(Weapon.class);
+        for (Weapon weapon : Weapon.values()) if (isPossible(weapon)) weapons.add(weapon);
+        return weapons;
+    }
+
+    EnumSet<Room> possibleRooms() {
+        EnumSet<Room> rooms = EnumSet.noneOf(Room.class);
+        for (int room = 0; room < MURDER_ROOMS; room++) if (intersects(roomMasks[room])) rooms.add(Room.values()[room]);
+        return rooms;
+    }
+
+    /**
+     * Finds the next solution the evidence still allows
+     *
+     * @param from the index of the solution to start looking from
+     * @return the index of the next possible solution at or after {@code from}, or -1 if there is none
+     */
+    int nextPossible(int from) {
+        for (int i = from / Long.SIZE; i < WORDS && from < SOLUTIONS; i++) {
+            long word = i == from / Long.SIZE ? candidates[i] & -1L << from : candidates[i];
+            if (word != 0) return i * Long.SIZE + Long.numberOfTrailingZeros(word);
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the words of the set of possible solutions, such as for saving them
+     *
+     * @return a copy of the words
+     */
+    long[] toLongArray() {
+        return candidates.clone();
+    }
+
+    /**
+     * Replaces the set of possible solutions, such as when restoring a saved game
+     *
+     * @param words the words returned by {@link #toLongArray()}
+     * @throws IllegalArgumentException if the words do not form a set of solutions
+     */
+    void setLongArray(long[] words) throws IllegalArgumentException {
+        if (words.length != WORDS || (words[WORDS - 1] & -1L << SOLUTIONS % Long.SIZE) != 0) throw new IllegalArgumentException("Invalid set of solutions");
+        int count = 0;
+        for (int i = 0; i < WORDS; i++) count += Long.bitCount(candidates[i] = words[i]);
+        remaining = count;
+    }
+}
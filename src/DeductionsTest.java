@@ -0,0 +1,56 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import org.junit.Test;
+
+/**
+ * The {@code DeductionsTest} class provides tests for tracking the solutions the evidence still allows
+ *
+ * @author Alexander Chang
+ * @version 1.5, 10/17/2026
+ * @since 1.5
+ */
+public class DeductionsTest {
+
+    @Test
+    public void evidenceNarrowsSolutions() {
+        Deductions deductions = new Deductions();
+        assertEquals(324, deductions.remaining());
+        deductions.ruleOut(Room.KITCHEN);
+        deductions.ruleOut(Room.STAIRCASE);
+        assertEquals(288, deductions.remaining());
+        assertFalse(deductions.isPossible(Room.KITCHEN));
+        deductions.confirm(Weapon.values()[2]);
+        assertEquals(48, deductions.remaining());
+        assertEquals(EnumSet.of(Weapon.values()[2]), deductions.possibleWeapons());
+        deductions.confirm(Suspect.PLUM);
+        deductions.confirm(Room.LIBRARY);
+        assertEquals(1, deductions.remaining());
+        int solution = deductions.nextPossible(0);
+        assertEquals(Deductions.indexOf(Suspect.PLUM, Weapon.values()[2], Room.LIBRARY), solution);
+        assertEquals(Suspect.PLUM, Deductions.suspectAt(solution));
+        assertEquals(Weapon.values()[2], Deductions.weaponAt(solution));
+        assertEquals(Room.LIBRARY, Deductions.roomAt(solution));
+        assertEquals(-1, deductions.nextPossible(solution + 1));
+    }
+
+    @Test
+    public void answerIsNeverRuledOut() {
+        int narrowed = 0;
+        for (long seed = 0; seed < 500; seed++) {
+            GameEngine engine = new GameEngine("Tester", "scarlet", seed);
+            GameRandom choices = new GameRandom(seed);
+            while (engine.isGameActive()) {
+                ArrayList<Command> options = new ArrayList<>(engine.availableCommands());
+                options.remove(Command.ACCUSE);
+                engine.apply(options.get(choices.nextInt(options.size())));
+                Deductions deductions = engine.getDeductions();
+                assertTrue(deductions.isPossible(engine.getAnswerSuspect(), engine.getAnswerWeapon(), engine.getAnswerRoom()));
+            }
+            if (engine.getDeductions().remaining() < Deductions.SOLUTIONS) narrowed++;
+        }
+        assertTrue(narrowed > 0);
+    }
+}
@@ -0,0 +1,133 @@
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.EnumMap;
+
+/**
+ * The {@code DetectivesLog} class is the append-only record of every lab result and piece of camera footage delivered to the user.
+ * Entries are kept in order of delivery and only rendered a page at a time when the log is opened.
+ * Each entry is also indexed by the suspect, weapon, and room it involves, so the entries about any of them are found without scanning the log.
+ *
+ * @author Alexander Chang
+ * @version 1.5, 10/17/2026
+ * @since 1.5
+ */
+public class DetectivesLog {
+    private final ArrayList<LogEntry> entries = new ArrayList<>();
+    // The positions of the entries involving each suspect, weapon, and room
+    private final EnumMap<Suspect, BitSet> suspectIndex = new EnumMap<>(Suspect.class);
+    private final EnumMap<Weapon, BitSet> weaponIndex = new EnumMap<>(Weapon.class);
+    private final EnumMap<Room, BitSet> roomIndex = new EnumMap<>(Room.class);
+
+    void add(LogEntry entry) {
+        int id = entries.size();
+        entries.add(entry);
+        if (entry.getSuspect() != null) suspectIndex.computeIfAbsent(entry.getSuspect(), (a) -> new BitSet()).set(id);
+        if (entry.getWeapon() != null) weaponIndex.computeIfAbsent(entry.getWeapon(), (a) -> new BitSet()).set(id);
+        if (entry.getRoom() != null) roomIndex.computeIfAbsent(entry.getRoom(), (a) -> new BitSet()).set(id);
+    }
+
+    /**
+     * Returns the positions of every entry in the log
+     *
+     * @return a new set of entry positions
+     */
+    BitSet all() {
+        BitSet selection = new BitSet();
+        selection.set(0, entries.size());
+        return selection;
+    }
+
+    BitSet about(Suspect suspect) {
+        return copy(suspectIndex.get(suspect));
+    }
+
+    BitSet about(Weapon weapon) {
+        return copy(weaponIndex.get(weapon));
+    }
+
+    BitSet about(Room room) {
+        return copy(roomIndex.get(room));
+    }
+
+    /**
+     * Returns the positions of the entries involving every suspect, weapon, and room whose name contains the given filter
+     *
+     * @param filter the filter entered by the user, such as "peacock" or "library"
+     * @return a new set of entry positions, or {@code null} if no suspect, weapon, or room matches the filter
+     */
+    BitSet select(String filter) {
+        String name = filter.toLowerCase();
+        BitSet selection = null;
+        for (Suspect suspect : Suspect.values()) {
+            if (suspect.getName().toLowerCase().contains(name)) selection = union(selection, suspectIndex.get(suspect));
+        }
+        for (Weapon weapon : Weapon.values()) {
+            if (weapon.getName().toLowerCase().contains(name)) selection = union(selection, weaponIndex.get(weapon));
+        }
+        for (Room room : Room.values()) {
+            if (room.getName().toLowerCase().contains(name)) selection = union(selection, roomIndex.get(room));
+        }
+        return selection;
+    }
+
+    LogEntry get(int index) {
+        return entries.get(index);
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    /**
+     * Returns the number of pages needed to show the selected entries
+     *
+     * @param selection the positions of the entries to show
+     * @param pageSize the number of entries on each page
+     * @return the number of pages, which is at least 1
+     */
+    int pageCount(BitSet selection, int pageSize) {
+        return Math.max(1, (selection.cardinality() + pageSize - 1) / pageSize);
+    }
+
+    /**
+     * Renders a single page of the selected entries, one per line
+     *
+     * @param selection the positions of the entries to show
+     * @param page the page to render, starting at 0
+     * @param pageSize the number of entries on each page
+     * @return the rendered entries, each followed by a line break
+     */
+    String renderPage(BitSet selection, int page, int pageSize) {
+        StringBuilder text = new StringBuilder();
+        int id = selection.nextSetBit(0);
+        for (int i = 0; i < page * pageSize && id >= 0; i++) id = selection.nextSetBit(id + 1);
+        for (int i = 0; i < pageSize && id >= 0; i++) {
+            text.append(entries.get(id).render()).append('\n');
+            id = selection.nextSetBit(id + 1);
+        }
+        return text.toString();
+    }
+
+    /**
+     * Renders every entry, one per line
+     *
+     * @return the rendered entries, each followed by a line break
+     */
+    String render() {
+        return renderPage(all(), 0, Math.max(1, entries.size()));
+    }
+
+    private static BitSet copy(BitSet entries) {
+        return entries == null ? new BitSet() : (BitSet) entries.clone();
+    }
+
+    private static BitSet union(BitSet selection, BitSet entries) {
+        if (selection == null) selection = new BitSet();
+        if (entries != null) selection.or(entries);
+        return selection;
+    }
+}
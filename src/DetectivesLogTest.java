@@ -0,0 +1,49 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import java.util.BitSet;
+import org.junit.Test;
+
+/**
+ * The {@code DetectivesLogTest} class provides tests for the indexed, paged detective's log
+ *
+ * @author Alexander Chang
+ * @version 1.5, 10/17/2026
+ * @since 1.5
+ */
+public class DetectivesLogTest {
+
+    private static DetectivesLog log() {
+        GameRandom random = new GameRandom(1);
+        DetectivesLog log = new DetectivesLog();
+        log.add(new LogEntry(12, new DNASample(Room.LIBRARY, Suspect.PEACOCK, random)));
+        log.add(new LogEntry(20, new FingerprintSample(Room.KITCHEN, Weapon.ROPE, Suspect.PLUM, random)));
+        log.add(new LogEntry(31, new DNASample(Room.LIBRARY, null, random)));
+        return log;
+    }
+
+    @Test
+    public void entriesAreIndexed() {
+        DetectivesLog log = log();
+        assertEquals(BitSet.valueOf(new long[] {0b101}), log.about(Room.LIBRARY));
+        assertEquals(BitSet.valueOf(new long[] {0b001}), log.about(Suspect.PEACOCK));
+        assertEquals(BitSet.valueOf(new long[] {0b010}), log.about(Weapon.ROPE));
+        assertEquals(new BitSet(), log.about(Weapon.DAGGER));
+    }
+
+    @Test
+    public void filterMatchesNames() {
+        DetectivesLog log = log();
+        assertEquals(log.about(Room.LIBRARY), log.select("library"));
+        assertEquals(BitSet.valueOf(new long[] {0b011}), log.select("p"));
+        assertNull(log.select("butler"));
+    }
+
+    @Test
+    public void pagesRenderSelectedEntries() {
+        DetectivesLog log = log();
+        BitSet library = log.select("library");
+        assertEquals(2, log.pageCount(library, 1));
+        assertEquals("Turn 31 - DNA sample from library was inconclusive.\n", log.renderPage(library, 1, 1));
+        assertEquals("Turn 12 - DNA sample from library was identified as that of Mrs. Peacock.\n", log.renderPage(library, 0, 1));
+    }
+}
@@ -0,0 +1,88 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * The {@code EventScheduler} class holds events that are delivered on a later turn, such as lab results and camera footage.
+ * Events are kept in a priority queue keyed by the actionable turn they are due on, so any number can be in flight at once
+ * and each turn only looks at the events that are due.
+ *
+ * @author Alexander Chang
+ * @version 1.5, 10/17/2026
+ * @since 1.5
+ */
+public class EventScheduler {
+    private final PriorityQueue<ScheduledEvent> pending = new PriorityQueue<>();
+    private long scheduled;
+
+    /**
+     * An event waiting for its turn, ordered by due turn and then by the order in which it was scheduled
+     */
+    static final class ScheduledEvent implements Comparable<ScheduledEvent> {
+        private final GameEvent event;
+        private final int dueTurn;
+        private final long sequence;
+
+        private ScheduledEvent(GameEvent event, int dueTurn, long sequence) {
+            this.event = event;
+            this.dueTurn = dueTurn;
+            this.sequence = sequence;
+        }
+
+        GameEvent getEvent() {
+            return event;
+        }
+
+        int getDueTurn() {
+            return dueTurn;
+        }
+
+        @Override
+        public int compareTo(ScheduledEvent other) {
+            if (dueTurn != other.dueTurn) return Integer.compare(dueTurn, other.dueTurn);
+            return Long.compare(sequence, other.sequence);
+        }
+    }
+
+    /**
+     * Schedules an event to be delivered once the given actionable turn has been reached
+     *
+     * @param event the event to deliver
+     * @param dueTurn the actionable turn on which the event is due
+     */
+    void schedule(GameEvent event, int dueTurn) {
+        pending.add(new ScheduledEvent(event, dueTurn, scheduled++));
+    }
+
+    /**
+     * Removes and returns every event that is due by the given actionable turn
+     *
+     * @param turn the current actionable turn
+     * @return the due events, in order of due turn and then of scheduling
+     */
+    List<GameEvent> deliverDue(int turn) {
+        if (pending.isEmpty() || pending.peek().dueTurn > turn) return List.of();
+        ArrayList<GameEvent> due = new ArrayList<>();
+        while (!pending.isEmpty() && pending.peek().dueTurn <= turn) due.add(pending.poll().event);
+        return due;
+    }
+
+    /**
+     * Returns every event still waiting for its turn, without removing any
+     *
+     * @return the waiting events, in the order they will be delivered
+     */
+    List<ScheduledEvent> pending() {
+        ArrayList<ScheduledEvent> waiting = new ArrayList<>(pending);
+        waiting.sort(null);
+        return waiting;
+    }
+
+    int size() {
+        return pending.size();
+    }
+
+    boolean isEmpty() {
+        return pending.isEmpty();
+    }
+}
@@ -0,0 +1,30 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import java.util.List;
+import org.junit.Test;
+
+/**
+ * The {@code EventSchedulerTest} class provides tests for delivering lab results on the turn they are due
+ *
+ * @author Alexander Chang
+ * @version 1.5, 10/17/2026
+ * @since 1.5
+ */
+public class EventSchedulerTest {
+
+    @Test
+    public void eventsArriveInDueOrder() {
+        EventScheduler scheduler = new EventScheduler();
+        GameEvent late = new GameEvent(GameEvent.Type.CAMERA_RESULT, 0);
+        GameEvent first = new GameEvent(GameEvent.Type.DNA_RESULT, 0);
+        GameEvent second = new GameEvent(GameEvent.Type.FINGERPRINT_RESULT, 0);
+        scheduler.schedule(late, 12);
+        scheduler.schedule(first, 8);
+        scheduler.schedule(second, 8);
+        assertTrue(scheduler.deliverDue(7).isEmpty());
+        assertEquals(List.of(first, second), scheduler.deliverDue(9));
+        assertEquals(1, scheduler.size());
+        assertEquals(List.of(late), scheduler.deliverDue(12));
+        assertTrue(scheduler.isEmpty());
+    }
+}
@@ -0,0 +1,52 @@
+/**
+ * The {@code EvidenceBot} class is a bot that plays like {@code GreedySearchBot}, but weighs the evidence with a {@code Posterior}.
+ * It spends its donuts on camera footage as well as on the lab, heads first for the rooms most likely to be the murder room,
+ * and accuses the most likely solution as soon as it is likely enough. The posterior rules out exactly the solutions the deductions do,
+ * so the bot weighs the evidence with the posterior alone.
+ *
+ * @author Alexander Chang
+ * @version 1.5, 10/17/2026
+ * @since 1.5
+ */
+public class EvidenceBot extends GreedySearchBot {
+    // The chance of being right at which the bot stops looking for more evidence
+    private static final double CONFIDENCE = 0.95;
+    // The number of moves a room that is certain to be the murder room is worth over one that cannot be
+    private static final double MURDER_ROOM_BONUS = 12;
+
+    private final Posterior posterior = new Posterior();
+
+    EvidenceBot(GameRandom random) {
+        super(random);
+    }
+
+    @Override
+    void observe(GameEvent event) {
+        posterior.observe(event);
+    }
+
+    @Override
+    double cost(GameEngine engine, Room room, int distance) {
+        return distance - MURDER_ROOM_BONUS * posterior.probability(room);
+    }
+
+    @Override
+    int donutsWanted(GameEngine engine) {
+        return wantsCameras(engine) ? Math.max(engine.getDonutsForCameraRequest(), super.donutsWanted(engine)) : super.donutsWanted(engine);
+    }
+
+    @Override
+    boolean wantsCameras(GameEngine engine) {
+        return !isReadyToAccuse(engine);
+    }
+
+    @Override
+    boolean isReadyToAccuse(GameEngine engine) {
+        return super.isReadyToAccuse(engine) || posterior.probabilityOf(guess(engine)) >= CONFIDENCE;
+    }
+
+    @Override
+    int guess(GameEngine engine) {
+        return posterior.mostLikely();
+    }
+}
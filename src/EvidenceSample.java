@@ -2,19 +2,27 @@
  * The {@code EvidenceSample} class encapsulates basic functionality for DNA and fingerprint samples collected by the user
  * 
  * @author Alexander Chang
- * @version 1.4, 1/2/2025
+ * @version 1.5, 10/17/2026
  * @since 1.4
  */
 public class EvidenceSample {
     protected Room room;
     protected Suspect suspect;
     protected boolean hasResult;
-    protected final int turnsForAnalysis = (int)(Math.random() * 6) + 5;
+    protected final int turnsForAnalysis;
 
-    EvidenceSample(Room room, Suspect suspect) {
+    EvidenceSample(Room room, Suspect suspect, GameRandom random) {
         this.room = room;
         this.suspect = suspect;
         hasResult = suspect != null;
+        turnsForAnalysis = random.nextInt(6) + 5;
+    }
+
+    EvidenceSample(Room room, Suspect suspect, int turnsForAnalysis) {
+        this.room = room;
+        this.suspect = suspect;
+        hasResult = suspect != null;
+        this.turnsForAnalysis = turnsForAnalysis;
     }
 
     Room getRoom() {
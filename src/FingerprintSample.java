@@ -2,14 +2,19 @@
  * The {@code FingerprintSample} class encapsulates functionality for fingerprint samples collected by the user
  * 
  * @author Alexander Chang
- * @version 1.4, 1/2/2025
+ * @version 1.5, 10/17/2026
  * @since 1.1
  */
 public class FingerprintSample extends EvidenceSample {
     private Weapon weapon;
 
-    FingerprintSample(Room room, Weapon weapon, Suspect suspect) {
-        super(room, suspect);
+    FingerprintSample(Room room, Weapon weapon, Suspect suspect, GameRandom random) {
+        super(room, suspect, random);
+        this.weapon = weapon;
+    }
+
+    FingerprintSample(Room room, Weapon weapon, Suspect suspect, int turnsForAnalysis) {
+        super(room, suspect, turnsForAnalysis);
         this.weapon = weapon;
     }
 
@@ -0,0 +1,213 @@
+import java.util.ArrayList;
+
+/**
+ * The {@code FrameRenderer} class draws frames made of a grid of styled cells followed by lines of text.
+ * It remembers the frame on screen, so while nothing else has been printed over it, only the cells and lines that changed are redrawn,
+ * each reached with a cursor-positioning escape sequence instead of clearing the console and drawing the whole frame again.
+ * Lines wider than the terminal are wrapped onto rows of their own, so that every line kept takes up exactly one row of the terminal,
+ * and a frame taller than the terminal, which scrolls it, is always drawn in full.
+ *
+ * @author Alexander Chang
+ * @version 1.5, 10/17/2026
+ * @since 1.5
+ */
+public class FrameRenderer {
+    private static final String CLEAR_SCREEN = "\033[H\033[2J";
+    private static final String CLEAR_LINE = "\033[K";
+    private static final String CLEAR_BELOW = "\033[J";
+    // The width of the smallest terminal the game supports
+    static final int TERMINAL_WIDTH = 80;
+
+    private final int rows;
+    private final int columns;
+    private final int width;
+    private final int height;
+    private final String[] styles;
+    private final char[] glyphs;
+    private final String[] shownStyles;
+    private final char[] shownGlyphs;
+    private final ArrayList<String> lines = new ArrayList<>();
+    private final ArrayList<String> shownLines = new ArrayList<>();
+    // Whether the screen still shows the last rendered frame
+    private boolean shown;
+
+    /**
+     * Creates a renderer for frames with a grid of the given size, on a terminal of the smallest size the game supports
+     *
+     * @param rows the number of rows in the grid
+     * @param columns the number of columns in the grid
+     */
+    FrameRenderer(int rows, int columns) {
+        this(rows, columns, TERMINAL_WIDTH, GameFlow.TERMINAL_HEIGHT);
+    }
+
+    /**
+     * Creates a renderer for frames with a grid of the given size, on a terminal of the given size
+     *
+     * @param rows the number of rows in the grid
+     * @param columns the number of columns in the grid
+     * @param width the number of columns of the terminal, which lines below the grid are wrapped to
+     * @param height the number of rows of the terminal, beyond which frames are drawn in full
+     */
+    FrameRenderer(int rows, int columns, int width, int height) {
+        this.rows = rows;
+        this.columns = columns;
+        this.width = width;
+        this.height = height;
+        styles = new String[rows * columns];
+        glyphs = new char[rows * columns];
+        shownStyles = new String[rows * columns];
+        shownGlyphs = new char[rows * columns];
+    }
+
+    /**
+     * Sets a cell of the next frame
+     *
+     * @param row the row of the cell, starting at 0
+     * @param column the column of the cell, starting at 0
+     * @param style the ANSI escape codes to draw the cell with, or an empty string for none
+     * @param glyph the character in the cell
+     */
+    void setCell(int row, int column, String style, char glyph) {
+        styles[row * columns + column] = style;
+        glyphs[row * columns + column] = glyph;
+    }
+
+    /**
+     * Sets every cell of the next frame from precomputed arrays
+     *
+     * @param styles the ANSI escape codes to draw each cell with, row by row
+     * @param glyphs the character in each cell, row by row
+     */
+    void setCells(String[] styles, char[] glyphs) {
+        System.arraycopy(styles, 0, this.styles, 0, this.styles.length);
+        System.arraycopy(glyphs, 0, this.glyphs, 0, this.glyphs.length);
+    }
+
+    /**
+     * Removes the lines below the grid of the next frame
+     */
+    void clearLines() {
+        lines.clear();
+    }
+
+    /**
+     * Adds a line below the grid of the next frame, wrapping it at spaces onto as many rows as it needs
+     *
+     * @param line the line, without a line break, which may contain escape sequences that take up no columns
+     */
+    void addLine(String line) {
+        int start = 0;
+        while (true) {
+            // Find where the line would run past the terminal, and the last space before it
+            int visible = 0;
+            int index = start;
+            int space = -1;
+            while (index < line.length() && visible < width) {
+                if (line.charAt(index) == '\033') {
+                    index = endOfEscape(line, index);
+                    continue;
+                }
+                if (line.charAt(index) == ' ' && index > start) space = index;
+                visible++;
+                index++;
+            }
+            // Skip any escape sequences that follow the last visible character, such as a reset
+            while (index < line.length() && line.charAt(index) == '\033') index = endOfEscape(line, index);
+            if (index >= line.length()) break;
+            if (line.charAt(index) == ' ') space = index;
+            // A word wider than the terminal is broken where the terminal would break it
+            int end = space > start ? space : index;
+            lines.add(line.substring(start, end));
+            start = end < line.length() && line.charAt(end) == ' ' ? end + 1 : end;
+        }
+        lines.add(line.substring(start));
+    }
+
+    /**
+     * Returns the index just after the escape sequence starting at the given index
+     */
+    private static int endOfEscape(String line, int index) {
+        index++;
+        if (index < line.length() && line.charAt(index) == '[') {
+            index++;
+            // Parameters and intermediates run until the final byte, a letter or other character from '@' to '~'
+            while (index < line.length() && (line.charAt(index) < '@' || line.charAt(index) > '~')) index++;
+        }
+        return Math.min(index + 1, line.length());
+    }
+
+    /**
+     * Returns the number of terminal rows the next frame takes up, including the row below it where the user types
+     *
+     * @return the number of rows
+     */
+    int getHeight() {
+        return rows + lines.size() + 1;
+    }
+
+    /**
+     * Marks the screen as printed over, so that the next frame is drawn in full
+     */
+    void invalidate() {
+        shown = false;
+    }
+
+    /**
+     * Writes the escape sequences and text that draw the next frame, leaving the cursor at the start of a cleared line below it
+     *
+     * @param out the buffer to write to
+     */
+    void render(StringBuilder out) {
+        // A frame taller than the terminal scrolls it, which would throw every cursor position off
+        if (shown && getHeight() <= height) renderChanges(out);
+        else renderFull(out);
+        System.arraycopy(styles, 0, shownStyles, 0, styles.length);
+        System.arraycopy(glyphs, 0, shownGlyphs, 0, glyphs.length);
+        shownLines.clear();
+        shownLines.addAll(lines);
+        shown = true;
+    }
+
+    private void renderFull(StringBuilder out) {
+        out.append(CLEAR_SCREEN);
+        for (int row = 0; row < rows; row++) {
+            // Only switch styles between cells that are drawn differently
+            String currentStyle = "";
+            for (int column = 0; column < columns; column++) {
+                String style = styles[row * columns + column];
+                if (!style.equals(currentStyle)) {
+                    if (!currentStyle.isEmpty()) out.append(Simulation.ANSI_RESET);
+                    out.append(style);
+                    currentStyle = style;
+                }
+                out.append(glyphs[row * columns + column]);
+            }
+            if (!currentStyle.isEmpty()) out.append(Simulation.ANSI_RESET);
+            out.append('\n');
+        }
+        for (String line : lines) out.append(line).append('\n');
+    }
+
+    private void renderChanges(StringBuilder out) {
+        for (int i = 0; i < glyphs.length; i++) {
+            if (glyphs[i] == shownGlyphs[i] && styles[i].equals(shownStyles[i])) continue;
+            moveCursor(out, i / columns + 1, i % columns + 1);
+            out.append(styles[i]).append(glyphs[i]);
+            if (!styles[i].isEmpty()) out.append(Simulation.ANSI_RESET);
+        }
+        for (int i = 0; i < lines.size(); i++) {
+            if (i < shownLines.size() && lines.get(i).equals(shownLines.get(i))) continue;
+            moveCursor(out, rows + i + 1, 1);
+            out.append(lines.get(i)).append(CLEAR_LINE);
+        }
+
+        // Clear the input echoed below the last frame, along with any lines it had beyond this one
+        moveCursor(out, rows + lines.size() + 1, 1);
+        out.append(CLEAR_BELOW);
+    }
+
+    private static void moveCursor(StringBuilder out, int row, int column) {
+        out.append("\033[").append(row).append(';').append(column).append('H');
+    }
+}
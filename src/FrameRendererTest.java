@@ -0,0 +1,121 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import java.util.EnumSet;
+import org.junit.Test;
+
+/**
+ * The {@code FrameRendererTest} class provides tests for full and incremental frame rendering
+ *
+ * @author Alexander Chang
+ * @version 1.5, 10/17/2026
+ * @since 1.5
+ */
+public class FrameRendererTest {
+
+    private static FrameRenderer renderer() {
+        FrameRenderer renderer = new FrameRenderer(2, 3);
+        for (int row = 0; row < 2; row++) {
+            for (int column = 0; column < 3; column++) renderer.setCell(row, column, "", '.');
+        }
+        renderer.addLine("menu");
+        return renderer;
+    }
+
+    @Test
+    public void firstFrameIsDrawnInFull() {
+        StringBuilder out = new StringBuilder();
+        renderer().render(out);
+        assertEquals("\033[H\033[2J...\n...\nmenu\n", out.toString());
+    }
+
+    @Test
+    public void unchangedFrameOnlyClearsInput() {
+        FrameRenderer renderer = renderer();
+        renderer.render(new StringBuilder());
+        StringBuilder out = new StringBuilder();
+        renderer.render(out);
+        assertEquals("\033[4;1H\033[J", out.toString());
+    }
+
+    @Test
+    public void changedCellIsRedrawnAlone() {
+        FrameRenderer renderer = renderer();
+        renderer.render(new StringBuilder());
+        renderer.setCell(1, 2, Simulation.ANSI_GRAY_BACKGROUND, 'S');
+        StringBuilder out = new StringBuilder();
+        renderer.render(out);
+        assertEquals("\033[2;3H" + Simulation.ANSI_GRAY_BACKGROUND + "S" + Simulation.ANSI_RESET + "\033[4;1H\033[J", out.toString());
+    }
+
+    @Test
+    public void wideLinesTakeRowsOfTheirOwn() {
+        FrameRenderer renderer = new FrameRenderer(1, 3, 10, 20);
+        for (int column = 0; column < 3; column++) renderer.setCell(0, column, "", '.');
+        renderer.addLine(" goto  - Head for a room");
+        renderer.addLine("next");
+        StringBuilder out = new StringBuilder();
+        renderer.render(out);
+        assertEquals("\033[H\033[2J...\n goto  -\nHead for a\nroom\nnext\n", out.toString());
+
+        // The line after the wrapped one is found on the row the terminal shows it on
+        renderer.clearLines();
+        renderer.addLine(" goto  - Head for a room");
+        renderer.addLine("last");
+        out.setLength(0);
+        renderer.render(out);
+        assertEquals("\033[5;1Hlast\033[K\033[6;1H\033[J", out.toString());
+    }
+
+    @Test
+    public void styledLineAsWideAsTheTerminalKeepsOneRow() {
+        FrameRenderer renderer = new FrameRenderer(1, 3);
+        for (int column = 0; column < 3; column++) renderer.setCell(0, column, "", '.');
+        String line = Simulation.ANSI_BLUE_BACKGROUND + Simulation.ANSI_BLACK + " " + "x".repeat(76) + " " + Simulation.ANSI_RESET + " -";
+        renderer.addLine(line);
+        assertEquals(3, renderer.getHeight());
+        StringBuilder out = new StringBuilder();
+        renderer.render(out);
+        assertEquals("\033[H\033[2J...\n" + line + "\n", out.toString());
+    }
+
+    @Test
+    public void tallestFrameFitsTheTerminal() {
+        int tallest = 0;
+        for (int y = 1; y <= Room.MAP_HEIGHT; y++) {
+            for (int x = 1; x <= Room.MAP_WIDTH; x++) {
+                Room room = Room.atCell(x, y);
+                if (room == null) continue;
+                EnumSet<Command> options = room == Room.STAIRCASE
+                    ? EnumSet.of(Command.UP, Command.SUBMIT_DNA, Command.SUBMIT_FINGERPRINTS, Command.REQUEST_CAMERAS, Command.ACCUSE,
+                        Command.DISCARD_DNA, Command.DISCARD_FINGERPRINTS)
+                    : EnumSet.of(Command.SEARCH, Command.COLLECT_DNA, Command.COLLECT_FINGERPRINTS, Command.UV_SCAN);
+                if (room != Room.STAIRCASE) {
+                    for (Command move : EnumSet.of(Command.UP, Command.DOWN, Command.LEFT, Command.RIGHT, Command.PASS)) {
+                        if (MovementGraph.canMove(x, y, move)) options.add(move);
+                    }
+                }
+                options.addAll(EnumSet.of(Command.INVENTORY, Command.LOG, Command.GOTO, Command.NOTES, Command.SAVE));
+                FrameRenderer renderer = new FrameRenderer(MapView.ROWS, MapView.COLUMNS);
+                renderer.addLine(GameText.CANNOT_DO_THAT);
+                for (Command option : options) renderer.addLine(option.getMenuLine());
+                renderer.addLine(GameText.COMMAND_PROMPT);
+                tallest = Math.max(tallest, renderer.getHeight());
+            }
+        }
+        assertEquals(GameFlow.TERMINAL_HEIGHT, tallest);
+    }
+
+    @Test
+    public void invalidatedFrameIsDrawnInFull() {
+        FrameRenderer renderer = renderer();
+        renderer.render(new StringBuilder());
+        renderer.invalidate();
+        renderer.clearLines();
+        renderer.addLine("other menu");
+        StringBuilder out = new StringBuilder();
+        renderer.render(out);
+        assertTrue(out.toString().startsWith("\033[H\033[2J"));
+        assertFalse(out.toString().contains("\033[J"));
+    }
+}
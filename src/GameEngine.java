@@ -0,0 +1,756 @@
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.*;
+import java.util.function.Supplier;
+
+/**
+ * The {@code GameEngine} class holds the state of a single game and applies the game rules to it.
+ * It performs no console input or output and never sleeps, so it can be driven by {@code Simulation} or directly by scripts.
+ * <p>
+ * Every call to {@link #apply(Command)} consumes a turn and returns the events produced by that turn.
+ *
+ * @author Alexander Chang
+ * @version 1.5, 10/17/2026
+ * @since 1.5
+ */
+public class GameEngine {
+    public static final int MAX_ACTIONABLE_TURNS = 250;
+
+    private final String name;
+    private final String color;
+    private boolean gameActive = true;
+    private final GameRandom rng;
+    private final BoardState board = new BoardState();
+    private ArrayList<Item> inventory = new ArrayList<>();
+    private final DetectivesLog detectivesLog = new DetectivesLog();
+    private Room currentRoom;
+    private ArrayList<Room> visitedRooms = new ArrayList<>();
+    private int numDonuts;
+    private int totalDonutsFound;
+    private int xPos; // Starting at 1
+    private int yPos; // Starting at 1
+    private boolean solvedMystery;
+    private boolean tookTooLong;
+
+    private int actionableTurns;
+    private int turns;
+    private int turnsSinceLastDonutFound; // Only donuts found in the kitchen
+
+    private int totalRoomSearches;
+    private int totalFingerprintsCollected;
+    private int totalFingerprintsAnalyzed;
+    private int totalDNACollected;
+    private int totalDNAAnalyzed;
+    private int totalUVScans;
+    private int totalCamerasRequested;
+    private int totalDonutsEatenByJoseph;
+
+    private FingerprintSample collectedFingerprintSample;
+    private DNASample collectedDNASample;
+    private final int donutsForCameraRequest;
+    // Lab results and camera footage in progress, delivered on the turn they are due
+    private final EventScheduler labResults = new EventScheduler();
+    // The solutions the evidence so far still allows
+    private final Deductions deductions = new Deductions();
+    // Records each turn for replay, or null if the game is not journaled
+    private GameJournal journal;
+
+    private Suspect answerSuspect;
+    private Weapon answerWeapon;
+    private Room answerRoom;
+
+    private Suspect guessedSuspect;
+    private Weapon guessedWeapon;
+    private Room guessedRoom;
+
+    /**
+     * Creates a new game with an arbitrary seed
+     *
+     * @param name the name of the detective
+     * @param color the favorite color of the detective, which determines the spawn point
+     */
+    GameEngine(String name, String color) {
+        this(name, color, new GameRandom().nextLong());
+    }
+
+    /**
+     * Creates a new game, selecting the answers, placing the items and clues, and spawning the player
+     *
+     * @param name the name of the detective
+     * @param color the favorite color of the detective, which determines the spawn point
+     * @param seed the seed of the game's random source, which reproduces the entire game when given the same commands
+     */
+    GameEngine(String name, String color, long seed) {
+        this.name = name;
+        this.color = color;
+        rng = new GameRandom(seed);
+        donutsForCameraRequest = rng.nextInt(4) + 2;
+
+        selectAnswers();
+        placeItems();
+        placeClues();
+
+        // Spawn the user
+        switch (color) {
+            case "scarlet" -> { xPos = 17; yPos = 1; }
+            case "mustard" -> { xPos = 24; yPos = 8; }
+            case "white" -> { xPos = 15; yPos = 25; }
+            case "green" -> { xPos = 10; yPos = 25; }
+            case "blue" -> { xPos = 1; yPos = 19; }
+            case "plum" -> { xPos = 1; yPos = 6; }
+            default -> { xPos = 8; yPos = 1; }
+        }
+    }
+
+    /**
+     * Restores a game written by {@link #writeTo(DataOutput)}, which carries on exactly as the saved game would have
+     *
+     * @param in the saved game
+     * @throws IOException if the saved game cannot be read or is corrupt
+     */
+    GameEngine(DataInput in) throws IOException {
+        name = in.readUTF();
+        color = in.readUTF();
+        rng = new GameRandom(in.readLong(), in.readLong());
+        donutsForCameraRequest = in.readUnsignedByte();
+        int flags = in.readUnsignedByte();
+        gameActive = (flags & 1) != 0;
+        solvedMystery = (flags & 2) != 0;
+        tookTooLong = (flags & 4) != 0;
+
+        answerSuspect = GameSnapshot.readRequiredEnum(in, Suspect.values());
+        answerWeapon = GameSnapshot.readRequiredEnum(in, Weapon.values());
+        answerRoom = GameSnapshot.readRequiredEnum(in, Room.values());
+        guessedSuspect = GameSnapshot.readEnum(in, Suspect.values());
+        guessedWeapon = GameSnapshot.readEnum(in, Weapon.values());
+        guessedRoom = GameSnapshot.readEnum(in, Room.values());
+        GameSnapshot.readBoard(in, board);
+
+        xPos = in.readUnsignedByte();
+        yPos = in.readUnsignedByte();
+        if (!MovementGraph.isWalkable(xPos, yPos)) throw new IOException("Corrupt saved game");
+        currentRoom = GameSnapshot.readEnum(in, Room.values());
+        for (int i = in.readUnsignedByte(); i > 0; i--) visitedRooms.add(GameSnapshot.readRequiredEnum(in, Room.values()));
+        for (int i = in.readUnsignedByte(); i > 0; i--) inventory.add(GameSnapshot.readRequiredEnum(in, Item.values()));
+        numDonuts = in.readUnsignedShort();
+        totalDonutsFound = in.readUnsignedShort();
+        collectedDNASample = GameSnapshot.readSample(in, DNASample.class);
+        collectedFingerprintSample = GameSnapshot.readSample(in, FingerprintSample.class);
+
+        actionableTurns = in.readUnsignedShort();
+        turns = in.readInt();
+        turnsSinceLastDonutFound = in.readInt();
+        totalRoomSearches = in.readUnsignedShort();
+        totalFingerprintsCollected = in.readUnsignedShort();
+        totalFingerprintsAnalyzed = in.readUnsignedShort();
+        totalDNACollected = in.readUnsignedShort();
+        totalDNAAnalyzed = in.readUnsignedShort();
+        totalUVScans = in.readUnsignedShort();
+        totalCamerasRequested = in.readUnsignedShort();
+        totalDonutsEatenByJoseph = in.readUnsignedShort();
+
+        for (int i = in.readUnsignedByte(); i > 0; i--) {
+            int dueTurn = in.readUnsignedShort();
+            labResults.schedule(GameSnapshot.readResult(in), dueTurn);
+        }
+        for (int i = in.readUnsignedShort(); i > 0; i--) detectivesLog.add(GameSnapshot.readLogEntry(in));
+        GameSnapshot.readDeductions(in, deductions);
+    }
+
+    /**
+     * Writes the whole state of the game, which {@link #GameEngine(DataInput)} restores
+     *
+     * @param out the output to write to
+     * @throws IOException if the output cannot be written
+     */
+    void writeTo(DataOutput out) throws IOException {
+        out.writeUTF(name);
+        out.writeUTF(color);
+        out.writeLong(rng.getSeed());
+        out.writeLong(rng.getState());
+        out.writeByte(donutsForCameraRequest);
+        out.writeByte((gameActive ? 1 : 0) | (solvedMystery ? 2 : 0) | (tookTooLong ? 4 : 0));
+
+        GameSnapshot.writeEnum(out, answerSuspect);
+        GameSnapshot.writeEnum(out, answerWeapon);
+        GameSnapshot.writeEnum(out, answerRoom);
+        GameSnapshot.writeEnum(out, guessedSuspect);
+        GameSnapshot.writeEnum(out, guessedWeapon);
+        GameSnapshot.writeEnum(out, guessedRoom);
+        GameSnapshot.writeBoard(out, board);
+
+        out.writeByte(xPos);
+        out.writeByte(yPos);
+        GameSnapshot.writeEnum(out, currentRoom);
+        out.writeByte(visitedRooms.size());
+        for (Room room : visitedRooms) GameSnapshot.writeEnum(out, room);
+        out.writeByte(inventory.size());
+        for (Item item : inventory) GameSnapshot.writeEnum(out, item);
+        out.writeShort(numDonuts);
+        out.writeShort(totalDonutsFound);
+        GameSnapshot.writeSample(out, collectedDNASample);
+        GameSnapshot.writeSample(out, collectedFingerprintSample);
+
+        out.writeShort(actionableTurns);
+        out.writeInt(turns);
+        out.writeInt(turnsSinceLastDonutFound);
+        out.writeShort(totalRoomSearches);
+        out.writeShort(totalFingerprintsCollected);
+        out.writeShort(totalFingerprintsAnalyzed);
+        out.writeShort(totalDNACollected);
+        out.writeShort(totalDNAAnalyzed);
+        out.writeShort(totalUVScans);
+        out.writeShort(totalCamerasRequested);
+        out.writeShort(totalDonutsEatenByJoseph);
+
+        List<EventScheduler.ScheduledEvent> pending = labResults.pending();
+        out.writeByte(pending.size());
+        for (EventScheduler.ScheduledEvent scheduled : pending) {
+            out.writeShort(scheduled.getDueTurn());
+            GameSnapshot.writeResult(out, scheduled.getEvent());
+        }
+        out.writeShort(detectivesLog.size());
+        for (int i = 0; i < detectivesLog.size(); i++) GameSnapshot.writeLogEntry(out, detectivesLog.get(i));
+        GameSnapshot.writeDeductions(out, deductions);
+    }
+
+    /**
+     * Records every following turn of the game in the given journal, until the journal cannot be written
+     *
+     * @param journal the journal, which must have been started from the current state of the game, or {@code null} to stop journaling
+     */
+    void setJournal(GameJournal journal) {
+        this.journal = journal;
+    }
+
+    /**
+     * Determines the actions available to the user on the current turn
+     *
+     * @return the available commands, which iterate in menu order
+     */
+    EnumSet<Command> availableCommands() {
+        EnumSet<Command> options = EnumSet.noneOf(Command.class);
+
+        if (currentRoom == Room.STAIRCASE) {
+            options.add(Command.UP);
+            if (numDonuts >= 2) {
+                if (collectedDNASample != null) options.add(Command.SUBMIT_DNA);
+                if (collectedFingerprintSample != null) options.add(Command.SUBMIT_FINGERPRINTS);
+            }
+            if (numDonuts >= donutsForCameraRequest) options.add(Command.REQUEST_CAMERAS);
+            options.add(Command.ACCUSE);
+
+        } else {
+            // Determine available movement options
+            if (MovementGraph.canMove(xPos, yPos, Command.UP)) options.add(Command.UP);
+            if (MovementGraph.canMove(xPos, yPos, Command.DOWN)) options.add(Command.DOWN);
+            if (MovementGraph.canMove(xPos, yPos, Command.LEFT)) options.add(Command.LEFT);
+            if (MovementGraph.canMove(xPos, yPos, Command.RIGHT)) options.add(Command.RIGHT);
+            // Determine available room options
+            if (currentRoom != null) {
+                options.add(Command.SEARCH);
+                if (inventory.contains(Item.DNA_COLLECTOR) && collectedDNASample == null) options.add(Command.COLLECT_DNA);
+                if (inventory.contains(Item.FINGERPRINT_COLLECTOR) && collectedFingerprintSample == null) options.add(Command.COLLECT_FINGERPRINTS);
+                if (inventory.contains(Item.UV_SCANNER)) options.add(Command.UV_SCAN);
+                if (MovementGraph.canMove(xPos, yPos, Command.PASS)) options.add(Command.PASS);
+            }
+        }
+
+        // Determine if the inventory can be opened
+        if (inventory.size() > 0 || numDonuts > 0) options.add(Command.INVENTORY);
+        // Determine if the detective's log can be opened
+        if (!detectivesLog.isEmpty()) options.add(Command.LOG);
+        // Determine if a DNA sample can be discarded
+        if (collectedDNASample != null) options.add(Command.DISCARD_DNA);
+        // Determine if a fingerprint sample can be discarded
+        if (collectedFingerprintSample != null) options.add(Command.DISCARD_FINGERPRINTS);
+        return options;
+    }
+
+    /**
+     * Applies the given command to the game, completing the turn
+     *
+     * @param action the command to apply, which must be one of the {@link #availableCommands() available commands}
+     * @return the events produced by the turn
+     * @throws IllegalStateException if the game is over or the command cannot be applied
+     */
+    List<GameEvent> apply(Command action) throws IllegalStateException {
+        if (!gameActive) throw new IllegalStateException("The game is over");
+        if (action == Command.ACCUSE) throw new IllegalStateException("Accusations require a suspect, weapon, and room");
+        if (!availableCommands().contains(action)) throw new IllegalStateException("The command is not available: " + action);
+        ArrayList<GameEvent> events = new ArrayList<>();
+
+        // Process movement through the compiled movement graph and all other actions
+        switch (action) {
+            case Command.UP, Command.DOWN, Command.LEFT, Command.RIGHT, Command.PASS -> {
+                int transition = MovementGraph.resolve(xPos, yPos, action);
+                xPos = MovementGraph.destinationX(transition);
+                yPos = MovementGraph.destinationY(transition);
+                currentRoom = MovementGraph.roomAfter(transition, currentRoom);
+                events.add(action == Command.PASS ? new GameEvent(GameEvent.Type.PASSED, currentRoom) : new GameEvent(GameEvent.Type.MOVED));
+            }
+            case Command.INVENTORY -> events.add(new GameEvent(GameEvent.Type.INVENTORY_OPENED));
+            case Command.LOG -> events.add(new GameEvent(GameEvent.Type.LOG_OPENED));
+            case Command.SEARCH -> searchRoom(events);
+            case Command.COLLECT_DNA -> collectDNA(events);
+            case Command.COLLECT_FINGERPRINTS -> collectFingerprints(events);
+            case Command.UV_SCAN -> scanUV(events);
+            case Command.DISCARD_DNA -> discardDNA(events);
+            case Command.DISCARD_FINGERPRINTS -> discardFingerprints(events);
+            case Command.SUBMIT_DNA -> submitDNA(events);
+            case Command.SUBMIT_FINGERPRINTS -> submitFingerprints(events);
+            case Command.REQUEST_CAMERAS -> requestCamera(events);
+            default -> throw new IllegalStateException("Unexpected game command execution");
+        }
+
+        // If the user entered a room, update the currentRoom variable
+        Room enteredRoom = Room.atCell(xPos, yPos);
+        if (enteredRoom != null) {
+            if (!visitedRooms.contains(enteredRoom)) visitedRooms.add(enteredRoom);
+            if (currentRoom == null) events.add(new GameEvent(GameEvent.Type.ENTERED_ROOM, enteredRoom));
+            currentRoom = enteredRoom;
+        }
+
+        endTurn(action, events);
+        if (journal != null) {
+            try {
+                journal.applied(action);
+                if (!gameActive) journal.ended(this);
+            } catch (UncheckedIOException e) {
+                stopJournaling(e);
+            }
+        }
+        return events;
+    }
+
+    /**
+     * Applies the given move on up to the given number of turns in a row, as entered with a count such as {@code 5d}
+     *
+     * @param move the direction to move in
+     * @param count the most turns to move for
+     * @return the events produced by the turns, announcing only the last room entered
+     * @throws IllegalStateException if the game is over
+     */
+    List<GameEvent> applyMoves(Command move, int count) throws IllegalStateException {
+        return travel(() -> MovementGraph.canMove(xPos, yPos, move) ? move : null, count);
+    }
+
+    /**
+     * Heads for the given room by the shortest way, applying one move on each turn until the user is in the room
+     *
+     * @param room the room to head for
+     * @return the events produced by the turns, announcing only the last room entered, or no events if the user is already in the room
+     * @throws IllegalStateException if the game is over
+     */
+    List<GameEvent> travelTo(Room room) throws IllegalStateException {
+        return travel(() -> currentRoom == room ? null : MovementGraph.stepTowards(xPos, yPos, room), Integer.MAX_VALUE);
+    }
+
+    /**
+     * Applies the moves along a route one turn at a time, so that each is journaled and counted as a turn of its own,
+     * stopping early when the route is blocked or a turn produces anything but movement, such as lab results or the game ending
+     */
+    private List<GameEvent> travel(Supplier<Command> route, int maxTurns) {
+        if (!gameActive) throw new IllegalStateException("The game is over");
+        ArrayList<GameEvent> events = new ArrayList<>();
+        for (int turn = 0; turn < maxTurns && gameActive; turn++) {
+            Command move = route.get();
+            if (move == null) break;
+            // Rooms passed through on the way are not worth stopping to announce
+            events.removeIf((a) -> a.getType() == GameEvent.Type.ENTERED_ROOM);
+            List<GameEvent> turnEvents = apply(move);
+            events.addAll(turnEvents);
+            for (GameEvent event : turnEvents) {
+                if (event.getType() != GameEvent.Type.MOVED && event.getType() != GameEvent.Type.PASSED && event.getType() != GameEvent.Type.ENTERED_ROOM) return events;
+            }
+        }
+        return events;
+    }
+
+    /**
+     * Completes a turn in which the user backed out of the given command when asked for confirmation
+     *
+     * @param action the command the user declined to go through with
+     * @return the events produced by the turn
+     * @throws IllegalStateException if the game is over
+     */
+    List<GameEvent> decline(Command action) throws IllegalStateException {
+        if (!gameActive) throw new IllegalStateException("The game is over");
+        ArrayList<GameEvent> events = new ArrayList<>();
+        endTurn(action, events);
+        if (journal != null) {
+            try {
+                journal.declined(action);
+                if (!gameActive) journal.ended(this);
+            } catch (UncheckedIOException e) {
+                stopJournaling(e);
+            }
+        }
+        return events;
+    }
+
+    /**
+     * Reports the user's final findings, ending the game
+     *
+     * @param suspect the suspect the user believes committed the murder
+     * @param weapon the weapon the user believes was used
+     * @param room the room the user believes the murder took place in
+     * @return the events produced by the turn
+     * @throws IllegalStateException if the game is over
+     */
+    List<GameEvent> accuse(Suspect suspect, Weapon weapon, Room room) throws IllegalStateException {
+        if (!gameActive) throw new IllegalStateException("The game is over");
+        ArrayList<GameEvent> events = new ArrayList<>();
+        guessedSuspect = suspect;
+        guessedWeapon = weapon;
+        guessedRoom = room;
+        solvedMystery = isSuspectCorrect() && isWeaponCorrect() && isRoomCorrect();
+        gameActive = false;
+        events.add(new GameEvent(GameEvent.Type.ACCUSED));
+        endTurn(Command.ACCUSE, events);
+        if (journal != null) {
+            try {
+                journal.accused(suspect, weapon, room);
+                journal.ended(this);
+            } catch (UncheckedIOException e) {
+                stopJournaling(e);
+            }
+        }
+        return events;
+    }
+
+    /**
+     * Gives up on journaling the game once the journal cannot be written, so that the game carries on without it
+     *
+     * @param e the failure to write the journal
+     */
+    private void stopJournaling(UncheckedIOException e) {
+        System.err.println("Stopped journaling the game: " + e.getCause().getMessage());
+        journal = null;
+    }
+
+    /**
+     * Increments the turn counters, ends the game if it has taken too long, and delivers any lab and camera results that are ready
+     */
+    private void endTurn(Command action, ArrayList<GameEvent> events) {
+        if (action != Command.INVENTORY) actionableTurns++;
+        turns++;
+        if (totalDonutsFound > 0) turnsSinceLastDonutFound++;
+
+        if (actionableTurns > MAX_ACTIONABLE_TURNS) {
+            gameActive = false;
+            tookTooLong = true;
+            events.add(new GameEvent(GameEvent.Type.TIMED_OUT));
+        }
+        if (!gameActive) return;
+
+        // Deliver lab and camera results
+        for (GameEvent result : labResults.deliverDue(actionableTurns)) {
+            switch (result.getType()) {
+                case DNA_RESULT -> detectivesLog.add(new LogEntry(actionableTurns, (DNASample) result.getSample()));
+                case FINGERPRINT_RESULT -> detectivesLog.add(new LogEntry(actionableTurns, (FingerprintSample) result.getSample()));
+                case CAMERA_RESULT -> detectivesLog.add(new LogEntry(actionableTurns, result.getFootage()));
+                default -> throw new IllegalStateException("Unexpected lab result: " + result);
+            }
+            events.add(result);
+        }
+
+        for (GameEvent event : events) deductions.observe(event);
+    }
+
+    /**
+     * Schedules a result to be delivered once the given number of actionable turns have passed after the current one
+     */
+    private void scheduleResult(GameEvent result, int turnsForAnalysis) {
+        // The current turn is only counted once it ends
+        labResults.schedule(result, actionableTurns + 1 + turnsForAnalysis);
+    }
+
+    private void searchRoom(ArrayList<GameEvent> events) {
+        totalRoomSearches++;
+        double random = rng.nextDouble();
+        if (board.hasItem(currentRoom) && !(inventory.contains(board.getItem(currentRoom)))) {
+            inventory.add(board.getItem(currentRoom));
+            events.add(new GameEvent(GameEvent.Type.ITEM_FOUND, board.getItem(currentRoom)));
+        } else if (currentRoom == Room.KITCHEN) {
+            if ((totalDonutsFound > 0 && turnsSinceLastDonutFound < 10 + 1) || random < 0.2) events.add(new GameEvent(GameEvent.Type.NOTHING_FOUND, currentRoom));
+            else if (random < 0.3) getDonuts(1, events);
+            else if (random <= 0.8) getDonuts(2, events);
+            else if (random <= 0.95) getDonuts(3, events);
+            else if (random <= 0.99) getDonuts(4, events);
+            else getDonuts(5, events);
+        } else if (random < 0.05) getDonuts(1, events);
+        else events.add(new GameEvent(GameEvent.Type.NOTHING_FOUND, currentRoom));
+    }
+
+    private void getDonuts(int numFound, ArrayList<GameEvent> events) {
+        numDonuts += numFound;
+        totalDonutsFound += numFound;
+        if (currentRoom == Room.KITCHEN) turnsSinceLastDonutFound = 0;
+        events.add(new GameEvent(GameEvent.Type.DONUTS_FOUND, numFound));
+    }
+
+    private void collectDNA(ArrayList<GameEvent> events) {
+        // 30% chance you can still find DNA if it is not relevant to the case
+        if (board.getDNA(currentRoom) != null || rng.nextDouble() < 0.3) {
+            totalDNACollected++;
+            collectedDNASample = new DNASample(currentRoom, board.getDNA(currentRoom), rng);
+            events.add(new GameEvent(GameEvent.Type.DNA_COLLECTED, collectedDNASample));
+        } else events.add(new GameEvent(GameEvent.Type.DNA_NOT_FOUND, currentRoom));
+    }
+
+    private void collectFingerprints(ArrayList<GameEvent> events) {
+        if (board.hasWeapon(currentRoom)) {
+            totalFingerprintsCollected++;
+            collectedFingerprintSample = new FingerprintSample(currentRoom, board.getWeapon(currentRoom), board.getWeaponFingerprints(currentRoom), rng);
+            events.add(new GameEvent(GameEvent.Type.FINGERPRINTS_COLLECTED, collectedFingerprintSample));
+        } else if (rng.nextDouble() < 0.5) events.add(new GameEvent(GameEvent.Type.FINGERPRINTS_NOT_FOUND, currentRoom));
+        else events.add(new GameEvent(GameEvent.Type.FINGERPRINTS_WEAK, currentRoom));
+    }
+
+    private void scanUV(ArrayList<GameEvent> events) {
+        if (board.isUVCluePresent(currentRoom)) {
+            totalUVScans++;
+            events.add(new GameEvent(GameEvent.Type.UV_CLUE_FOUND, currentRoom));
+        } else if (rng.nextDouble() < 0.5) events.add(new GameEvent(GameEvent.Type.UV_FLUKE, currentRoom));
+        else events.add(new GameEvent(GameEvent.Type.UV_NOTHING, currentRoom));
+    }
+
+    private void discardDNA(ArrayList<GameEvent> events) {
+        events.add(new GameEvent(GameEvent.Type.DNA_DISCARDED, collectedDNASample));
+        collectedDNASample = null;
+    }
+
+    private void discardFingerprints(ArrayList<GameEvent> events) {
+        events.add(new GameEvent(GameEvent.Type.FINGERPRINTS_DISCARDED, collectedFingerprintSample));
+        collectedFingerprintSample = null;
+    }
+
+    private void submitDNA(ArrayList<GameEvent> events) {
+        scheduleResult(new GameEvent(GameEvent.Type.DNA_RESULT, collectedDNASample), collectedDNASample.getTurnsForAnalysis());
+        events.add(new GameEvent(GameEvent.Type.DNA_SUBMITTED, collectedDNASample));
+        collectedDNASample = null;
+        totalDNAAnalyzed++;
+        numDonuts -= 2;
+        totalDonutsEatenByJoseph += 2;
+    }
+
+    private void submitFingerprints(ArrayList<GameEvent> events) {
+        scheduleResult(new GameEvent(GameEvent.Type.FINGERPRINT_RESULT, collectedFingerprintSample), collectedFingerprintSample.getTurnsForAnalysis());
+        events.add(new GameEvent(GameEvent.Type.FINGERPRINTS_SUBMITTED, collectedFingerprintSample));
+        collectedFingerprintSample = null;
+        totalFingerprintsAnalyzed++;
+        numDonuts -= 2;
+        totalDonutsEatenByJoseph += 2;
+    }
+
+    private void requestCamera(ArrayList<GameEvent> events) {
+        CameraResult footage = new CameraResult(answerRoom, answerWeapon, answerSuspect, rng);
+        scheduleResult(new GameEvent(GameEvent.Type.CAMERA_RESULT, footage), footage.getTurnsForAnalysis());
+        totalCamerasRequested++;
+        numDonuts -= donutsForCameraRequest;
+        totalDonutsEatenByJoseph += donutsForCameraRequest;
+        events.add(new GameEvent(GameEvent.Type.CAMERAS_REQUESTED, donutsForCameraRequest));
+    }
+
+    // Game Utility Methods
+
+    /**
+     * Place the 3 forensic items in random rooms
+     */
+    private void placeItems() {
+        for (Item item : Item.values()) {
+            int random;
+            Room room;
+            do {
+                random = rng.nextInt(Room.values().length);
+                room = Room.values()[random];
+            } while (board.hasItem(room));
+            board.setItem(room, item);
+        }
+    }
+
+    /**
+     * Select the correct suspect, room, and weapon
+     */
+    private void selectAnswers() {
+        int random;
+        random = rng.nextInt(Suspect.values().length);
+        answerSuspect = Suspect.values()[random];
+        random = rng.nextInt(9);
+        answerRoom = Room.values()[random];
+        random = rng.nextInt(Weapon.values().length);
+        answerWeapon = Weapon.values()[random];
+    }
+
+    /**
+     * Place clues in various rooms
+     */
+    private void placeClues() {
+        // Place the weapon
+        int random = rng.nextInt(9);
+        Room room = Room.values()[random];
+        board.setWeapon(room, answerWeapon);
+        board.setWeaponFingerprints(room, answerSuspect);
+
+        // Place the DNA
+        board.setDNA(answerRoom, answerSuspect);
+
+        // Place the UV clue (75% chance one is placed)
+        board.setUVCluePresent(answerRoom, rng.nextDouble() < 0.75);
+    }
+
+    BoardState getBoard() {
+        return board;
+    }
+
+    long getSeed() {
+        return rng.getSeed();
+    }
+
+    String getName() {
+        return name;
+    }
+
+    String getColor() {
+        return color;
+    }
+
+    boolean isGameActive() {
+        return gameActive;
+    }
+
+    List<Item> getInventory() {
+        return Collections.unmodifiableList(inventory);
+    }
+
+    DetectivesLog getDetectivesLog() {
+        return detectivesLog;
+    }
+
+    Deductions getDeductions() {
+        return deductions;
+    }
+
+    Room getCurrentRoom() {
+        return currentRoom;
+    }
+
+    List<Room> getVisitedRooms() {
+        return Collections.unmodifiableList(visitedRooms);
+    }
+
+    int getNumDonuts() {
+        return numDonuts;
+    }
+
+    int getTotalDonutsFound() {
+        return totalDonutsFound;
+    }
+
+    int getXPos() {
+        return xPos;
+    }
+
+    int getYPos() {
+        return yPos;
+    }
+
+    boolean isSolvedMystery() {
+        return solvedMystery;
+    }
+
+    boolean isTookTooLong() {
+        return tookTooLong;
+    }
+
+    int getActionableTurns() {
+        return actionableTurns;
+    }
+
+    int getTurns() {
+        return turns;
+    }
+
+    int getTotalRoomSearches() {
+        return totalRoomSearches;
+    }
+
+    int getTotalFingerprintsCollected() {
+        return totalFingerprintsCollected;
+    }
+
+    int getTotalFingerprintsAnalyzed() {
+        return totalFingerprintsAnalyzed;
+    }
+
+    int getTotalDNACollected() {
+        return totalDNACollected;
+    }
+
+    int getTotalDNAAnalyzed() {
+        return totalDNAAnalyzed;
+    }
+
+    int getTotalUVScans() {
+        return totalUVScans;
+    }
+
+    int getTotalCamerasRequested() {
+        return totalCamerasRequested;
+    }
+
+    int getTotalDonutsEatenByJoseph() {
+        return totalDonutsEatenByJoseph;
+    }
+
+    FingerprintSample getCollectedFingerprintSample() {
+        return collectedFingerprintSample;
+    }
+
+    DNASample getCollectedDNASample() {
+        return collectedDNASample;
+    }
+
+    int getDonutsForCameraRequest() {
+        return donutsForCameraRequest;
+    }
+
+    Suspect getAnswerSuspect() {
+        return answerSuspect;
+    }
+
+    Weapon getAnswerWeapon() {
+        return answerWeapon;
+    }
+
+    Room getAnswerRoom() {
+        return answerRoom;
+    }
+
+    Suspect getGuessedSuspect() {
+        return guessedSuspect;
+    }
+
+    Weapon getGuessedWeapon() {
+        return guessedWeapon;
+    }
+
+    Room getGuessedRoom() {
+        return guessedRoom;
+    }
+
+    boolean isSuspectCorrect() {
+        return guessedSuspect == answerSuspect;
+    }
+
+    boolean isWeaponCorrect() {
+        return guessedWeapon == answerWeapon;
+    }
+
+    boolean isRoomCorrect() {
+        return guessedRoom == answerRoom;
+    }
+}
@@ -0,0 +1,152 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+
+/**
+ * The {@code GameEngineTest} class provides tests for the headless game engine
+ *
+ * @author Alexander Chang
+ * @version 1.5, 10/17/2026
+ * @since 1.5
+ */
+public class GameEngineTest {
+
+    @Test
+    public void spawnsAtColorStart() {
+        GameEngine engine = new GameEngine("Tester", "scarlet");
+        assertEquals(17, engine.getXPos());
+        assertEquals(1, engine.getYPos());
+        assertTrue(engine.isGameActive());
+    }
+
+    @Test
+    public void movementConsumesTurn() {
+        GameEngine engine = new GameEngine("Tester", "scarlet");
+        List<GameEvent> events = engine.apply(Command.DOWN);
+        assertEquals(2, engine.getYPos());
+        assertEquals(1, engine.getActionableTurns());
+        assertEquals(GameEvent.Type.MOVED, events.get(0).getType());
+    }
+
+    @Test
+    public void movesStayOnMap() {
+        Command[] moves = {Command.UP, Command.DOWN, Command.LEFT, Command.RIGHT, Command.PASS};
+        for (int y = 1; y <= Room.MAP_HEIGHT; y++) {
+            for (int x = 1; x <= Room.MAP_WIDTH; x++) {
+                for (Command move : moves) {
+                    if (!MovementGraph.canMove(x, y, move)) continue;
+                    int transition = MovementGraph.resolve(x, y, move);
+                    assertTrue(MovementGraph.destinationX(transition) >= 1 && MovementGraph.destinationX(transition) <= Room.MAP_WIDTH);
+                    assertTrue(MovementGraph.destinationY(transition) >= 1 && MovementGraph.destinationY(transition) <= Room.MAP_HEIGHT);
+                }
+            }
+        }
+        // Leaving the study through its diagonal door
+        int transition = MovementGraph.resolve(6, 3, Command.DOWN);
+        assertEquals(7, MovementGraph.destinationX(transition));
+        assertEquals(5, MovementGraph.destinationY(transition));
+        assertEquals(null, MovementGraph.roomAfter(transition, Room.STUDY));
+    }
+
+    @Test
+    public void travelTakesATurnForEachStep() {
+        GameEngine engine = new GameEngine("Tester", "scarlet", 9);
+        int distance = MovementGraph.distanceTo(engine.getXPos(), engine.getYPos(), Room.KITCHEN);
+        List<GameEvent> events = engine.travelTo(Room.KITCHEN);
+        assertEquals(Room.KITCHEN, engine.getCurrentRoom());
+        assertEquals(distance, engine.getActionableTurns());
+        // Only the room at the end of the trip is announced
+        assertEquals(1, events.stream().filter((a) -> a.getType() == GameEvent.Type.ENTERED_ROOM).count());
+        assertEquals(GameEvent.Type.ENTERED_ROOM, events.get(events.size() - 1).getType());
+        assertTrue(engine.travelTo(Room.KITCHEN).isEmpty());
+    }
+
+    @Test
+    public void repeatedMovesStopAtWalls() {
+        GameEngine engine = new GameEngine("Tester", "scarlet");
+        assertEquals(3, engine.applyMoves(Command.DOWN, 3).size());
+        assertEquals(4, engine.getYPos());
+        // Scarlet starts against the wall of the lounge
+        engine.applyMoves(Command.RIGHT, 20);
+        assertEquals(17, engine.getXPos());
+        assertEquals(3, engine.getActionableTurns());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void searchingOutsideRoomsIsRejected() {
+        GameEngine engine = new GameEngine("Tester", "scarlet");
+        engine.apply(Command.SEARCH);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void submittingWithoutSampleIsRejected() {
+        GameEngine engine = new GameEngine("Tester", "scarlet");
+        engine.travelTo(Room.STAIRCASE);
+        assertEquals(Room.STAIRCASE, engine.getCurrentRoom());
+        assertFalse(engine.availableCommands().contains(Command.SUBMIT_DNA));
+        engine.apply(Command.SUBMIT_DNA);
+    }
+
+    @Test
+    public void gameTimesOut() {
+        GameEngine engine = new GameEngine("Tester", "green");
+        int turn = 0;
+        while (engine.isGameActive()) {
+            ArrayList<Command> options = new ArrayList<>(engine.availableCommands());
+            options.remove(Command.ACCUSE);
+            options.remove(Command.INVENTORY);
+            engine.apply(options.get(turn++ % options.size()));
+        }
+        assertTrue(engine.isTookTooLong());
+        assertFalse(engine.isSolvedMystery());
+        assertEquals(GameEngine.MAX_ACTIONABLE_TURNS + 1, engine.getActionableTurns());
+    }
+
+    @Test
+    public void boardsAreIndependent() {
+        for (int i = 0; i < 50; i++) {
+            BoardState board = new GameEngine("Tester", "white").getBoard();
+            int items = 0;
+            int weapons = 0;
+            for (Room room : Room.values()) {
+                if (board.hasItem(room)) items++;
+                if (board.hasWeapon(room)) weapons++;
+            }
+            assertEquals(Item.values().length, items);
+            assertEquals(1, weapons);
+        }
+    }
+
+    @Test
+    public void seedReproducesGame() {
+        GameEngine first = new GameEngine("Tester", "mustard", 42);
+        GameEngine second = new GameEngine("Tester", "mustard", 42);
+        assertEquals(first.getAnswerSuspect(), second.getAnswerSuspect());
+        assertEquals(first.getAnswerWeapon(), second.getAnswerWeapon());
+        assertEquals(first.getAnswerRoom(), second.getAnswerRoom());
+        int turn = 0;
+        while (first.isGameActive()) {
+            ArrayList<Command> options = new ArrayList<>(first.availableCommands());
+            options.remove(Command.ACCUSE);
+            Command action = options.get(turn++ % options.size());
+            assertEquals(first.availableCommands(), second.availableCommands());
+            first.apply(action);
+            second.apply(action);
+        }
+        assertEquals(first.getDetectivesLog().render(), second.getDetectivesLog().render());
+        assertEquals(first.getTotalDonutsFound(), second.getTotalDonutsFound());
+        assertEquals(first.getXPos(), second.getXPos());
+        assertEquals(first.getYPos(), second.getYPos());
+    }
+
+    @Test
+    public void accusationEndsGame() {
+        GameEngine engine = new GameEngine("Tester", "plum");
+        engine.accuse(engine.getAnswerSuspect(), engine.getAnswerWeapon(), engine.getAnswerRoom());
+        assertFalse(engine.isGameActive());
+        assertTrue(engine.isSolvedMystery());
+    }
+}
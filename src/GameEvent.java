@@ -0,0 +1,107 @@
+/**
+ * The {@code GameEvent} class encapsulates a single outcome produced by the {@code GameEngine} when a command is applied.
+ * Renderers such as {@code Simulation} turn these events into console output.
+ *
+ * @author Alexander Chang
+ * @version 1.5, 10/17/2026
+ * @since 1.5
+ */
+public class GameEvent {
+    /**
+     * The kinds of outcomes the game engine can produce
+     */
+    enum Type {
+        MOVED,
+        PASSED,
+        ENTERED_ROOM,
+        INVENTORY_OPENED,
+        LOG_OPENED,
+        ITEM_FOUND,
+        DONUTS_FOUND,
+        NOTHING_FOUND,
+        DNA_COLLECTED,
+        DNA_NOT_FOUND,
+        FINGERPRINTS_COLLECTED,
+        FINGERPRINTS_NOT_FOUND,
+        FINGERPRINTS_WEAK,
+        UV_CLUE_FOUND,
+        UV_FLUKE,
+        UV_NOTHING,
+        DNA_DISCARDED,
+        FINGERPRINTS_DISCARDED,
+        DNA_SUBMITTED,
+        FINGERPRINTS_SUBMITTED,
+        CAMERAS_REQUESTED,
+        DNA_RESULT,
+        FINGERPRINT_RESULT,
+        CAMERA_RESULT,
+        ACCUSED,
+        TIMED_OUT
+    }
+
+    private final Type type;
+    private Room room;
+    private Item item;
+    private int amount;
+    private EvidenceSample sample;
+    private CameraResult footage;
+
+    GameEvent(Type type) {
+        this.type = type;
+    }
+
+    GameEvent(Type type, Room room) {
+        this.type = type;
+        this.room = room;
+    }
+
+    GameEvent(Type type, Item item) {
+        this.type = type;
+        this.item = item;
+    }
+
+    GameEvent(Type type, int amount) {
+        this.type = type;
+        this.amount = amount;
+    }
+
+    GameEvent(Type type, EvidenceSample sample) {
+        this.type = type;
+        this.sample = sample;
+        this.room = sample.getRoom();
+    }
+
+    GameEvent(Type type, CameraResult footage) {
+        this.type = type;
+        this.footage = footage;
+    }
+
+    Type getType() {
+        return type;
+    }
+
+    Room getRoom() {
+        return room;
+    }
+
+    Item getItem() {
+        return item;
+    }
+
+    int getAmount() {
+        return amount;
+    }
+
+    EvidenceSample getSample() {
+        return sample;
+    }
+
+    CameraResult getFootage() {
+        return footage;
+    }
+
+    @Override
+    public String toString() {
+        return type.toString();
+    }
+}
@@ -0,0 +1,112 @@
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+
+/**
+ * The {@code GameFlow} class decides what the user is offered and asked at each step of a game, so that {@code Simulation} and
+ * {@code GameSession} walk the user through the same checks, menus, and prompts. The wording of each step is left to {@code GameText}.
+ *
+ * @author Alexander Chang
+ * @version 1.5, 10/17/2026
+ * @since 1.5
+ */
+public final class GameFlow {
+    // The colors the user can choose from, which also choose where they start
+    static final List<String> COLORS = List.of("scarlet", "mustard", "white", "green", "blue", "plum");
+    // The number of entries shown on each page of the detective's log
+    static final int LOG_PAGE_SIZE = 10;
+    // The number of rows the tallest frame takes up, a notice and the full command list of a room in the hall, which the terminal
+    // check makes sure are visible
+    static final int TERMINAL_HEIGHT = 48;
+
+    private GameFlow() {}
+
+    /**
+     * Determines the options offered on the main menu
+     *
+     * @param canLoad whether saved games can be loaded
+     * @return the commands of the main menu
+     */
+    static EnumSet<Command> mainMenu(boolean canLoad) {
+        EnumSet<Command> options = EnumSet.of(Command.ABOUT, Command.BEGIN);
+        if (canLoad) options.add(Command.LOAD);
+        return options;
+    }
+
+    /**
+     * Determines the commands offered on the current turn, which include those that do not use up a turn
+     *
+     * @param engine the game
+     * @param canSave whether the game can be saved
+     * @return the commands, which iterate in menu order
+     */
+    static EnumSet<Command> turnOptions(GameEngine engine, boolean canSave) {
+        EnumSet<Command> options = engine.availableCommands();
+        options.add(Command.GOTO);
+        options.add(Command.NOTES);
+        if (canSave) options.add(Command.SAVE);
+        return options;
+    }
+
+    /**
+     * Determines whether Detective Joseph asks the user to confirm the given command before it is carried out
+     *
+     * @param command the command
+     * @return whether the command needs the user's confirmation
+     */
+    static boolean needsConfirmation(Command command) {
+        return switch (command) {
+            case DISCARD_DNA, DISCARD_FINGERPRINTS, SUBMIT_DNA, SUBMIT_FINGERPRINTS, REQUEST_CAMERAS, ACCUSE -> true;
+            default -> false;
+        };
+    }
+
+    /**
+     * Determines whether the given name can be the user's
+     *
+     * @param name the name entered by the user
+     * @return whether the name is between 1 and 26 characters long, not inclusive
+     */
+    static boolean isValidName(String name) {
+        return name.length() <= 25 && name.length() != 1;
+    }
+
+    /**
+     * Returns the rooms a murder can be reported in, which are all but the staircase
+     *
+     * @return the rooms
+     */
+    static List<Room> accusableRooms() {
+        return Arrays.stream(Room.values()).filter((a) -> a != Room.STAIRCASE).toList();
+    }
+
+    /**
+     * Finds the suspect with the given name, ignoring case
+     *
+     * @param name the name entered by the user
+     * @return the suspect, or {@code null} if none has the name
+     */
+    static Suspect suspectNamed(String name) {
+        return Arrays.stream(Suspect.values()).filter((a) -> a.getName().equalsIgnoreCase(name)).findFirst().orElse(null);
+    }
+
+    /**
+     * Finds the weapon with the given name, ignoring case
+     *
+     * @param name the name entered by the user
+     * @return the weapon, or {@code null} if none has the name
+     */
+    static Weapon weaponNamed(String name) {
+        return Arrays.stream(Weapon.values()).filter((a) -> a.getName().equalsIgnoreCase(name)).findFirst().orElse(null);
+    }
+
+    /**
+     * Finds the room a murder can be reported in with the given name, ignoring case
+     *
+     * @param name the name entered by the user
+     * @return the room, or {@code null} if none has the name
+     */
+    static Room accusableRoomNamed(String name) {
+        return accusableRooms().stream().filter((a) -> a.getName().equalsIgnoreCase(name)).findFirst().orElse(null);
+    }
+}
@@ -0,0 +1,281 @@
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * The {@code GameJournal} class records a game as the input that produced it, so that it can be replayed headlessly to the same end.
+ * A journal starts with the seed, name, and color of a new game, or the snapshot of a restored one, and then appends one byte for each turn
+ * naming the command that was applied or declined, followed by the suspect, weapon, and room of an accusation.
+ * Once the game ends, its final snapshot is appended, so that a replay can check that it reached exactly the same end.
+ * <p>
+ * Running this class replays and checks every journal in the given files and directories, or in the journal directory by default.
+ *
+ * @author Alexander Chang
+ * @version 1.5, 10/17/2026
+ * @since 1.5
+ */
+public class GameJournal implements Closeable {
+    // "CLUJ" in ASCII
+    private static final int MAGIC = 0x434C554A;
+    // Incremented whenever the format changes, so that older journals are rejected instead of misread
+    static final int VERSION = 1;
+    static final Path JOURNAL_DIRECTORY = Path.of("journals");
+    private static final String EXTENSION = ".journal";
+
+    // Ways a journal can start
+    private static final int NEW_GAME = 0;
+    private static final int RESTORED_GAME = 1;
+    // Kinds of records, kept in the top two bits of the first byte of each record
+    private static final int APPLIED = 0;
+    private static final int DECLINED = 1;
+    private static final int ACCUSED = 2;
+    private static final int ENDED = 3;
+    private static final int CODE_BITS = 6;
+
+    // The commands that use up a turn, by the code they are journaled as; new commands are only added to the end so that old journals keep their meaning
+    private static final Command[] TURN_COMMANDS = {
+        Command.UP, Command.DOWN, Command.LEFT, Command.RIGHT, Command.SEARCH, Command.COLLECT_DNA, Command.COLLECT_FINGERPRINTS, Command.UV_SCAN,
+        Command.PASS, Command.SUBMIT_DNA, Command.SUBMIT_FINGERPRINTS, Command.REQUEST_CAMERAS, Command.ACCUSE, Command.INVENTORY, Command.LOG,
+        Command.DISCARD_DNA, Command.DISCARD_FINGERPRINTS
+    };
+    // The code of each command by ordinal, or -1 for commands that do not use up a turn
+    private static final int[] codes = new int[Command.values().length];
+
+    static {
+        Arrays.fill(codes, -1);
+        for (int i = 0; i < TURN_COMMANDS.length; i++) codes[TURN_COMMANDS[i].ordinal()] = i;
+    }
+
+    private final DataOutputStream out;
+
+    /**
+     * Starts a journal of the given game, writing how the game starts
+     *
+     * @param out the stream to append the journal to, which is flushed after every turn
+     * @param engine the game, which is journaled from its current state
+     * @throws IOException if the journal cannot be written
+     */
+    GameJournal(OutputStream out, GameEngine engine) throws IOException {
+        this.out = new DataOutputStream(out);
+        this.out.writeInt(MAGIC);
+        this.out.writeByte(VERSION);
+        // A game that has not had a turn yet is reproduced by its seed alone
+        if (engine.getTurns() == 0) {
+            this.out.writeByte(NEW_GAME);
+            this.out.writeLong(engine.getSeed());
+            this.out.writeUTF(engine.getName());
+            this.out.writeUTF(engine.getColor());
+        } else {
+            byte[] snapshot = GameSnapshot.save(engine);
+            this.out.writeByte(RESTORED_GAME);
+            this.out.writeShort(snapshot.length);
+            this.out.write(snapshot);
+        }
+        this.out.flush();
+    }
+
+    /**
+     * Starts a journal of the given game in a new file
+     *
+     * @param file the file to write the journal to, replacing any file already there
+     * @param engine the game, which is journaled from its current state
+     * @return the journal
+     * @throws IOException if the file cannot be written
+     */
+    static GameJournal open(Path file, GameEngine engine) throws IOException {
+        if (file.getParent() != null) Files.createDirectories(file.getParent());
+        return new GameJournal(new BufferedOutputStream(Files.newOutputStream(file)), engine);
+    }
+
+    /**
+     * Returns the file in the given directory for a journal of the given game, named after the detective and the seed
+     *
+     * @param directory the directory of journals
+     * @param engine the game
+     * @return the path of the file, which also carries the turn for a game journaled from part way through
+     */
+    static Path pathFor(Path directory, GameEngine engine) {
+        String name = engine.getName().toLowerCase().replaceAll("[^a-z0-9_-]", "_") + "-" + Long.toHexString(engine.getSeed());
+        return directory.resolve(name + (engine.getTurns() > 0 ? "-" + engine.getTurns() : "") + EXTENSION);
+    }
+
+    /**
+     * Records a turn in which the given command was applied
+     *
+     * @param action the command
+     * @throws UncheckedIOException if the journal cannot be written
+     */
+    void applied(Command action) throws UncheckedIOException {
+        record(APPLIED, action);
+    }
+
+    /**
+     * Records a turn in which the user backed out of the given command
+     *
+     * @param action the command
+     * @throws UncheckedIOException if the journal cannot be written
+     */
+    void declined(Command action) throws UncheckedIOException {
+        record(DECLINED, action);
+    }
+
+    /**
+     * Records an accusation
+     *
+     * @param suspect the accused suspect
+     * @param weapon the accused weapon
+     * @param room the accused room
+     * @throws UncheckedIOException if the journal cannot be written
+     */
+    void accused(Suspect suspect, Weapon weapon, Room room) throws UncheckedIOException {
+        try {
+            out.writeByte(ACCUSED << CODE_BITS);
+            GameSnapshot.writeEnum(out, suspect);
+            GameSnapshot.writeEnum(out, weapon);
+            GameSnapshot.writeEnum(out, room);
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Records the end of the game with its final snapshot
+     *
+     * @param engine the game, which has ended
+     * @throws UncheckedIOException if the journal cannot be written
+     */
+    void ended(GameEngine engine) throws UncheckedIOException {
+        try {
+            byte[] snapshot = GameSnapshot.save(engine);
+            out.writeByte(ENDED << CODE_BITS);
+            out.writeShort(snapshot.length);
+            out.write(snapshot);
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void record(int kind, Command action) {
+        int code = codes[action.ordinal()];
+        if (code < 0) throw new IllegalArgumentException("Command does not use up a turn: " + action);
+        try {
+            out.writeByte(kind << CODE_BITS | code);
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+
+    /**
+     * Replays a journal, checking the end state of the replayed game against the recorded one if the game ended
+     *
+     * @param in the journal
+     * @return the replayed game
+     * @throws IOException if the journal cannot be read, is corrupt, or the replayed game does not play out as it was recorded
+     */
+    static GameEngine replay(InputStream in) throws IOException {
+        DataInputStream journal = new DataInputStream(in);
+        if (journal.readInt() != MAGIC) throw new IOException("Not a game journal");
+        int version = journal.readUnsignedByte();
+        if (version != VERSION) throw new IOException("Unsupported game journal version: " + version);
+        GameEngine engine = switch (journal.readUnsignedByte()) {
+            case NEW_GAME -> {
+                long seed = journal.readLong();
+                String name = journal.readUTF();
+                yield new GameEngine(name, journal.readUTF(), seed);
+            }
+            case RESTORED_GAME -> GameSnapshot.restore(journal.readNBytes(journal.readUnsignedShort()));
+            default -> throw new IOException("Corrupt game journal");
+        };
+
+        int record;
+        while ((record = journal.read()) >= 0) {
+            int kind = record >>> CODE_BITS;
+            if (kind == ENDED) {
+                byte[] recorded = journal.readNBytes(journal.readUnsignedShort());
+                if (!Arrays.equals(recorded, GameSnapshot.save(engine))) throw new IOException("Replay ended differently from the recorded game");
+                if (journal.read() >= 0) throw new IOException("Corrupt game journal");
+                break;
+            }
+            if (!engine.isGameActive()) throw new IOException("Replay ended before turn " + (engine.getTurns() + 1));
+            if (kind == ACCUSED) {
+                Suspect suspect = GameSnapshot.readEnum(journal, Suspect.values());
+                Weapon weapon = GameSnapshot.readEnum(journal, Weapon.values());
+                Room room = GameSnapshot.readEnum(journal, Room.values());
+                if (suspect == null || weapon == null || room == null) throw new IOException("Corrupt game journal");
+                engine.accuse(suspect, weapon, room);
+                continue;
+            }
+            int code = record & (1 << CODE_BITS) - 1;
+            if (code >= TURN_COMMANDS.length) throw new IOException("Corrupt game journal");
+            Command action = TURN_COMMANDS[code];
+            if (kind == DECLINED) {
+                engine.decline(action);
+            } else {
+                if (!engine.availableCommands().contains(action)) throw new IOException("Replay could not " + action + " on turn " + (engine.getTurns() + 1));
+                engine.apply(action);
+            }
+        }
+        return engine;
+    }
+
+    /**
+     * Replays the journal in the given file
+     *
+     * @param file the journal
+     * @return the replayed game
+     * @throws IOException if the journal cannot be read, is corrupt, or the replayed game does not play out as it was recorded
+     */
+    static GameEngine replay(Path file) throws IOException {
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(file))) {
+            return replay(in);
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        // Journals can be given as files or directories of journals, defaulting to the journal directory
+        List<Path> journals = new ArrayList<>();
+        for (String arg : args.length > 0 ? args : new String[] {JOURNAL_DIRECTORY.toString()}) {
+            Path path = Path.of(arg);
+            if (!Files.isDirectory(path)) {
+                journals.add(path);
+                continue;
+            }
+            try (Stream<Path> files = Files.list(path)) {
+                files.filter((a) -> a.toString().endsWith(EXTENSION)).sorted().forEach(journals::add);
+            }
+        }
+
+        long start = System.nanoTime();
+        int failures = 0;
+        for (Path journal : journals) {
+            try {
+                replay(journal);
+            } catch (IOException | RuntimeException e) {
+                failures++;
+                System.out.println(journal + ": " + e.getMessage());
+            }
+        }
+        System.out.printf("Replayed %d journals in %d ms, %d failed%n", journals.size(), (System.nanoTime() - start) / 1_000_000, failures);
+        if (failures > 0) System.exit(1);
+    }
+}
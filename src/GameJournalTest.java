@@ -0,0 +1,101 @@
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import org.junit.Test;
+
+/**
+ * The {@code GameJournalTest} class provides tests for journaling games and replaying them
+ *
+ * @author Alexander Chang
+ * @version 1.5, 10/17/2026
+ * @since 1.5
+ */
+public class GameJournalTest {
+
+    /**
+     * Plays the given number of turns of random commands, declining some of them
+     */
+    private static void play(GameEngine engine, GameRandom choices, int turns) {
+        for (int turn = 0; turn < turns && engine.isGameActive(); turn++) {
+            ArrayList<Command> options = new ArrayList<>(engine.availableCommands());
+            options.remove(Command.ACCUSE);
+            Command action = options.get(choices.nextInt(options.size()));
+            if (choices.nextDouble() < 0.1) engine.decline(action);
+            else engine.apply(action);
+        }
+    }
+
+    private static void assertReplayMatches(GameEngine engine, ByteArrayOutputStream journal) throws IOException {
+        GameEngine replayed = GameJournal.replay(new ByteArrayInputStream(journal.toByteArray()));
+        assertArrayEquals(GameSnapshot.save(engine), GameSnapshot.save(replayed));
+        assertEquals(GameText.statistics(engine), GameText.statistics(replayed));
+    }
+
+    @Test
+    public void replayReachesRecordedEnd() throws IOException {
+        for (long seed = 0; seed < 20; seed++) {
+            GameEngine engine = new GameEngine("Tester", "white", seed);
+            ByteArrayOutputStream journal = new ByteArrayOutputStream();
+            engine.setJournal(new GameJournal(journal, engine));
+            // Some games time out and the rest end with an accusation
+            GameRandom choices = new GameRandom(seed);
+            play(engine, choices, seed % 2 == 0 ? 300 : 100);
+            if (engine.isGameActive()) engine.accuse(Suspect.values()[choices.nextInt(6)], Weapon.values()[choices.nextInt(6)], Room.KITCHEN);
+            assertFalse(engine.isGameActive());
+            assertReplayMatches(engine, journal);
+        }
+    }
+
+    @Test
+    public void replaysGamesJournaledPartWayThrough() throws IOException {
+        GameEngine engine = new GameEngine("Tester", "blue", 7);
+        GameRandom choices = new GameRandom(7);
+        play(engine, choices, 40);
+        ByteArrayOutputStream journal = new ByteArrayOutputStream();
+        engine.setJournal(new GameJournal(journal, engine));
+        play(engine, choices, 40);
+        // A game still in progress replays to where it was left
+        assertReplayMatches(engine, journal);
+    }
+
+    @Test(expected = IOException.class)
+    public void detectsReplaysThatDiverge() throws IOException {
+        GameEngine engine = new GameEngine("Tester", "green", 3);
+        ByteArrayOutputStream journal = new ByteArrayOutputStream();
+        engine.setJournal(new GameJournal(journal, engine));
+        play(engine, new GameRandom(3), 300);
+        byte[] recorded = journal.toByteArray();
+        // Recording a different seed plays out a different game from the same commands
+        recorded[12]++;
+        GameJournal.replay(new ByteArrayInputStream(recorded));
+    }
+
+    @Test
+    public void gameCarriesOnWhenJournalCannotBeWritten() throws IOException {
+        int[] failedWrites = {0};
+        boolean[] failing = {false};
+        OutputStream out = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                if (!failing[0]) return;
+                failedWrites[0]++;
+                throw new IOException("Disk full");
+            }
+        };
+        GameEngine engine = new GameEngine("Tester", "plum", 5);
+        engine.setJournal(new GameJournal(out, engine));
+        failing[0] = true;
+        play(engine, new GameRandom(5), 300);
+        if (engine.isGameActive()) engine.accuse(Suspect.values()[0], Weapon.values()[0], Room.KITCHEN);
+        assertFalse(engine.isGameActive());
+        assertTrue(engine.getTurns() > 1);
+        // The journal is given up on after its first failed write
+        assertEquals(1, failedWrites[0]);
+    }
+}
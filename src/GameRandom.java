@@ -0,0 +1,85 @@
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * The {@code GameRandom} class is the random source for a single game.
+ * It implements the SplitMix64 generator used by {@code java.util.SplittableRandom}, keeping its whole state in one {@code long},
+ * so that every game owns an uncontended generator and the same seed always reproduces the same game.
+ *
+ * @author Alexander Chang
+ * @version 1.5, 10/17/2026
+ * @since 1.5
+ */
+public class GameRandom {
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private final long seed;
+    private long state;
+
+    /**
+     * Creates a random source with an arbitrary seed
+     */
+    GameRandom() {
+        this(ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * Creates a random source that produces the same sequence for the same seed
+     *
+     * @param seed the seed of the sequence
+     */
+    GameRandom(long seed) {
+        this(seed, seed);
+    }
+
+    /**
+     * Creates a random source that continues a sequence from a saved state
+     *
+     * @param seed the seed the sequence started from
+     * @param state the state of the sequence, as returned by {@link #getState()}
+     */
+    GameRandom(long seed, long state) {
+        this.seed = seed;
+        this.state = state;
+    }
+
+    /**
+     * Returns the next pseudorandom {@code long}
+     *
+     * @return the next value in the sequence
+     */
+    long nextLong() {
+        long z = (state += GOLDEN_GAMMA);
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Returns the next pseudorandom {@code double} between 0 (inclusive) and 1 (exclusive), in place of {@code Math.random()}
+     *
+     * @return the next value in the sequence
+     */
+    double nextDouble() {
+        return (nextLong() >>> 11) * 0x1.0p-53;
+    }
+
+    /**
+     * Returns the next pseudorandom {@code int} between 0 (inclusive) and {@code bound} (exclusive)
+     *
+     * @param bound the upper bound of the value
+     * @return the next value in the sequence
+     * @throws IllegalArgumentException if {@code bound} is negative or zero
+     */
+    int nextInt(int bound) throws IllegalArgumentException {
+        if (bound <= 0) throw new IllegalArgumentException("Illegal random bound");
+        return (int) (((nextLong() >>> 32) * bound) >>> 32);
+    }
+
+    long getSeed() {
+        return seed;
+    }
+
+    long getState() {
+        return state;
+    }
+}
@@ -0,0 +1,93 @@
+import java.io.Closeable;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.NoSuchElementException;
+
+/**
+ * The {@code GameServer} class serves Clue 2.0 over TCP, giving each connection its own game session on a virtual thread.
+ * Every session has its own {@code Simulation}, reading the lines sent over its socket and printing through a {@code SocketTerminal},
+ * so a single JVM can host many players at once. Remote sessions cannot save or load games, since every player would share
+ * the same save directory on the server.
+ *
+ * @author Alexander Chang
+ * @version 1.5, 10/17/2026
+ * @since 1.5
+ */
+public class GameServer implements Closeable {
+    // The number of connections that can wait to be accepted during a burst of users
+    private static final int BACKLOG = 1024;
+
+    private final ServerSocket server;
+    private final Typewriter.Speed speed;
+    private final int loadingStepMillis;
+
+    /**
+     * Creates a server listening on the given local port
+     *
+     * @param port the port to listen on, or 0 for any free port
+     * @param speed the speed at which sessions type out rolling text
+     * @param loadingStepMillis the length of each step of the loading animation in sessions
+     * @throws IOException if the port cannot be opened
+     */
+    GameServer(int port, Typewriter.Speed speed, int loadingStepMillis) throws IOException {
+        server = new ServerSocket(port, BACKLOG, InetAddress.getLoopbackAddress());
+        this.speed = speed;
+        this.loadingStepMillis = loadingStepMillis;
+    }
+
+    /**
+     * Accepts connections until the server is closed, starting a session for each
+     */
+    void serve() {
+        while (!server.isClosed()) {
+            try {
+                Socket socket = server.accept();
+                Thread.ofVirtual().name("Session " + socket.getRemoteSocketAddress()).start(() -> runSession(socket));
+            } catch (IOException e) {
+                if (!server.isClosed()) System.err.println("Could not accept connection: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Plays a game over the given connection, closing it when the game ends or the user disconnects
+     *
+     * @param socket the connection of the user
+     */
+    private void runSession(Socket socket) {
+        try (socket) {
+            // Closing the input of a socket closes the whole socket, which would cut off the rest of the game once the user stops sending
+            InputStream in = new FilterInputStream(socket.getInputStream()) {
+                @Override
+                public void close() {}
+            };
+            new Simulation(new SocketTerminal(socket), in, speed, loadingStepMillis);
+        } catch (IOException | UncheckedIOException | NoSuchElementException e) {
+            // The user disconnected
+        }
+    }
+
+    int getPort() {
+        return server.getLocalPort();
+    }
+
+    @Override
+    public void close() throws IOException {
+        server.close();
+    }
+
+    public static void main(String[] args) throws Exception {
+        // The port can be given as the first argument and the typing speed as the second
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 4000;
+        Typewriter.Speed speed = args.length > 1 ? Typewriter.Speed.valueOf(args[1].toUpperCase()) : Typewriter.Speed.FAST;
+        try (GameServer server = new GameServer(port, speed, 1000)) {
+            System.out.println("Serving Clue 2.0 on port " + server.getPort());
+            server.serve();
+        }
+    }
+}
@@ -0,0 +1,42 @@
+import static org.junit.Assert.assertTrue;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import org.junit.Test;
+
+/**
+ * The {@code GameServerTest} class provides tests for serving games over TCP
+ *
+ * @author Alexander Chang
+ * @version 1.5, 10/17/2026
+ * @since 1.5
+ */
+public class GameServerTest {
+
+    private static String play(int port, String lines) throws IOException {
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port)) {
+            OutputStream out = socket.getOutputStream();
+            out.write(lines.getBytes(StandardCharsets.UTF_8));
+            out.flush();
+            socket.shutdownOutput();
+            InputStream in = socket.getInputStream();
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    @Test(timeout = 10000)
+    public void sessionsAreIndependent() throws Exception {
+        try (GameServer server = new GameServer(0, Typewriter.Speed.INSTANT, 0)) {
+            Thread.ofVirtual().start(server::serve);
+            String first = play(server.getPort(), "yes\n");
+            String second = play(server.getPort(), "no\r\ndone\r\n");
+            assertTrue(first.contains("Please find a console that supports ANSI support codes"));
+            assertTrue(second.contains("Please ensure that all the above numbers"));
+            assertTrue(second.contains("Welcome to Clue 2.0"));
+            assertTrue(second.contains("\r\n"));
+        }
+    }
+}
@@ -0,0 +1,388 @@
+import java.util.ArrayDeque;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * The {@code GameSession} class plays a game one line of input at a time, for servers that cannot set aside a thread for each user.
+ * Where {@code Simulation} waits inside its prompt loops, a session remembers which prompt it is waiting on and returns the output
+ * for each line as soon as the line is handled. Text is printed at once rather than typed out, since nothing runs between lines.
+ * The steps and wording of the game come from {@code GameFlow} and {@code GameText}, so a session asks what {@code Simulation} asks,
+ * except that games cannot be saved or loaded on a server shared by many users.
+ *
+ * @author Alexander Chang
+ * @version 1.5, 10/17/2026
+ * @since 1.5
+ */
+public class GameSession {
+    /**
+     * The prompts a session can be waiting on
+     */
+    enum Prompt {
+        ANSI_CHECK,
+        TERMINAL_CHECK,
+        MENU,
+        HELP,
+        NAME,
+        COLOR,
+        COMMAND,
+        CONFIRM,
+        SUSPECT,
+        WEAPON,
+        ROOM,
+        CONTINUE,
+        ACKNOWLEDGE,
+        ENDED
+    }
+
+    /**
+     * Text shown over the map until the user presses enter, or until they type the acknowledgement if it shows results
+     */
+    private record Page(String text, boolean needsAcknowledgement) {}
+
+    private static final String CLEAR_SCREEN = "\033[H\033[2J";
+
+    // The output for the line being handled, reused for every line
+    private final StringBuilder out = new StringBuilder();
+    // Redraws only the parts of the map and command menu that changed since the last turn
+    private final FrameRenderer screen = new FrameRenderer(MapView.ROWS, MapView.COLUMNS);
+    // Text waiting to be shown, each until the user moves on
+    private final ArrayDeque<Page> pages = new ArrayDeque<>();
+    private Prompt prompt = Prompt.ANSI_CHECK;
+    private String name;
+    private MapView mapView;
+    private GameEngine engine;
+    // The command waiting on the user's confirmation
+    private Command pendingCommand;
+    // Anything entered after the last command, or null if nothing was
+    private String commandArgument;
+    private Suspect guessedSuspect;
+    private Weapon guessedWeapon;
+
+    /**
+     * Asks the user whether their terminal supports ANSI escape codes, the first step of every game
+     *
+     * @return the output to send to the user
+     */
+    String start() {
+        out.setLength(0);
+        out.append(CLEAR_SCREEN).append(GameText.ansiCheckHeading()).append('\n');
+        out.append(String.join("", GameText.ansiCheck())).append('\n');
+        out.append(GameText.ansiQuestion()).append("\n> ");
+        return out.toString();
+    }
+
+    /**
+     * Handles a line entered by the user, answering whichever prompt the session is waiting on
+     *
+     * @param line the line entered by the user, without its line break
+     * @return the output to send to the user, which is empty once the game has ended
+     */
+    String receive(String line) {
+        out.setLength(0);
+        switch (prompt) {
+            case ANSI_CHECK -> checkANSI(line);
+            case TERMINAL_CHECK -> checkTerminal(line);
+            case MENU -> chooseMenuOption(line);
+            case HELP -> agreeToHelp(line);
+            case NAME -> enterName(line);
+            case COLOR -> chooseColor(line);
+            case COMMAND -> chooseCommand(line);
+            case CONFIRM -> confirm(line);
+            case SUSPECT, WEAPON, ROOM -> accuse(line);
+            case CONTINUE -> showNext();
+            case ACKNOWLEDGE -> {
+                if (line.equalsIgnoreCase(GameText.ACKNOWLEDGEMENT)) showNext();
+                else out.append('\n').append(GameText.ACKNOWLEDGE).append("\n> ");
+            }
+            case ENDED -> {}
+        }
+        return out.toString();
+    }
+
+    /**
+     * Returns whether the game has ended, after which the session takes no more input
+     *
+     * @return whether the game has ended
+     */
+    boolean isEnded() {
+        return prompt == Prompt.ENDED;
+    }
+
+    Prompt getPrompt() {
+        return prompt;
+    }
+
+    /**
+     * Reads a yes or no answer
+     *
+     * @return the answer, or {@code null} if the line is neither
+     */
+    private static Command yesOrNo(String line) {
+        Command answer = Command.lookup(line);
+        return answer == Command.YES || answer == Command.NO ? answer : null;
+    }
+
+    private void checkANSI(String line) {
+        Command answer = yesOrNo(line);
+        if (answer == null) {
+            out.append(CLEAR_SCREEN).append(GameText.ansiQuestion()).append(" (yes/no)\n> ");
+        } else if (answer == Command.YES) {
+            out.append(GameText.ansiUnsupported()).append('\n');
+            prompt = Prompt.ENDED;
+        } else {
+            showTerminalCheck();
+        }
+    }
+
+    private void showTerminalCheck() {
+        prompt = Prompt.TERMINAL_CHECK;
+        String[] instructions = GameText.terminalCheck();
+        out.append(CLEAR_SCREEN);
+        for (int i = 1; i <= GameFlow.TERMINAL_HEIGHT - instructions.length - 1; i++) out.append(i).append('\n');
+        for (String instruction : instructions) out.append(instruction).append('\n');
+        out.append("> ");
+    }
+
+    private void checkTerminal(String line) {
+        if (!line.equals("done")) {
+            showTerminalCheck();
+            return;
+        }
+        out.append(CLEAR_SCREEN).append(GameText.TITLE).append('\n');
+        showMenu(null);
+    }
+
+    private void showMenu(String notice) {
+        prompt = Prompt.MENU;
+        if (notice != null) out.append(notice).append('\n');
+        out.append(GameText.MENU_PROMPT).append('\n').append(Command.menuFor(GameFlow.mainMenu(false))).append("> ");
+    }
+
+    private void chooseMenuOption(String line) {
+        Command command = Command.lookup(line);
+        if (command == null || !GameFlow.mainMenu(false).contains(command)) {
+            out.append(CLEAR_SCREEN);
+            showMenu(GameText.CANNOT_DO_THAT);
+        } else if (command == Command.ABOUT) {
+            pages.add(new Page(CLEAR_SCREEN + GameText.about() + "\n\n" + GameText.RETURN_TO_MENU, false));
+            showNext();
+        } else {
+            prompt = Prompt.HELP;
+            out.append(CLEAR_SCREEN);
+            for (String[] paragraph : GameText.introduction()) out.append(String.join("", paragraph)).append('\n');
+            out.append(GameText.HELP_QUESTION).append("\n> ");
+        }
+    }
+
+    private void agreeToHelp(String line) {
+        Command answer = yesOrNo(line);
+        if (answer == null) {
+            out.append(CLEAR_SCREEN).append(GameText.HELP_QUESTION).append(" (yes/no)\n> ");
+        } else if (answer == Command.NO) {
+            out.append(CLEAR_SCREEN).append(String.join("", GameText.farewell())).append('\n');
+            prompt = Prompt.ENDED;
+        } else {
+            prompt = Prompt.NAME;
+            out.append(CLEAR_SCREEN).append(String.join("", GameText.nameQuestion())).append("\n> ");
+        }
+    }
+
+    private void enterName(String line) {
+        if (!GameFlow.isValidName(line)) {
+            out.append(CLEAR_SCREEN).append(String.join("", GameText.nameProblem(line))).append("\n> ");
+            return;
+        }
+        name = line;
+        prompt = Prompt.COLOR;
+        out.append(CLEAR_SCREEN).append(String.join("", GameText.colorQuestion(name))).append("\n> ");
+    }
+
+    private void chooseColor(String line) {
+        if (!GameFlow.COLORS.contains(line)) {
+            out.append(GameText.NOT_AN_OPTION).append("\n> ");
+            return;
+        }
+        engine = new GameEngine(name, line);
+        mapView = new MapView(line);
+        StringBuilder briefing = new StringBuilder(CLEAR_SCREEN).append(String.join("", GameText.colorChosen())).append("\n\n");
+        for (String[] paragraph : GameText.arrival()) briefing.append(String.join("", paragraph)).append("\n\n");
+        GameText.tips().forEach((a) -> briefing.append(a).append('\n'));
+        pages.add(new Page(briefing.append('\n').append(GameText.BEGIN).toString(), false));
+        showNext();
+    }
+
+    private void chooseCommand(String line) {
+        Command command = Command.parse(line);
+        if (command == null || !GameFlow.turnOptions(engine, false).contains(command)) {
+            showFrame(GameText.CANNOT_DO_THAT);
+            return;
+        }
+        commandArgument = Command.argumentOf(line);
+        if (GameFlow.needsConfirmation(command)) {
+            pendingCommand = command;
+            prompt = Prompt.CONFIRM;
+            screen.invalidate();
+            out.append(CLEAR_SCREEN).append(String.join("", GameText.confirmation(command, engine))).append("\n> ");
+            return;
+        }
+        switch (command) {
+            case UP, DOWN, LEFT, RIGHT -> {
+                int count = Command.countOf(line);
+                play(count > 1 ? engine.applyMoves(command, count) : engine.apply(command));
+            }
+            case GOTO -> {
+                String problem = GameText.travelProblem(commandArgument, engine);
+                if (problem != null) showFrame(problem);
+                else play(engine.travelTo(Room.named(commandArgument)));
+            }
+            case NOTES -> {
+                StringBuilder notes = new StringBuilder(CLEAR_SCREEN).append("===== Your Notes =====\n");
+                GameText.notes(engine.getDeductions()).forEach((a) -> notes.append(a).append('\n'));
+                pages.add(new Page(notes.append('\n').append(GameText.RETURN_TO_MAP).toString(), false));
+                showNext();
+            }
+            default -> play(engine.apply(command));
+        }
+    }
+
+    private void confirm(String line) {
+        Command answer = yesOrNo(line);
+        if (answer == null) {
+            out.append(CLEAR_SCREEN).append(String.join("", GameText.confirmation(pendingCommand, engine))).append(" (yes/no)\n> ");
+            return;
+        }
+        if (answer == Command.YES && pendingCommand == Command.ACCUSE) {
+            prompt = Prompt.SUSPECT;
+            out.append(CLEAR_SCREEN).append(String.join("", GameText.suspectQuestion())).append("\n> ");
+            return;
+        }
+        if (answer == Command.YES) {
+            play(engine.apply(pendingCommand));
+            return;
+        }
+        String[] refusal = GameText.refusal(pendingCommand);
+        if (refusal.length > 0) pages.add(new Page(String.join("", refusal), false));
+        play(engine.decline(pendingCommand));
+    }
+
+    private void accuse(String line) {
+        switch (prompt) {
+            case SUSPECT -> {
+                guessedSuspect = GameFlow.suspectNamed(line);
+                if (guessedSuspect == null) {
+                    out.append(GameText.NOT_AN_OPTION).append("\n> ");
+                    return;
+                }
+                prompt = Prompt.WEAPON;
+                out.append('\n').append(String.join("", GameText.weaponQuestion())).append("\n> ");
+            }
+            case WEAPON -> {
+                guessedWeapon = GameFlow.weaponNamed(line);
+                if (guessedWeapon == null) {
+                    out.append(GameText.NOT_AN_OPTION).append("\n> ");
+                    return;
+                }
+                prompt = Prompt.ROOM;
+                out.append('\n').append(String.join("", GameText.roomQuestion())).append("\n> ");
+            }
+            default -> {
+                Room guessedRoom = GameFlow.accusableRoomNamed(line);
+                if (guessedRoom == null) {
+                    out.append(GameText.NOT_AN_OPTION).append("\n> ");
+                    return;
+                }
+                play(engine.accuse(guessedSuspect, guessedWeapon, guessedRoom));
+            }
+        }
+    }
+
+    /**
+     * Queues the text telling the user about the given events, then shows the first of it or the map if there is none
+     *
+     * @param events the events produced by the turn
+     */
+    private void play(List<GameEvent> events) {
+        for (GameEvent event : events) {
+            switch (event.getType()) {
+                case INVENTORY_OPENED -> {
+                    StringBuilder inventory = new StringBuilder(CLEAR_SCREEN).append("===== Your Inventory =====\n");
+                    GameText.inventory(engine).forEach((a) -> inventory.append(a).append('\n'));
+                    pages.add(new Page(inventory.append('\n').append(GameText.RETURN_TO_MAP).toString(), false));
+                }
+                case LOG_OPENED -> queueDetectivesLog(commandArgument);
+                case DNA_RESULT, FINGERPRINT_RESULT, CAMERA_RESULT -> {
+                    String[] frame = GameText.resultFrame(event);
+                    pages.add(new Page(CLEAR_SCREEN + frame[0] + '\n' + GameText.describe(event)[0] + '\n' + frame[1] + "\n\n" + GameText.ACKNOWLEDGE, true));
+                }
+                default -> {
+                    String[] sentences = GameText.describe(event);
+                    if (sentences.length > 0) pages.add(new Page((event.getType() == GameEvent.Type.ENTERED_ROOM ? CLEAR_SCREEN : "") + String.join("", sentences), false));
+                }
+            }
+        }
+        // The answer is only revealed once the user is ready
+        if (!engine.isGameActive() && !engine.isTookTooLong()) pages.add(new Page(CLEAR_SCREEN + String.join("", GameText.reveal()), false));
+        showNext();
+    }
+
+    private void queueDetectivesLog(String filter) {
+        DetectivesLog log = engine.getDetectivesLog();
+        BitSet selection = filter == null ? log.all() : log.select(filter);
+        if (selection == null || selection.isEmpty()) {
+            pages.add(new Page(CLEAR_SCREEN + GameText.logHeading(filter, 0, 0) + '\n' + GameText.logEmpty(filter, selection != null) + "\n\n" + GameText.RETURN_TO_MAP, false));
+            return;
+        }
+        int count = log.pageCount(selection, GameFlow.LOG_PAGE_SIZE);
+        for (int page = 0; page < count; page++) {
+            pages.add(new Page(CLEAR_SCREEN + GameText.logHeading(filter, page, count) + '\n' + log.renderPage(selection, page, GameFlow.LOG_PAGE_SIZE) + '\n' +
+                (page < count - 1 ? GameText.NEXT_PAGE : GameText.RETURN_TO_MAP), false));
+        }
+    }
+
+    /**
+     * Shows the next queued text, or once there is none, the main menu if no game has begun, the map if the game goes on, or the results if it has ended
+     */
+    private void showNext() {
+        if (!pages.isEmpty()) {
+            // Anything shown over the map means the next map has to be drawn in full
+            screen.invalidate();
+            Page page = pages.remove();
+            out.append(page.text());
+            if (page.needsAcknowledgement()) out.append("\n> ");
+            prompt = page.needsAcknowledgement() ? Prompt.ACKNOWLEDGE : Prompt.CONTINUE;
+        } else if (engine == null) {
+            out.append(CLEAR_SCREEN);
+            showMenu(null);
+        } else if (engine.isGameActive()) {
+            showFrame(null);
+        } else {
+            end();
+        }
+    }
+
+    private void showFrame(String notice) {
+        mapView.draw(screen, engine.getXPos(), engine.getYPos());
+        screen.clearLines();
+        if (notice != null) screen.addLine(notice);
+        screen.addLine(GameText.COMMAND_PROMPT);
+        for (Command command : GameFlow.turnOptions(engine, false)) screen.addLine(command.getMenuLine());
+        screen.render(out);
+        out.append("> ");
+        prompt = Prompt.COMMAND;
+    }
+
+    private void end() {
+        prompt = Prompt.ENDED;
+        if (engine.isTookTooLong()) {
+            out.append(CLEAR_SCREEN).append(String.join("", GameText.timedOut(name)));
+        } else {
+            out.append('\n').append(GameText.ANSWER_HEADER).append('\n');
+            for (String[] row : GameText.answers(engine)) out.append(row[0]).append(row[1]).append('\n');
+            out.append('\n').append(GameText.verdict(engine, name));
+        }
+        out.append("\n\n");
+        GameText.summary(engine).forEach((a) -> out.append(a).append('\n'));
+        out.append(GameText.separator(engine)).append('\n');
+        GameText.statistics(engine).forEach((a) -> out.append(a).append('\n'));
+    }
+}
@@ -0,0 +1,140 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import org.junit.Test;
+
+/**
+ * The {@code GameSessionTest} class provides tests for playing a game one line at a time and serving it from a selector
+ *
+ * @author Alexander Chang
+ * @version 1.5, 10/17/2026
+ * @since 1.5
+ */
+public class GameSessionTest {
+
+    /**
+     * Answers the checks and menus that come before the user's name, so that the session is waiting on the name
+     */
+    private static GameSession atName() {
+        GameSession session = new GameSession();
+        session.start();
+        session.receive("no");
+        session.receive("done");
+        session.receive("begin");
+        session.receive("yes");
+        return session;
+    }
+
+    @Test
+    public void promptsAdvanceWithEachLine() {
+        GameSession session = new GameSession();
+        assertTrue(session.start().contains("Do you see any additional text"));
+        assertTrue(session.receive("maybe").contains("(yes/no)"));
+        assertTrue(session.receive("no").contains("Please ensure that all the above numbers"));
+        assertEquals(GameSession.Prompt.TERMINAL_CHECK, session.getPrompt());
+        assertTrue(session.receive("done").contains("Please select from the options below:"));
+        assertTrue(session.receive("load").contains("You can't do that right now."));
+        assertTrue(session.receive("about").contains("To return to the main menu, press enter."));
+        assertTrue(session.receive("").contains("Please select from the options below:"));
+        assertTrue(session.receive("begin").contains("Are you willing to help?"));
+        assertTrue(session.receive("yes").contains("what's your name?"));
+        assertTrue(session.receive("x").contains("It seems too short."));
+        assertEquals(GameSession.Prompt.NAME, session.getPrompt());
+        session.receive("Tester");
+        assertTrue(session.receive("orange").contains("That's not an option right now."));
+        session.receive("scarlet");
+        assertEquals(GameSession.Prompt.CONTINUE, session.getPrompt());
+        String frame = session.receive("");
+        assertTrue(frame.contains("So, detective, what do you want to do?"));
+        assertEquals(GameSession.Prompt.COMMAND, session.getPrompt());
+        assertTrue(session.receive("fly").contains("You can't do that right now."));
+    }
+
+    @Test
+    public void batchesCountedMovesAndTrips() {
+        GameSession session = atName();
+        session.receive("Tester");
+        session.receive("scarlet");
+        session.receive("");
+        assertEquals(1, Command.countOf("d"));
+        assertEquals(0, Command.countOf("1000d"));
+        assertEquals(null, Command.parse("5search"));
+        assertEquals(12, Command.countOf("12D"));
+        assertEquals(Command.RIGHT, Command.parse("12D"));
+        assertEquals(Command.INVENTORY, Command.parse("Inv"));
+        assertEquals(Command.GOTO, Command.parse("GoTo Kitchen"));
+        assertEquals(null, Command.parse("search  now"));
+        assertTrue(session.receive("0s").contains("You can't do that right now."));
+        assertTrue(session.receive("goto attic").contains("There is no room called \"attic\"."));
+        session.receive("3s");
+        assertEquals(GameSession.Prompt.COMMAND, session.getPrompt());
+        assertTrue(session.receive("goto dining").contains("You have entered the dining room."));
+        assertTrue(session.receive("").contains("So, detective, what do you want to do?"));
+        assertTrue(session.receive("goto dining room").contains("You're already in the dining room."));
+    }
+
+    @Test
+    public void gameTimesOut() {
+        GameSession session = atName();
+        session.receive("Tester");
+        session.receive("green");
+        String[] moves = {"w", "a", "s", "d", "d", "s"};
+        String output = "";
+        for (int i = 0; i < 100000 && !session.isEnded(); i++) {
+            output = session.receive(session.getPrompt() == GameSession.Prompt.COMMAND ? moves[i % moves.length] : "");
+        }
+        assertTrue(session.isEnded());
+        assertTrue(output.contains("you took too long"));
+        assertTrue(output.contains("Turns taken: "));
+        assertEquals("", session.receive("w"));
+    }
+
+    private static void serveInBackground(NioGameServer server) {
+        Thread.ofVirtual().start(() -> {
+            try {
+                server.serve();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private static String play(int port, byte[] input) throws IOException {
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port)) {
+            OutputStream out = socket.getOutputStream();
+            out.write(input);
+            out.flush();
+            socket.shutdownOutput();
+            InputStream in = socket.getInputStream();
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    @Test(timeout = 10000)
+    public void serverFeedsLinesToSessions() throws Exception {
+        try (NioGameServer server = new NioGameServer(0)) {
+            serveInBackground(server);
+            String output = play(server.getPort(), "no\r\ndone\r\nbegin\r\nyes\r\nTester\r\nplum\n\n".getBytes(StandardCharsets.UTF_8));
+            assertTrue(output.contains("Nice to meet you, detective Tester."));
+            assertTrue(output.contains("So, detective, what do you want to do?\r\n"));
+        }
+    }
+
+    @Test(timeout = 10000)
+    public void malformedInputIsAnsweredAndOtherUsersAreStillServed() throws Exception {
+        try (NioGameServer server = new NioGameServer(0)) {
+            serveInBackground(server);
+            String malformed = play(server.getPort(), new byte[] {(byte) 0xFF, (byte) 0xFE, '\n', 'n', 'o', '\n'});
+            assertTrue(malformed.contains("(yes/no)"));
+            assertTrue(malformed.contains("Please ensure that all the above numbers"));
+            String output = play(server.getPort(), "no\n".getBytes(StandardCharsets.UTF_8));
+            assertTrue(output.contains("Please ensure that all the above numbers"));
+        }
+    }
+}
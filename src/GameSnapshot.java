@@ -0,0 +1,266 @@
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * The {@code GameSnapshot} class saves a game in progress as a compact, versioned binary snapshot and restores it.
+ * A snapshot holds everything a {@code GameEngine} needs to carry on where it left off, including the state of its random source,
+ * so a restored game plays out exactly as the original would have. Enums are stored by ordinal in a single byte,
+ * so most games take only a few hundred bytes.
+ *
+ * @author Alexander Chang
+ * @version 1.5, 10/17/2026
+ * @since 1.5
+ */
+public final class GameSnapshot {
+    // "CLUE" in ASCII
+    private static final int MAGIC = 0x434C5545;
+    // Incremented whenever the format changes, so that older snapshots are rejected instead of misread
+    static final int VERSION = 2;
+    static final Path SAVE_DIRECTORY = Path.of("saves");
+    private static final String EXTENSION = ".clue";
+
+    // Kinds of saved evidence samples
+    private static final int NO_SAMPLE = 0;
+    private static final int DNA_SAMPLE = 1;
+    private static final int FINGERPRINT_SAMPLE = 2;
+
+    private GameSnapshot() {}
+
+    /**
+     * Saves the given game as a snapshot
+     *
+     * @param engine the game to save
+     * @return the snapshot
+     */
+    static byte[] save(GameEngine engine) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(512);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(MAGIC);
+            out.writeByte(VERSION);
+            engine.writeTo(out);
+        } catch (IOException e) {
+            // Writing to memory cannot fail
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Restores a game from a snapshot
+     *
+     * @param snapshot the snapshot, as returned by {@link #save(GameEngine)}
+     * @return the restored game
+     * @throws IOException if the snapshot is not a saved game, was saved in another version of the format, or is corrupt
+     */
+    static GameEngine restore(byte[] snapshot) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(snapshot));
+        if (in.readInt() != MAGIC) throw new IOException("Not a saved game");
+        int version = in.readUnsignedByte();
+        if (version != VERSION) throw new IOException("Unsupported saved game version: " + version);
+        GameEngine engine = new GameEngine(in);
+        if (in.available() > 0) throw new IOException("Corrupt saved game");
+        return engine;
+    }
+
+    /**
+     * Saves the given game to a file, replacing the file at once so that a crash never leaves half a game behind
+     *
+     * @param engine the game to save
+     * @param file the file to save to
+     * @throws IOException if the file cannot be written
+     */
+    static void saveTo(GameEngine engine, Path file) throws IOException {
+        if (file.getParent() != null) Files.createDirectories(file.getParent());
+        Path partial = file.resolveSibling(file.getFileName() + ".partial");
+        Files.write(partial, save(engine));
+        Files.move(partial, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Restores a game from a file
+     *
+     * @param file the file the game was saved to
+     * @return the restored game
+     * @throws IOException if the file cannot be read or is not a saved game
+     */
+    static GameEngine loadFrom(Path file) throws IOException {
+        return restore(Files.readAllBytes(file));
+    }
+
+    /**
+     * Returns the file in the given save directory for a game saved under the given name
+     *
+     * @param directory the directory of saved games
+     * @param name the name the game is saved under
+     * @return the path of the file, with any characters other than letters, digits, dashes, and underscores replaced
+     */
+    static Path pathFor(Path directory, String name) {
+        return directory.resolve(name.toLowerCase().replaceAll("[^a-z0-9_-]", "_") + EXTENSION);
+    }
+
+    static void writeEnum(DataOutput out, Enum<?> value) throws IOException {
+        out.writeByte(value == null ? 0 : value.ordinal() + 1);
+    }
+
+    static <E extends Enum<E>> E readEnum(DataInput in, E[] values) throws IOException {
+        int ordinal = in.readUnsignedByte();
+        if (ordinal > values.length) throw new IOException("Corrupt saved game");
+        return ordinal == 0 ? null : values[ordinal - 1];
+    }
+
+    /**
+     * Reads an enum that the object being restored cannot do without
+     *
+     * @param in the input to read from
+     * @param values the values of the enum
+     * @return the value, which is never {@code null}
+     * @throws IOException if the input cannot be read or no value was saved
+     */
+    static <E extends Enum<E>> E readRequiredEnum(DataInput in, E[] values) throws IOException {
+        E value = readEnum(in, values);
+        if (value == null) throw new IOException("Corrupt saved game");
+        return value;
+    }
+
+    static void writeBoard(DataOutput out, BoardState board) throws IOException {
+        int UVClues = 0;
+        for (Room room : Room.values()) {
+            writeEnum(out, board.getItem(room));
+            writeEnum(out, board.getWeapon(room));
+            writeEnum(out, board.getWeaponFingerprints(room));
+            writeEnum(out, board.getDNA(room));
+            if (board.isUVCluePresent(room)) UVClues |= 1 << room.ordinal();
+        }
+        out.writeShort(UVClues);
+    }
+
+    static void readBoard(DataInput in, BoardState board) throws IOException {
+        for (Room room : Room.values()) {
+            board.setItem(room, readEnum(in, Item.values()));
+            board.setWeapon(room, readEnum(in, Weapon.values()));
+            board.setWeaponFingerprints(room, readEnum(in, Suspect.values()));
+            board.setDNA(room, readEnum(in, Suspect.values()));
+        }
+        int UVClues = in.readUnsignedShort();
+        for (Room room : Room.values()) board.setUVCluePresent(room, (UVClues & 1 << room.ordinal()) != 0);
+    }
+
+    static void writeDeductions(DataOutput out, Deductions deductions) throws IOException {
+        for (long word : deductions.toLongArray()) out.writeLong(word);
+    }
+
+    static void readDeductions(DataInput in, Deductions deductions) throws IOException {
+        long[] words = deductions.toLongArray();
+        for (int i = 0; i < words.length; i++) words[i] = in.readLong();
+        try {
+            deductions.setLongArray(words);
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Corrupt saved game", e);
+        }
+    }
+
+    static void writeSample(DataOutput out, EvidenceSample sample) throws IOException {
+        if (sample == null) {
+            out.writeByte(NO_SAMPLE);
+            return;
+        }
+        out.writeByte(sample instanceof FingerprintSample ? FINGERPRINT_SAMPLE : DNA_SAMPLE);
+        writeEnum(out, sample.getRoom());
+        writeEnum(out, sample.getSuspect());
+        if (sample instanceof FingerprintSample fingerprints) writeEnum(out, fingerprints.getWeapon());
+        out.writeByte(sample.getTurnsForAnalysis());
+    }
+
+    static <S extends EvidenceSample> S readSample(DataInput in, Class<S> kind) throws IOException {
+        EvidenceSample sample = switch (in.readUnsignedByte()) {
+            case NO_SAMPLE -> null;
+            // A DNA sample can be inconclusive, but fingerprints are only ever lifted off a weapon, which always carries the murderer's
+            case DNA_SAMPLE -> new DNASample(readRequiredEnum(in, Room.values()), readEnum(in, Suspect.values()), in.readUnsignedByte());
+            case FINGERPRINT_SAMPLE -> {
+                Room room = readRequiredEnum(in, Room.values());
+                Suspect suspect = readRequiredEnum(in, Suspect.values());
+                yield new FingerprintSample(room, readRequiredEnum(in, Weapon.values()), suspect, in.readUnsignedByte());
+            }
+            default -> throw new IOException("Corrupt saved game");
+        };
+        if (sample != null && !kind.isInstance(sample)) throw new IOException("Corrupt saved game");
+        return kind.cast(sample);
+    }
+
+    static void writeFootage(DataOutput out, CameraResult footage) throws IOException {
+        writeEnum(out, footage.getRoom());
+        writeEnum(out, footage.getWeapon());
+        writeEnum(out, footage.getSuspect());
+        out.writeByte((footage.isRoomRedHerring() ? 1 : 0) | (footage.isWeaponRedHerring() ? 2 : 0) | (footage.isSuspectRedHerring() ? 4 : 0));
+        out.writeByte(footage.getTurnsForAnalysis());
+    }
+
+    static CameraResult readFootage(DataInput in) throws IOException {
+        Room room = readEnum(in, Room.values());
+        Weapon weapon = readEnum(in, Weapon.values());
+        Suspect suspect = readEnum(in, Suspect.values());
+        int redHerrings = in.readUnsignedByte();
+        return new CameraResult(room, (redHerrings & 1) != 0, weapon, (redHerrings & 2) != 0, suspect, (redHerrings & 4) != 0, in.readUnsignedByte());
+    }
+
+    /**
+     * Writes a lab result or camera footage that is waiting to be delivered
+     *
+     * @param out the output to write to
+     * @param result the result event
+     * @throws IOException if the output cannot be written
+     * @throws IllegalArgumentException if the event is not a lab result or camera footage
+     */
+    static void writeResult(DataOutput out, GameEvent result) throws IOException, IllegalArgumentException {
+        writeEnum(out, result.getType());
+        switch (result.getType()) {
+            case DNA_RESULT, FINGERPRINT_RESULT -> writeSample(out, result.getSample());
+            case CAMERA_RESULT -> writeFootage(out, result.getFootage());
+            default -> throw new IllegalArgumentException("Not a lab result: " + result);
+        }
+    }
+
+    static GameEvent readResult(DataInput in) throws IOException {
+        GameEvent.Type type = readRequiredEnum(in, GameEvent.Type.values());
+        return switch (type) {
+            case DNA_RESULT -> new GameEvent(type, readSample(in, DNASample.class));
+            case FINGERPRINT_RESULT -> new GameEvent(type, readSample(in, FingerprintSample.class));
+            case CAMERA_RESULT -> new GameEvent(type, readFootage(in));
+            default -> throw new IOException("Corrupt saved game");
+        };
+    }
+
+    static void writeLogEntry(DataOutput out, LogEntry entry) throws IOException {
+        writeEnum(out, entry.getType());
+        out.writeShort(entry.getTurn());
+        if (entry.getType() == LogEntry.Type.CAMERA_FOOTAGE) {
+            writeFootage(out, entry.getFootage());
+        } else {
+            writeEnum(out, entry.getRoom());
+            writeEnum(out, entry.getWeapon());
+            writeEnum(out, entry.getSuspect());
+        }
+    }
+
+    static LogEntry readLogEntry(DataInput in) throws IOException {
+        LogEntry.Type type = readRequiredEnum(in, LogEntry.Type.values());
+        int turn = in.readUnsignedShort();
+        if (type == LogEntry.Type.CAMERA_FOOTAGE) return new LogEntry(turn, readFootage(in));
+        Room room = readRequiredEnum(in, Room.values());
+        Weapon weapon = readEnum(in, Weapon.values());
+        Suspect suspect = readEnum(in, Suspect.values());
+        // The samples only carry what the entry records, since their analysis is over
+        if (type == LogEntry.Type.DNA_RESULT) return new LogEntry(turn, new DNASample(room, suspect, 0));
+        if (weapon == null || suspect == null) throw new IOException("Corrupt saved game");
+        return new LogEntry(turn, new FingerprintSample(room, weapon, suspect, 0));
+    }
+}
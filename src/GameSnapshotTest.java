@@ -0,0 +1,100 @@
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Test;
+
+/**
+ * The {@code GameSnapshotTest} class provides tests for saving and restoring games in progress
+ *
+ * @author Alexander Chang
+ * @version 1.5, 10/17/2026
+ * @since 1.5
+ */
+public class GameSnapshotTest {
+
+    /**
+     * Plays a turn, choosing actions in rooms more often than moves so that samples and results turn up
+     */
+    private static List<GameEvent> playTurn(GameEngine engine, GameRandom choices) {
+        ArrayList<Command> options = new ArrayList<>(engine.availableCommands());
+        options.remove(Command.ACCUSE);
+        ArrayList<Command> actions = new ArrayList<>(options);
+        actions.removeAll(List.of(Command.UP, Command.DOWN, Command.LEFT, Command.RIGHT, Command.DISCARD_DNA, Command.DISCARD_FINGERPRINTS));
+        List<Command> pool = !actions.isEmpty() && choices.nextDouble() < 0.5 ? actions : options;
+        return engine.apply(pool.get(choices.nextInt(pool.size())));
+    }
+
+    private static String playOut(GameEngine engine, GameRandom choices) {
+        StringBuilder events = new StringBuilder();
+        while (engine.isGameActive()) events.append(playTurn(engine, choices)).append('\n');
+        return events.toString();
+    }
+
+    @Test
+    public void restoredGamePlaysOnIdentically() throws IOException {
+        int savedWithResultsPending = 0;
+        for (long seed = 0; savedWithResultsPending < 3; seed++) {
+            assertTrue("No game submitted anything to the lab", seed < 2000);
+            GameEngine original = new GameEngine("Tester", "mustard", seed);
+            GameRandom choices = new GameRandom(seed);
+            // Save once something is on its way from the lab, or late in the game if nothing ever is
+            boolean resultsPending = false;
+            while (!resultsPending && original.getActionableTurns() < 200) {
+                resultsPending = playTurn(original, choices).stream().anyMatch((a) ->
+                    a.getType() == GameEvent.Type.DNA_SUBMITTED || a.getType() == GameEvent.Type.FINGERPRINTS_SUBMITTED || a.getType() == GameEvent.Type.CAMERAS_REQUESTED);
+            }
+            if (resultsPending) savedWithResultsPending++;
+
+            byte[] snapshot = GameSnapshot.save(original);
+            assertTrue(snapshot.length < 1024);
+            GameEngine restored = GameSnapshot.restore(snapshot);
+            assertArrayEquals(snapshot, GameSnapshot.save(restored));
+            assertEquals(original.getDetectivesLog().render(), restored.getDetectivesLog().render());
+            assertEquals(playOut(original, new GameRandom(-seed)), playOut(restored, new GameRandom(-seed)));
+            assertArrayEquals(GameSnapshot.save(original), GameSnapshot.save(restored));
+            assertEquals(GameText.statistics(original), GameText.statistics(restored));
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void rejectsOtherFiles() throws IOException {
+        byte[] snapshot = GameSnapshot.save(new GameEngine("Tester", "plum", 1));
+        snapshot[0] = 'X';
+        GameSnapshot.restore(snapshot);
+    }
+
+    @Test(expected = IOException.class)
+    public void rejectsTruncatedSnapshots() throws IOException {
+        byte[] snapshot = GameSnapshot.save(new GameEngine("Tester", "plum", 1));
+        GameSnapshot.restore(Arrays.copyOf(snapshot, snapshot.length - 3));
+    }
+
+    @Test(expected = IOException.class)
+    public void rejectsPositionsOffTheMap() throws IOException {
+        GameEngine engine = new GameEngine("Tester", "plum", 1);
+        byte[] snapshot = GameSnapshot.save(engine);
+        // The position follows the header, name, color, random state, donuts, flags, answers, guesses, and board
+        int position = 5 + 2 + "Tester".length() + 2 + "plum".length() + 16 + 2 + 6 + Room.values().length * 4 + 2;
+        assertEquals(engine.getXPos(), snapshot[position]);
+        snapshot[position] ^= (byte) 0x80;
+        GameSnapshot.restore(snapshot);
+    }
+
+    @Test(expected = IOException.class)
+    public void rejectsSamplesWithoutARoom() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        GameSnapshot.writeSample(new DataOutputStream(bytes), new DNASample(Room.KITCHEN, Suspect.values()[0], 3));
+        byte[] sample = bytes.toByteArray();
+        // The room follows the kind of sample
+        sample[1] = 0;
+        GameSnapshot.readSample(new DataInputStream(new ByteArrayInputStream(sample)), DNASample.class);
+    }
+}
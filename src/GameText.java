@@ -0,0 +1,505 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * The {@code GameText} class words the events and state of a game for the user, so that every way of playing tells the story the same way.
+ *
+ * @author Alexander Chang
+ * @version 1.5, 10/17/2026
+ * @since 1.5
+ */
+public final class GameText {
+    static final String TITLE = """
+        -----------------------
+          Welcome to Clue 2.0
+        -----------------------""";
+    static final String MENU_PROMPT = "Please select from the options below:";
+    static final String COMMAND_PROMPT = "So, detective, what do you want to do?";
+    static final String CANNOT_DO_THAT = "You can't do that right now.";
+    static final String NOT_AN_OPTION = "That's not an option right now.";
+    static final String HELP_QUESTION = "Are you willing to help?";
+    static final String BEGIN = "To begin, press enter.";
+    static final String RETURN_TO_MENU = "To return to the main menu, press enter.";
+    static final String RETURN_TO_MAP = "To return to the map, press enter.";
+    static final String NEXT_PAGE = "To see the next page, press enter.";
+    static final String ACKNOWLEDGE = "To acknowledge these results, please type ok below and then press enter.";
+    static final String ACKNOWLEDGEMENT = "ok";
+    static final String ANSWER_HEADER = "         Your Guess      | Correct Answer";
+
+    private GameText() {}
+
+    /**
+     * Words the check that the user's terminal supports ANSI escape codes, which comes before anything else
+     *
+     * @return the sentences leading up to the sample line shown by {@link #ansiQuestion()}
+     */
+    static String[] ansiCheck() {
+        return new String[] {
+            "As noted in the documentation for this project, proper execution of this execution requires the use of a console that supports ANSI escape codes. ",
+            "These codes provide essential coloring and the ability to clear the console and directly support smooth gameplay. ",
+            "Take a look at the next line:"
+        };
+    }
+
+    static String ansiCheckHeading() {
+        return """
+            -----------------------------------------
+              ANSI Escape Code Support Confirmation
+            -----------------------------------------
+            """;
+    }
+
+    static String ansiQuestion() {
+        return Simulation.ANSI_WHITE_BACKGROUND + Simulation.ANSI_BLACK + " Hello, world! " + Simulation.ANSI_RESET +
+            "\nDo you see any additional text on the above line apart from the text ' Hello, world! '?";
+    }
+
+    static String ansiUnsupported() {
+        return "Please find a console that supports ANSI support codes before running this project.";
+    }
+
+    /**
+     * Words the check that the user's terminal is tall enough for the map and command list, below a line for each numbered row
+     *
+     * @return the lines of instructions
+     */
+    static String[] terminalCheck() {
+        return new String[] {
+            "Please ensure that all the above numbers, this line, and the following lines are visible on your terminal window.",
+            "If they are not, resize and press enter to see these numbers again.",
+            "To exit this test, type done and press enter."
+        };
+    }
+
+    static String about() {
+        return """
+            This project attempts to recreate the classic mystery game Clue, adding more modern features and items. This project was completed in its entirety by Alexander Chang. Special thanks to Oliver Waldin for his assistance in decisions and brainstorming of game mechanics. Unauthorized reproduction \u001B[1mor distribution\u001B[0m of this project is prohibited by law.
+            (c) 2024 by Alexander Chang. All rights reserved.""";
+    }
+
+    /**
+     * Words Detective Joseph's introduction, which leads up to asking whether the user is willing to help
+     *
+     * @return the paragraphs, each as the sentences typed out with a short pause between each
+     */
+    static String[][] introduction() {
+        return new String[][] {
+            {
+                "Welcome, detective. ",
+                "I've been awaiting your arrival. ",
+                "Thank you for coming on such short notice. ",
+                "I'm Detective Joseph Kenny with the local police department. ",
+                "We recently received a report of a murder of famous millionare Brian Thompson.\n"
+            },
+            {
+                "Thompson was killed in his mansion just last night and the mystery killer's been on the run since. ",
+                "We need your help in solving this mystery."
+            }
+        };
+    }
+
+    static String[] farewell() {
+        return new String[] {"Well detective, it was nice meeting you. ", "Farewell for now."};
+    }
+
+    static String[] nameQuestion() {
+        return new String[] {"Glad to hear that, detective. ", "Also, ", "what's your name?"};
+    }
+
+    /**
+     * Words why the given name was not accepted
+     *
+     * @param name the name entered by the user, which is not {@link GameFlow#isValidName(String) valid}
+     * @return the sentences of the complaint
+     */
+    static String[] nameProblem(String name) {
+        return new String[] {"Are you sure that's a real name? ", "It seems too " + (name.length() > 25 ? "long." : "short.")};
+    }
+
+    static String[] colorQuestion(String name) {
+        return new String[] {"Nice to meet you, detective " + name + ". ", "Finally, what's your favorite color? ", "(" + String.join(", ", GameFlow.COLORS.subList(0, GameFlow.COLORS.size() - 1)) + ", or " + GameFlow.COLORS.getLast() + ")"};
+    }
+
+    static String[] colorChosen() {
+        return new String[] {"Oh, ", "nice choice. ", "Let's head over to the crime scene now."};
+    }
+
+    /**
+     * Words Detective Joseph's briefing at the crime scene, given once the user has chosen a color
+     *
+     * @return the paragraphs, each as the sentences typed out with a short pause between each
+     */
+    static String[][] arrival() {
+        return new String[][] {
+            {
+                "Alright, detective, ",
+                "here we are. ",
+                "Thompson was killed on the second floor of his mansion, which has 9 rooms wrapped around the central staircase. ",
+                "Since the murder's so recent, my team has only gotten a chance to secure the scene and hasn't started any of the investigation yet. ",
+                "I've decided to leave it up to you to solve."
+            },
+            {
+                "Here's a map of the top floor. ",
+                "The arrows represent entrances to each room. ",
+                "If at any point you need to reach me or can't manage the investigation any longer for whatever reason, I'll be right at the base of the central staircase with the media. ",
+                "I'll keep track of any analysis you complete or cameras you request in your detective's log and remember, ",
+                Simulation.ANSI_WHITE_BACKGROUND + Simulation.ANSI_BOLD + Simulation.ANSI_BLUE + " time is of the essence. " + Simulation.ANSI_RESET
+            },
+            {
+                "Best of luck, ",
+                "detective."
+            }
+        };
+    }
+
+    /**
+     * Lists the key game tips shown before the game begins, between a heading and a closing rule
+     *
+     * @return the lines of the tips, with the heading first and the rule last
+     */
+    static List<String> tips() {
+        return List.of(
+            "========================================== KEY GAME TIPS ==========================================",
+            " Press enter to exit result and dialogue screens.",
+            " Don't rush through. Keep an eye out for your lab results.",
+            " Analyze samples you collect with Detective Joseph. Not everything is free. What would a cop want?",
+            " Keep track of the clues you have collected. There is no way to go back.",
+            " Your position on the board is indicated by a square of your chosen color and its letter.",
+            " Enter rooms, marked in grey through the squares with arrows in them.",
+            "==================================================================================================="
+        );
+    }
+
+    static String[] suspectQuestion() {
+        return new String[] {"I sure hope you're right. ", "Who murdered Thompson? ", options(Arrays.stream(Suspect.values()).map(Suspect::getName).toList())};
+    }
+
+    static String[] weaponQuestion() {
+        return new String[] {"What was he murdered with? ", options(Arrays.stream(Weapon.values()).map(Weapon::getName).toList())};
+    }
+
+    static String[] roomQuestion() {
+        return new String[] {"Where was he murdered? ", options(GameFlow.accusableRooms().stream().map(Room::getName).toList())};
+    }
+
+    private static String options(List<String> names) {
+        return "(" + String.join(", ", names) + ")";
+    }
+
+    /**
+     * Words the heading and closing rule of the screen showing a lab or camera result
+     *
+     * @param event the result
+     * @return the heading and the rule
+     */
+    static String[] resultFrame(GameEvent event) {
+        return event.getType() == GameEvent.Type.CAMERA_RESULT
+            ? new String[] {"===== Camera Results =====", "=========================="}
+            : new String[] {"===== Lab Results =====", "======================="};
+    }
+
+    /**
+     * Words the heading of a page of the detective's log
+     *
+     * @param filter the filter entered after the command, or {@code null} if every entry is shown
+     * @param page the index of the page
+     * @param pages the number of pages, or 0 if nothing is shown
+     * @return the heading
+     */
+    static String logHeading(String filter, int page, int pages) {
+        return "===== Detective's Log" + (filter != null ? ": " + filter : "") + (pages > 1 ? " (page " + (page + 1) + " of " + pages + ")" : "") + " =====";
+    }
+
+    /**
+     * Words why nothing in the detective's log is shown for the given filter
+     *
+     * @param filter the filter entered after the command
+     * @param known whether the filter names a suspect, weapon, or room
+     * @return the explanation
+     */
+    static String logEmpty(String filter, boolean known) {
+        return known ? "Nothing in your log involves \"" + filter + "\" yet." : "There is no suspect, weapon, or room called \"" + filter + "\".";
+    }
+
+    static String[] timedOut(String name) {
+        return new String[] {
+            "Unfortunately, detective " + name + ", you took too long in your investigation. ",
+            "The suspect's most likely out of the country and out of our control by now. ",
+            "Better luck next time."
+        };
+    }
+
+    static String[] reveal() {
+        return new String[] {"Ready to find out together whether you were right, detective? ", "When you're ready, press enter and we'll find out."};
+    }
+
+    /**
+     * Words a row of the table comparing the user's accusation with the answer, which is typed out in two parts
+     *
+     * @param label the label of the row, padded to line up with the others
+     * @param guess the name the user guessed
+     * @param answer the name of the answer
+     * @param correct whether the guess was right, which colors the answer green or red
+     * @return the guessed part of the row and the answer part of the row
+     */
+    static String[] answerRow(String label, String guess, String answer, boolean correct) {
+        return new String[] {
+            label + guess + Simulation.repeat(" ", 15 - guess.length()) + " | ",
+            (correct ? Simulation.ANSI_GREEN_BACKGROUND : Simulation.ANSI_RED_BACKGROUND) + answer + Simulation.repeat(" ", 15 - answer.length()) + Simulation.ANSI_RESET
+        };
+    }
+
+    /**
+     * Lists the rows of the table comparing the user's accusation with the answer
+     *
+     * @param engine the game, which has ended with an accusation
+     * @return the rows, each in the two parts returned by {@link #answerRow(String, String, String, boolean)}
+     */
+    static List<String[]> answers(GameEngine engine) {
+        return List.of(
+            answerRow("Suspect: ", engine.getGuessedSuspect().getName(), engine.getAnswerSuspect().getName(), engine.isSuspectCorrect()),
+            answerRow(" Weapon: ", engine.getGuessedWeapon().getName(), engine.getAnswerWeapon().getName(), engine.isWeaponCorrect()),
+            answerRow("   Room: ", engine.getGuessedRoom().getName(), engine.getAnswerRoom().getName(), engine.isRoomCorrect())
+        );
+    }
+
+    /**
+     * Words the given event as the sentences told to the user, which are typed out with a short pause between each
+     *
+     * @param event the event to describe
+     * @return the sentences, or an empty array for events that are not told in words, such as moves and opening the inventory
+     */
+    static String[] describe(GameEvent event) {
+        String room = event.getRoom() != null ? event.getRoom().getName().toLowerCase() : null;
+        return switch (event.getType()) {
+            case MOVED, PASSED, ACCUSED, TIMED_OUT, INVENTORY_OPENED, LOG_OPENED -> new String[0];
+            case ENTERED_ROOM -> new String[] {"You have entered the " + room + "."};
+            case ITEM_FOUND -> new String[] {"You found a " + event.getItem().getName() + "!"};
+            case DONUTS_FOUND -> new String[] {"You found " + event.getAmount() + " donut" + (event.getAmount() > 1 ? "s" : "") +"!"};
+            case NOTHING_FOUND -> new String[] {"You found nothing!"};
+            case DNA_COLLECTED -> new String[] {
+                "You've collected DNA from the " + room + ". ",
+                "Submit it to Detective Joseph at the central staircase for analysis."
+            };
+            case DNA_NOT_FOUND -> new String[] {"You struggled to find anything to collect DNA from in the " + room + "."};
+            case FINGERPRINTS_COLLECTED -> new String[] {
+                "You found a bloody " + ((FingerprintSample) event.getSample()).getWeapon().getName().toLowerCase() + " with some fingerprints on it in the " + room + "! ",
+                "Submit it to Detective Joseph at the central staircase for analysis."
+            };
+            case FINGERPRINTS_NOT_FOUND -> new String[] {"You struggled to find any fingerprints in the " + room + "."};
+            case FINGERPRINTS_WEAK -> new String[] {"You found some weak fingerprints in the corner of the " + room + " but struggled to collect them."};
+            case UV_CLUE_FOUND -> new String[] {"You found a some bloodspots on the wall of the " + room + "!"};
+            case UV_FLUKE -> new String[] {"You thought you saw something on the wall of the " + room + ", but it turned out to be a fluke."};
+            case UV_NOTHING -> new String[] {"You didn't see a thing when you turned on your UV light in the " + room + "."};
+            case DNA_DISCARDED -> new String[] {"You have discarded the DNA sample you collected in the " + room + "."};
+            case FINGERPRINTS_DISCARDED -> new String[] {"You have discarded the fingerprint sample you collected in the " + room + "."};
+            case DNA_SUBMITTED -> new String[] {
+                "Thanks for the donuts! ",
+                "It'll be about 8 turns until the analysis will be ready. ",
+                "Nice work, detective."
+            };
+            case FINGERPRINTS_SUBMITTED -> new String[] {
+                "Thanks for obliging. ",
+                "It'll be about 8 turns until the analysis will be ready. ",
+                "Nice work, detective."
+            };
+            case CAMERAS_REQUESTED -> new String[] {
+                "Thanks for the donuts! ",
+                "The clips should be back in about 8 turns."
+            };
+            case DNA_RESULT -> {
+                EvidenceSample sample = event.getSample();
+                yield new String[] {"The DNA you collected from the " + room + (sample.hasResult() ? " was identified as that of " + sample.getSuspect().getName() + "." : " could not be identified.")};
+            }
+            case FINGERPRINT_RESULT -> {
+                FingerprintSample sample = (FingerprintSample) event.getSample();
+                yield new String[] {"The fingerprints you collected from the " + sample.getWeapon().getName().toLowerCase() + " in the " + room + " were identified as those of " + sample.getSuspect().getName() + "."};
+            }
+            case CAMERA_RESULT -> new String[] {event.getFootage().generateMessage()};
+        };
+    }
+
+    /**
+     * Words what Detective Joseph asks before carrying out the given command, which ends with the yes or no question itself
+     *
+     * @param command a command that needs the user's confirmation
+     * @param engine the game
+     * @return the sentences of the question
+     * @throws IllegalArgumentException if the command is carried out without confirmation
+     */
+    static String[] confirmation(Command command, GameEngine engine) throws IllegalArgumentException {
+        return switch (command) {
+            case SUBMIT_DNA -> new String[] {
+                "You have some DNA for the lab to scan? ",
+                "I'll need a couple donuts to do that, please. ",
+                "Are you willing to give me two?"
+            };
+            case SUBMIT_FINGERPRINTS -> new String[] {
+                "You have some fingerprints for the lab to scan? ",
+                "Could you maybe give me two donuts for it?"
+            };
+            case REQUEST_CAMERAS -> new String[] {
+                "You want to request all the camera footage from the night of the murder? ",
+                "I'd be happy to oblige if you have " + engine.getDonutsForCameraRequest() + " donuts for me. ",
+                "Do you have some I could take?"
+            };
+            case DISCARD_DNA -> new String[] {"Are you sure you want to discard the DNA sample you collected in the " + engine.getCollectedDNASample().getRoom().getName().toLowerCase() + "?"};
+            case DISCARD_FINGERPRINTS -> new String[] {"Are you sure you want to discard the fingerprint sample you collected in the " + engine.getCollectedFingerprintSample().getRoom().getName().toLowerCase() + "?"};
+            case ACCUSE -> new String[] {"You think you know whodunit? Are you sure you're ready to report your final findings?"};
+            default -> throw new IllegalArgumentException("Command needs no confirmation: " + command);
+        };
+    }
+
+    /**
+     * Words what Detective Joseph says when the user declines the given command
+     *
+     * @param command a command that needs the user's confirmation
+     * @return the sentences of the reply, or an empty array if nothing is said
+     */
+    static String[] refusal(Command command) {
+        return switch (command) {
+            case SUBMIT_DNA -> new String[] {
+                "Alright, detective. ",
+                "If you bring me two donuts next time, I'll be sure to send it to scan right away."
+            };
+            case SUBMIT_FINGERPRINTS -> new String[] {
+                "Whatever you say, detective. ",
+                "If you do happen to have two donuts for me next time, I'll be sure to send it to the lab on the double."
+            };
+            case REQUEST_CAMERAS -> new String[] {
+                "You don't? ",
+                "Well maybe next time. ",
+                "If you do happen upon some extra, I'd be happy to take them off your hands and find you the footage you need."
+            };
+            case ACCUSE -> new String[] {"Alright then, detective. Come back when you're fully sure you got it."};
+            default -> new String[0];
+        };
+    }
+
+    /**
+     * Words why the user cannot head for the room entered after {@code goto}
+     *
+     * @param destination the room entered by the user, or {@code null} if none was entered
+     * @param engine the game
+     * @return the explanation, or {@code null} if the user can head for the room
+     */
+    static String travelProblem(String destination, GameEngine engine) {
+        if (destination == null) return "Where to, detective? Enter goto followed by a room, such as goto kitchen.";
+        Room room = Room.named(destination);
+        if (room == null) return "There is no room called \"" + destination + "\".";
+        if (engine.getCurrentRoom() == room) return "You're already in the " + room.getName().toLowerCase() + ".";
+        if (MovementGraph.stepTowards(engine.getXPos(), engine.getYPos(), room) == null) return "You can't get to the " + room.getName().toLowerCase() + " from here.";
+        return null;
+    }
+
+    /**
+     * Lists what the user is carrying, one line for each donut stack, item, and collected sample
+     *
+     * @param engine the game
+     * @return the lines of the inventory
+     */
+    static List<String> inventory(GameEngine engine) {
+        ArrayList<String> lines = new ArrayList<>();
+        int numDonuts = engine.getNumDonuts();
+        FingerprintSample collectedFingerprintSample = engine.getCollectedFingerprintSample();
+        DNASample collectedDNASample = engine.getCollectedDNASample();
+        if (numDonuts > 0) lines.add(numDonuts + " donut" + (numDonuts > 1 ? "s" : ""));
+        engine.getInventory().forEach((a) -> lines.add(a.getName() + " - " + a.getDescription()));
+        if (collectedFingerprintSample != null) lines.add("A fingerprint sample off a " + collectedFingerprintSample.getWeapon().getName().toLowerCase() + " from the " + collectedFingerprintSample.getRoom().getName().toLowerCase() + " - Submit to Detective Joseph at the central staircase for analysis.");
+        if (collectedDNASample != null) lines.add("A DNA sample from the " + collectedDNASample.getRoom().getName().toLowerCase() + " - Submit to Detective Joseph at the central staircase for analysis.");
+        return lines;
+    }
+
+    /**
+     * Lists what the evidence so far has not ruled out, shown by the {@code notes} command
+     *
+     * @param deductions the deductions of the game
+     * @return the lines of the notes
+     */
+    static List<String> notes(Deductions deductions) {
+        int remaining = deductions.remaining();
+        if (remaining == 1) {
+            int solution = deductions.nextPossible(0);
+            return List.of("Only one possibility is left: " + Deductions.suspectAt(solution).getName() + " with the " +
+                Deductions.weaponAt(solution).getName().toLowerCase() + " in the " + Deductions.roomAt(solution).getName().toLowerCase() + ".");
+        }
+        return List.of(
+            "Suspects: " + deductions.possibleSuspects().stream().map(Suspect::getName).collect(Collectors.joining(", ")),
+            " Weapons: " + deductions.possibleWeapons().stream().map(Weapon::getName).collect(Collectors.joining(", ")),
+            "   Rooms: " + deductions.possibleRooms().stream().map(Room::getName).collect(Collectors.joining(", ")),
+            remaining + " of " + Deductions.SOLUTIONS + " possibilities are left."
+        );
+    }
+
+    /**
+     * Words the verdict on an accusation that has been made
+     *
+     * @param engine the game, which has ended with an accusation
+     * @param name the name of the detective
+     * @return the verdict
+     */
+    static String verdict(GameEngine engine, String name) {
+        boolean suspectCorrect = engine.isSuspectCorrect();
+        boolean weaponCorrect = engine.isWeaponCorrect();
+        boolean roomCorrect = engine.isRoomCorrect();
+        if (engine.isSolvedMystery()) {
+            return "Very nicely done, detective " + name + "! I'm glad I could trust you.";
+        } else if (
+            (suspectCorrect && weaponCorrect) ||
+            (weaponCorrect && roomCorrect) ||
+            (suspectCorrect && roomCorrect)
+        ) {
+            return "Nearly there, detective " + name + "! I'm sure you'll get it next time.";
+        } else if (suspectCorrect || weaponCorrect || roomCorrect) {
+            return "Well done on the " + (suspectCorrect ? "suspect" : (weaponCorrect ? "weapon" : "room")) + ". Better luck with the others next time.";
+        }
+        return "Better luck next time, detective.";
+    }
+
+    /**
+     * Lists the final inventory and the rooms visited, shown at the end of a game above its statistics
+     *
+     * @param engine the game
+     * @return the lines of the summary
+     */
+    static List<String> summary(GameEngine engine) {
+        return List.of(
+            " Final inventory: " + engine.getInventory().stream().map(Item::getName).collect(Collectors.joining(", ")),
+            "   Rooms visited: " + engine.getVisitedRooms().stream().map(Room::getName).filter((a) -> !(a.equals("Staircase"))).collect(Collectors.joining(", "))
+        );
+    }
+
+    /**
+     * Words the line separating the summary of a game from its statistics, which is as wide as the statistics
+     *
+     * @param engine the game
+     * @return the separator
+     */
+    static String separator(GameEngine engine) {
+        int turns = engine.getTurns();
+        return "-------------------------------------------" + (turns >= 10 ? "-" : "") + (turns >= 100 ? "-" : "");
+    }
+
+    /**
+     * Lists the statistics shown at the end of a game
+     *
+     * @param engine the game
+     * @return the lines of statistics
+     */
+    static List<String> statistics(GameEngine engine) {
+        return List.of(
+            "                            Turns taken: " + engine.getTurns(),
+            "                     Total donuts found: " + engine.getTotalDonutsFound(),
+            "                    Total room searches: " + engine.getTotalRoomSearches(),
+            "           Total fingerprints collected: " + engine.getTotalFingerprintsCollected(),
+            "            Total fingerprints analyzed: " + engine.getTotalFingerprintsAnalyzed(),
+            "            Total DNA samples collected: " + engine.getTotalDNACollected(),
+            "             Total DNA samples analyzed: " + engine.getTotalDNAAnalyzed(),
+            "               Total UV scans completed: " + engine.getTotalUVScans(),
+            "      Total pieces of footage requested: " + engine.getTotalCamerasRequested(),
+            " Total donuts eaten by detective Joseph: " + engine.getTotalDonutsEatenByJoseph()
+        );
+    }
+}
@@ -0,0 +1,226 @@
+import java.util.List;
+
+/**
+ * The {@code GreedySearchBot} class is a bot that always heads for the nearest room where it still has something to do.
+ * In each room it searches once, and then collects DNA, scans for bloodspots, and collects fingerprints wherever the evidence
+ * could still change its deductions. It takes its samples to the lab whenever it can pay for them, and accuses on the staircase
+ * once its deductions leave a single solution, once it has nothing left to do, or when it has only just enough turns left to get there.
+ * <p>
+ * Subclasses choose where to go, when to accuse, and what to accuse by overriding the hooks used by {@link #playTurn(GameEngine)}.
+ *
+ * @author Alexander Chang
+ * @version 1.5, 10/17/2026
+ * @since 1.5
+ */
+public class GreedySearchBot implements Bot {
+    // Turns that must pass after donuts are found in the kitchen before any more can be
+    private static final int KITCHEN_COOLDOWN = 10;
+    // Turns kept in hand when heading for the staircase to accuse before time runs out
+    private static final int SPARE_TURNS = 2;
+    // The donuts Detective Joseph takes for sending a sample to the lab
+    static final int SUBMIT_COST = 2;
+
+    final GameRandom random;
+    private final boolean[] searched = new boolean[Room.values().length];
+    private final boolean[] collectedDNA = new boolean[Room.values().length];
+    private final boolean[] collectedFingerprints = new boolean[Room.values().length];
+    private final boolean[] scanned = new boolean[Room.values().length];
+    private int kitchenDonutsTurn = -KITCHEN_COOLDOWN;
+    private boolean weaponFound;
+    // Samples and camera requests sent off whose results have not come back yet
+    private int resultsPending;
+
+    GreedySearchBot(GameRandom random) {
+        this.random = random;
+    }
+
+    @Override
+    public void playTurn(GameEngine engine) {
+        Room here = engine.getCurrentRoom();
+        int turnsLeft = GameEngine.MAX_ACTIONABLE_TURNS - engine.getActionableTurns();
+
+        if (here == Room.STAIRCASE) {
+            // Leaving the staircase and coming back takes two turns
+            if (isReadyToAccuse(engine) || turnsLeft <= SPARE_TURNS + 2 || !hasWorkLeft(engine)) accuse(engine, guess(engine));
+            else if (engine.getNumDonuts() >= SUBMIT_COST && engine.getCollectedDNASample() != null) play(engine, Command.SUBMIT_DNA);
+            else if (engine.getNumDonuts() >= SUBMIT_COST && engine.getCollectedFingerprintSample() != null) play(engine, Command.SUBMIT_FINGERPRINTS);
+            else if (wantsCameras(engine) && engine.getNumDonuts() >= engine.getDonutsForCameraRequest()) play(engine, Command.REQUEST_CAMERAS);
+            else play(engine, Command.UP);
+            return;
+        }
+
+        int toStaircase = MovementGraph.distanceTo(engine.getXPos(), engine.getYPos(), Room.STAIRCASE);
+        if (isReadyToAccuse(engine) || turnsLeft <= toStaircase + SPARE_TURNS || hasBusinessOnStaircase(engine) || !hasWorkLeft(engine)) {
+            play(engine, MovementGraph.stepTowards(engine.getXPos(), engine.getYPos(), Room.STAIRCASE));
+            return;
+        }
+        Command action = here == null ? null : roomAction(engine, here);
+        if (action != null) {
+            done(here, action);
+            play(engine, action);
+            return;
+        }
+        Room target = nextRoom(engine);
+        // With nothing left to do but wait for results, searching passes the time
+        if (target == null && here != null) play(engine, Command.SEARCH);
+        else play(engine, MovementGraph.stepTowards(engine.getXPos(), engine.getYPos(), target == null ? Room.KITCHEN : target));
+    }
+
+    /**
+     * Applies a command and learns from the events of the turn
+     */
+    private void play(GameEngine engine, Command action) {
+        int turn = engine.getTurns();
+        for (GameEvent event : engine.apply(action)) {
+            switch (event.getType()) {
+                case DONUTS_FOUND -> {
+                    if (engine.getCurrentRoom() == Room.KITCHEN) kitchenDonutsTurn = turn;
+                }
+                case FINGERPRINTS_COLLECTED -> weaponFound = true;
+                case DNA_SUBMITTED, FINGERPRINTS_SUBMITTED, CAMERAS_REQUESTED -> resultsPending++;
+                case DNA_RESULT, FINGERPRINT_RESULT, CAMERA_RESULT -> resultsPending--;
+                default -> {}
+            }
+            observe(event);
+        }
+    }
+
+    private void accuse(GameEngine engine, int solution) {
+        engine.accuse(Deductions.suspectAt(solution), Deductions.weaponAt(solution), Deductions.roomAt(solution));
+    }
+
+    /**
+     * Chooses the first thing left to do in the given room
+     *
+     * @return the command, or {@code null} if there is nothing left to do in the room
+     */
+    private Command roomAction(GameEngine engine, Room room) {
+        if (room == Room.STAIRCASE) return null;
+        int index = room.ordinal();
+        if (!searched[index] || room == Room.KITCHEN && wantsKitchenDonuts(engine)) return Command.SEARCH;
+        Deductions deductions = engine.getDeductions();
+        boolean roomUnknown = deductions.possibleRooms().size() > 1;
+        List<Item> inventory = engine.getInventory();
+        if (inventory.contains(Item.UV_SCANNER) && !scanned[index] && roomUnknown && deductions.isPossible(room)) return Command.UV_SCAN;
+        if (inventory.contains(Item.DNA_COLLECTOR) && engine.getCollectedDNASample() == null && !collectedDNA[index] && deductions.isPossible(room)
+            && (roomUnknown || deductions.possibleSuspects().size() > 1)) return Command.COLLECT_DNA;
+        if (inventory.contains(Item.FINGERPRINT_COLLECTOR) && engine.getCollectedFingerprintSample() == null && !collectedFingerprints[index] && !weaponFound) {
+            return Command.COLLECT_FINGERPRINTS;
+        }
+        return null;
+    }
+
+    /**
+     * Remembers that the given action was taken in the given room, so that it is not taken there again
+     */
+    private void done(Room room, Command action) {
+        switch (action) {
+            case SEARCH -> searched[room.ordinal()] = true;
+            case UV_SCAN -> scanned[room.ordinal()] = true;
+            case COLLECT_DNA -> collectedDNA[room.ordinal()] = true;
+            case COLLECT_FINGERPRINTS -> collectedFingerprints[room.ordinal()] = true;
+            default -> {}
+        }
+    }
+
+    /**
+     * Determines whether there is still anything to do before accusing, including waiting for results from the lab
+     */
+    private boolean hasWorkLeft(GameEngine engine) {
+        if (resultsPending > 0 || hasBusinessOnStaircase(engine)) return true;
+        for (Room room : Room.values()) if (roomAction(engine, room) != null) return true;
+        return false;
+    }
+
+    private boolean hasBusinessOnStaircase(GameEngine engine) {
+        boolean holdingSample = engine.getCollectedDNASample() != null || engine.getCollectedFingerprintSample() != null;
+        return holdingSample && engine.getNumDonuts() >= SUBMIT_COST || wantsCameras(engine) && engine.getNumDonuts() >= engine.getDonutsForCameraRequest();
+    }
+
+    private boolean wantsKitchenDonuts(GameEngine engine) {
+        return engine.getTurns() - kitchenDonutsTurn > KITCHEN_COOLDOWN && engine.getNumDonuts() < donutsWanted(engine);
+    }
+
+    /**
+     * Chooses the room to head for next, out of the rooms with something left to do
+     *
+     * @return the room, or {@code null} if there is nothing left to do in any room
+     */
+    private Room nextRoom(GameEngine engine) {
+        Room best = null;
+        double bestCost = Double.MAX_VALUE;
+        for (Room room : Room.values()) {
+            if (roomAction(engine, room) == null) continue;
+            double cost = cost(engine, room, MovementGraph.distanceTo(engine.getXPos(), engine.getYPos(), room));
+            if (cost < bestCost) {
+                best = room;
+                bestCost = cost;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Learns from an event of one of the bot's turns
+     *
+     * @param event the event
+     */
+    void observe(GameEvent event) {}
+
+    /**
+     * Weighs up heading for a room with something left to do
+     *
+     * @param engine the game
+     * @param room the room
+     * @param distance the number of moves it takes to get there
+     * @return the cost of heading there, with the cheapest room chosen
+     */
+    double cost(GameEngine engine, Room room, int distance) {
+        return distance;
+    }
+
+    /**
+     * Determines the number of donuts worth keeping on hand, which are searched for in the kitchen
+     *
+     * @param engine the game
+     * @return the number of donuts
+     */
+    int donutsWanted(GameEngine engine) {
+        boolean collecting = engine.getInventory().contains(Item.DNA_COLLECTOR) || engine.getInventory().contains(Item.FINGERPRINT_COLLECTOR);
+        return collecting ? SUBMIT_COST : 0;
+    }
+
+    /**
+     * Determines whether to request camera footage when on the staircase with enough donuts
+     *
+     * @param engine the game
+     * @return whether to request cameras
+     */
+    boolean wantsCameras(GameEngine engine) {
+        return false;
+    }
+
+    /**
+     * Determines whether the evidence is strong enough to accuse
+     *
+     * @param engine the game
+     * @return whether to head for the staircase and accuse
+     */
+    boolean isReadyToAccuse(GameEngine engine) {
+        return engine.getDeductions().remaining() == 1;
+    }
+
+    /**
+     * Chooses the solution to accuse
+     *
+     * @param engine the game
+     * @return the index of the solution, as used by {@code Deductions}
+     */
+    int guess(GameEngine engine) {
+        // Any solution the deductions still allow is as likely as any other
+        Deductions deductions = engine.getDeductions();
+        int solution = deductions.nextPossible(0);
+        for (int skip = random.nextInt(deductions.remaining()); skip > 0; skip--) solution = deductions.nextPossible(solution + 1);
+        return solution;
+    }
+}
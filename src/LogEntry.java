@@ -0,0 +1,110 @@
+/**
+ * The {@code LogEntry} class records a single lab result or piece of camera footage in the detective's log,
+ * along with the turn it was delivered on and the room, weapon, and suspect it involves.
+ * Its text is only rendered when the log is opened.
+ *
+ * @author Alexander Chang
+ * @version 1.5, 10/17/2026
+ * @since 1.5
+ */
+public class LogEntry {
+    /**
+     * The kinds of results recorded in the detective's log
+     */
+    enum Type {
+        DNA_RESULT,
+        FINGERPRINT_RESULT,
+        CAMERA_FOOTAGE
+    }
+
+    private final Type type;
+    private final int turn;
+    private final Room room;
+    private Weapon weapon;
+    private Suspect suspect;
+    private CameraResult footage;
+
+    /**
+     * Records the result of a DNA sample
+     *
+     * @param turn the turn on which the result was delivered
+     * @param sample the analyzed sample
+     */
+    LogEntry(int turn, DNASample sample) {
+        this.type = Type.DNA_RESULT;
+        this.turn = turn;
+        this.room = sample.getRoom();
+        if (sample.hasResult()) this.suspect = sample.getSuspect();
+    }
+
+    /**
+     * Records the result of a fingerprint sample
+     *
+     * @param turn the turn on which the result was delivered
+     * @param sample the analyzed sample
+     */
+    LogEntry(int turn, FingerprintSample sample) {
+        this.type = Type.FINGERPRINT_RESULT;
+        this.turn = turn;
+        this.room = sample.getRoom();
+        this.weapon = sample.getWeapon();
+        this.suspect = sample.getSuspect();
+    }
+
+    /**
+     * Records the footage from the security cameras
+     *
+     * @param turn the turn on which the footage was delivered
+     * @param footage the delivered footage
+     */
+    LogEntry(int turn, CameraResult footage) {
+        this.type = Type.CAMERA_FOOTAGE;
+        this.turn = turn;
+        this.room = footage.getRoom();
+        this.weapon = footage.getWeapon();
+        this.suspect = footage.getSuspect();
+        this.footage = footage;
+    }
+
+    /**
+     * Renders the entry as a line of the detective's log
+     *
+     * @return the text of the entry, without a line break
+     */
+    String render() {
+        return "Turn " + turn + " - " + switch (type) {
+            case DNA_RESULT -> "DNA sample from " + room.getName().toLowerCase() + (suspect != null ? " was identified as that of " + suspect.getName() : " was inconclusive") + ".";
+            case FINGERPRINT_RESULT -> "Fingerprints off a " + weapon.getName().toLowerCase() + " from " + room.getName().toLowerCase() + " were identified as that of " + suspect.getName() + ".";
+            case CAMERA_FOOTAGE -> footage.generateMessage("Cameras showed ");
+        };
+    }
+
+    Type getType() {
+        return type;
+    }
+
+    int getTurn() {
+        return turn;
+    }
+
+    Room getRoom() {
+        return room;
+    }
+
+    Weapon getWeapon() {
+        return weapon;
+    }
+
+    Suspect getSuspect() {
+        return suspect;
+    }
+
+    CameraResult getFootage() {
+        return footage;
+    }
+
+    @Override
+    public String toString() {
+        return render();
+    }
+}
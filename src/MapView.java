@@ -0,0 +1,165 @@
+/**
+ * The {@code MapView} class draws the map of the top floor, with the player's square on it, into the cells of a {@code FrameRenderer}.
+ * The map template is compiled once into the glyph and kind of each cell, leaving each view to choose the styles for the player's color
+ * and each frame to splice in the player.
+ *
+ * @author Alexander Chang
+ * @version 1.5, 10/17/2026
+ * @since 1.5
+ */
+public class MapView {
+    static final int ROWS = 27;
+    static final int COLUMNS = 26;
+
+    // 1 becomes a space and start of room color
+    // 2 becomes a space and end of room color
+    // 3 becomes a slash and end of room color
+    // 4 becomes a backslash and start of room color
+    private static final String map = """
+        XXXXXXXXXXXXXXXXXXXXXXXXXX
+        X1    2X XXXXXXXX X1    2X
+        X1    2|  |1  2|  |1    2X
+        X4    2|  |1  2|  |1    2X
+        X------|  |1  2|  |1    2X
+        XX     ^ >|1  2|  |1    3X
+        X         |1  2|  |------X
+        XX-----   ------  ^     XX
+        X1    2|    ^^           X
+        X1    2|< |1 2|   v     XX
+        X1    2|  |1 2|  |-------X
+        XX-----   |1 2|  |1     2X
+        XXv ^     -----  |1     2X
+        X-----|         >|1     2X
+        X1   2|          |1     2X
+        X1   2|          |--1   2X
+        X1   2|<            -----X
+        X-----|   v    v        XX
+        XX       |------|   v    X
+        X        |1    2|  |----XX
+        XX---|< >|1    2|< |1   2X
+        X1/  2|  |1    2|  |1   2X
+        X1   2|  |1    2|  |1   2X
+        X1   2|  |--12--|  |1   2X
+        X1    2X   |12|   X4    2X
+        XXXXXXXXXX XXXX XXXXXXXXXX
+        XXXXXXXXXXXXXXXXXXXXXXXXXX""";
+
+    // Kinds of map cells, by the background they are drawn with
+    private static final byte PLAIN_CELL = 0;
+    private static final byte ROOM_CELL = 1;
+    private static final byte WALL_CELL = 2;
+    private static final byte CELL_KIND = 3;
+    // Flags on map cells for when the player stands on them
+    private static final byte PLAYER_KEEPS_GLYPH = 4;
+    private static final byte PLAYER_NOT_BOLD = 8;
+
+    // The map compiled once into the glyph and kind of each cell, so that each frame only splices in the player
+    private static final char[] mapGlyphs = new char[ROWS * COLUMNS];
+    private static final byte[] mapCells = new byte[ROWS * COLUMNS];
+
+    static {
+        boolean inRoom = false;
+        int cell = 0;
+        for (int i = 0; i < map.length(); i++) {
+            char marker = map.charAt(i);
+            if (marker == '\n') continue;
+            if (marker == '1' || marker == '4') inRoom = true;
+            else if (marker == '2' || marker == '3') inRoom = false;
+            switch (marker) {
+                case 'X' -> {
+                    mapGlyphs[cell] = '\u00A0';
+                    mapCells[cell] = WALL_CELL;
+                }
+                case '1', '2' -> {
+                    mapGlyphs[cell] = ' ';
+                    mapCells[cell] = ROOM_CELL;
+                }
+                case '3' -> {
+                    mapGlyphs[cell] = '/';
+                    mapCells[cell] = ROOM_CELL | PLAYER_KEEPS_GLYPH | PLAYER_NOT_BOLD;
+                }
+                case '4' -> {
+                    mapGlyphs[cell] = '\\';
+                    mapCells[cell] = ROOM_CELL | PLAYER_KEEPS_GLYPH | PLAYER_NOT_BOLD;
+                }
+                default -> {
+                    mapGlyphs[cell] = marker;
+                    mapCells[cell] = (byte) ((inRoom ? ROOM_CELL : PLAIN_CELL) | (marker == ' ' ? 0 : PLAYER_KEEPS_GLYPH));
+                }
+            }
+            cell++;
+        }
+    }
+
+    private final char character;
+    private final String playerANSIColor;
+    private final String playerStyle;
+    // The style of each map cell for the chosen color
+    private final String[] mapStyles = new String[ROWS * COLUMNS];
+
+    /**
+     * Creates a view of the map for a player of the given color
+     *
+     * @param color the favorite color of the detective, which determines the letter and color of their square
+     * @throws IllegalArgumentException if {@code color} is not one of the colors offered to the user
+     */
+    MapView(String color) throws IllegalArgumentException {
+        switch (color) {
+            case "scarlet" -> {
+                character = 'S';
+                playerANSIColor = Simulation.ANSI_RED_BACKGROUND;
+            }
+
+            case "mustard" -> {
+                character = 'M';
+                playerANSIColor = Simulation.ANSI_YELLOW_BACKGROUND;
+            }
+
+            case "white" -> {
+                character = 'W';
+                playerANSIColor = Simulation.ANSI_WHITE_BACKGROUND;
+            }
+
+            case "green" -> {
+                character = 'G';
+                playerANSIColor = Simulation.ANSI_GREEN_BACKGROUND;
+            }
+
+            case "blue" -> {
+                character = 'P';
+                playerANSIColor = Simulation.ANSI_BLUE_BACKGROUND;
+            }
+
+            case "plum" -> {
+                character = 'P';
+                playerANSIColor = Simulation.ANSI_PURPLE_BACKGROUND;
+            }
+
+            default -> throw new IllegalArgumentException("Invalid color: " + color);
+        }
+        String wallANSIColor = color.equals("white") ? Simulation.ANSI_BLUE_BACKGROUND : Simulation.ANSI_WHITE_BACKGROUND;
+        playerStyle = playerANSIColor + Simulation.ANSI_BOLD;
+        for (int i = 0; i < mapCells.length; i++) {
+            mapStyles[i] = switch (mapCells[i] & CELL_KIND) {
+                case WALL_CELL -> wallANSIColor;
+                case ROOM_CELL -> Simulation.ANSI_GRAY_BACKGROUND;
+                default -> "";
+            };
+        }
+    }
+
+    /**
+     * Draws the map into the cells of the next frame, with the player's square at the given position
+     *
+     * @param screen the renderer of the frame, whose grid is {@code ROWS} by {@code COLUMNS}
+     * @param xPos the column of the player
+     * @param yPos the row of the player
+     */
+    void draw(FrameRenderer screen, int xPos, int yPos) {
+        int cell = yPos * COLUMNS + xPos;
+        screen.setCells(mapStyles, mapGlyphs);
+        screen.setCell(yPos, xPos,
+            (mapCells[cell] & PLAYER_NOT_BOLD) != 0 ? playerANSIColor : playerStyle,
+            (mapCells[cell] & PLAYER_KEEPS_GLYPH) != 0 ? mapGlyphs[cell] : character);
+    }
+}
@@ -0,0 +1,24 @@
+/**
+ * The {@code MemoryTerminal} class is a {@code Terminal} that keeps everything flushed to it in memory, used to capture the output of a session.
+ *
+ * @author Alexander Chang
+ * @version 1.5, 10/17/2026
+ * @since 1.5
+ */
+public class MemoryTerminal extends BufferedTerminal {
+    private final StringBuilder output = new StringBuilder();
+
+    @Override
+    protected void write(CharSequence text) {
+        output.append(text);
+    }
+
+    /**
+     * Returns everything flushed to the terminal so far
+     *
+     * @return the flushed output
+     */
+    String getOutput() {
+        return output.toString();
+    }
+}
@@ -0,0 +1,301 @@
+import java.util.Arrays;
+
+/**
+ * The {@code MovementGraph} class compiles the mansion map once into a table of legal moves.
+ * Each cell stores a bitmask of the legal directions and, for each direction, the destination cell and the effect on the current room,
+ * which covers door jumps, the diagonal doors of the study, lounge, and conservatory, the staircase, and the secret passages.
+ * <p>
+ * The moves are then searched breadth first from every cell into flat tables of the distance and first move of a shortest path
+ * to every other cell and into every room, so that finding the way anywhere in the mansion is a single array read.
+ *
+ * @author Alexander Chang
+ * @version 1.5, 10/17/2026
+ * @since 1.5
+ */
+public class MovementGraph {
+    // The user stays in the current room
+    static final int KEEP_ROOM = 0;
+    // The user leaves the current room
+    static final int LEAVE_ROOM = 1;
+    // Room codes above LEAVE_ROOM move the user directly into the room with ordinal (code - 2)
+
+    private static final Command[] DIRECTIONS = {Command.UP, Command.DOWN, Command.LEFT, Command.RIGHT, Command.PASS};
+
+    private static final char[][] mapArray = {
+        {' ', ' ', ' ', ' ', ' ', ' ', 'X', ' ', 'X', 'X', 'X', 'X', 'X', 'X', 'X', 'X', 'S', 'X', ' ', ' ', ' ', ' ', ' ', ' '},
+        {' ', ' ', ' ', ' ', ' ', ' ', '|', ' ', ' ', '|', ' ', ' ', ' ', ' ', '|', ' ', ' ', '|', ' ', ' ', ' ', ' ', ' ', ' '},
+        {'\\', ' ', ' ', ' ', ' ', 'v', '|', ' ', ' ', '|', ' ', ' ', ' ', ' ', '|', ' ', ' ', '|', ' ', ' ', ' ', ' ', ' ', ' '},
+        {'-', '-', '-', '-', '-', '-', '|', ' ', ' ', '|', ' ', ' ', ' ', ' ', '|', ' ', ' ', '|', ' ', ' ', ' ', ' ', ' ', ' '},
+        {'X', ' ', ' ', ' ', ' ', ' ', '^', ' ', '>', '|', '<', ' ', ' ', ' ', '|', ' ', ' ', '|', 'v', ' ', ' ', ' ', ' ', '/'},
+        {' ', ' ', ' ', ' ', ' ', ' ', ' ', ' ', ' ', '|', ' ', 'v', 'v', ' ', '|', ' ', ' ', '|', '-', '-', '-', '-', '-', '-'},
+        {'X', '-', '-', '-', '-', '-', ' ', ' ', ' ', '-', '-', '-', '-', '-', '|', ' ', ' ', '^', ' ', ' ', ' ', ' ', ' ', 'X'},
+        {' ', ' ', ' ', ' ', ' ', ' ', '|', ' ', ' ', ' ', ' ', '^', '^', ' ', ' ', ' ', ' ', ' ', ' ', ' ', ' ', ' ', ' ', ' '},
+        {' ', ' ', ' ', ' ', ' ', '>', '|', '<', ' ', '|', ' ', ' ', ' ', '|', ' ', ' ', ' ', 'v', ' ', ' ', ' ', ' ', ' ', 'X'},
+        {' ', ' ', ' ', 'v', ' ', ' ', '|', ' ', ' ', '|', ' ', ' ', ' ', '|', ' ', ' ', '|', '-', '-', '-', '-', '-', '-', '-'},
+        {'X', '-', '-', '-', '-', '-', ' ', ' ', ' ', '|', ' ', ' ', ' ', '|', ' ', ' ', '|', '^', ' ', ' ', ' ', ' ', ' ', ' '},
+        {'X', 'v', ' ', '^', ' ', ' ', ' ', ' ', ' ', '-', '-', '-', '-', '-', ' ', ' ', '|', ' ', ' ', ' ', ' ', ' ', ' ', ' '},
+        {'-', '-', '-', '-', '-', '|', ' ', ' ', ' ', ' ', ' ', ' ', ' ', ' ', ' ', '>', '|', '<', ' ', ' ', ' ', ' ', ' ', ' '},
+        {' ', '^', ' ', ' ', ' ', '|', ' ', ' ', ' ', ' ', ' ', ' ', ' ', ' ', ' ', ' ', '|', ' ', ' ', ' ', ' ', ' ', ' ', ' '},
+        {' ', ' ', ' ', ' ', ' ', '|', ' ', ' ', ' ', ' ', ' ', ' ', ' ', ' ', ' ', ' ', '|', '-', '-', ' ', ' ', ' ', ' ', ' '},
+        {' ', ' ', ' ', ' ', '>', '|', '<', ' ', ' ', ' ', ' ', ' ', ' ', ' ', ' ', ' ', ' ', ' ', ' ', '-', '-', '-', '-', '-'},
+        {'-', '-', '-', '-', '-', '|', ' ', ' ', ' ', 'v', ' ', ' ', ' ', ' ', 'v', ' ', ' ', ' ', ' ', ' ', ' ', ' ', ' ', 'X'},
+        {'X', ' ', ' ', ' ', ' ', ' ', ' ', ' ', '|', '-', '-', '-', '-', '-', '-', '|', ' ', ' ', ' ', 'v', ' ', ' ', ' ', ' '},
+        {' ', ' ', ' ', ' ', ' ', ' ', ' ', ' ', '|', '^', ' ', ' ', ' ', ' ', '^', '|', ' ', ' ', '|', '-', '-', '-', '-', 'X'},
+        {'X', '-', '-', '-', '|', '<', ' ', '>', '|', '<', ' ', ' ', ' ', ' ', '>', '|', '<', ' ', '|', '^', ' ', ' ', ' ', ' '},
+        {' ', '/', ' ', ' ', '>', '|', ' ', ' ', '|', ' ', ' ', ' ', ' ', ' ', ' ', '|', ' ', ' ', '|', ' ', ' ', ' ', ' ', ' '},
+        {' ', ' ', ' ', ' ', ' ', '|', ' ', ' ', '|', ' ', ' ', ' ', ' ', ' ', ' ', '|', ' ', ' ', '|', ' ', ' ', ' ', ' ', ' '},
+        {' ', ' ', ' ', ' ', ' ', '|', ' ', ' ', '|', '-', '-', ' ', ' ', '-', '-', '|', ' ', ' ', '|', ' ', ' ', ' ', ' ', ' '},
+        {' ', ' ', ' ', ' ', ' ', ' ', 'X', ' ', ' ', ' ', '|', ' ', ' ', '|', ' ', ' ', ' ', 'X', '\\', ' ', ' ', ' ', ' ', ' '},
+        {'X', 'X', 'X', 'X', 'X', 'X', 'X', 'X', 'X', ' ', 'X', 'X', 'X', 'X', ' ', 'X', 'X', 'X', 'X', 'X', 'X', 'X', 'X', 'X'}
+    };
+
+    // Bitmask of the legal directions from each cell, indexed by (y - 1) * Room.MAP_WIDTH + (x - 1)
+    private static final byte[] legalMoves = new byte[Room.MAP_WIDTH * Room.MAP_HEIGHT];
+    // Destination cell in the low 16 bits and room code in the high bits, indexed by cell * DIRECTIONS.length + direction
+    private static final int[] transitions = new int[Room.MAP_WIDTH * Room.MAP_HEIGHT * DIRECTIONS.length];
+
+    private static final int CELLS = Room.MAP_WIDTH * Room.MAP_HEIGHT;
+    private static final int ROOMS = Room.values().length;
+    // Distances are stored as unsigned bytes, with this value for cells and rooms that cannot be reached
+    private static final int UNREACHABLE = 0xFF;
+
+    // Distance between every pair of cells, indexed by from * CELLS + to
+    private static final byte[] distances = new byte[CELLS * CELLS];
+    // Direction of the first move on a shortest path between every pair of cells, or -1 if there is none, indexed like distances
+    private static final byte[] nextMoves = new byte[CELLS * CELLS];
+    // Distance and direction of the first move from every cell into every room, indexed by cell * ROOMS + room ordinal
+    private static final byte[] roomDistances = new byte[CELLS * ROOMS];
+    private static final byte[] roomMoves = new byte[CELLS * ROOMS];
+
+    static {
+        for (int y = 1; y <= Room.MAP_HEIGHT; y++) {
+            for (int x = 1; x <= Room.MAP_WIDTH; x++) compileCell(x, y);
+        }
+        Arrays.fill(distances, (byte) UNREACHABLE);
+        Arrays.fill(nextMoves, (byte) -1);
+        Arrays.fill(roomDistances, (byte) UNREACHABLE);
+        Arrays.fill(roomMoves, (byte) -1);
+        int[] queue = new int[CELLS];
+        for (int cell = 0; cell < CELLS; cell++) compilePaths(cell, queue);
+    }
+
+    private MovementGraph() {}
+
+    /**
+     * Determines whether the given move is legal from a cell
+     *
+     * @param x the column of the cell, starting at 1
+     * @param y the row of the cell, starting at 1
+     * @param move the direction to move in
+     * @return whether the move is legal
+     */
+    static boolean canMove(int x, int y, Command move) {
+        int direction = direction(move);
+        return direction >= 0 && (legalMoves[cell(x, y)] & (1 << direction)) != 0;
+    }
+
+    /**
+     * Determines whether the user can stand on a cell
+     *
+     * @param x the column of the cell, starting at 1
+     * @param y the row of the cell, starting at 1
+     * @return whether the cell is on the map and not a wall
+     */
+    static boolean isWalkable(int x, int y) {
+        return x >= 1 && x <= Room.MAP_WIDTH && y >= 1 && y <= Room.MAP_HEIGHT && !isWall(mapArray[y - 1][x - 1]);
+    }
+
+    /**
+     * Resolves a move from a cell
+     *
+     * @param x the column of the cell, starting at 1
+     * @param y the row of the cell, starting at 1
+     * @param move the direction to move in
+     * @return the transition, to be read with {@link #destinationX(int)}, {@link #destinationY(int)}, and {@link #roomAfter(int, Room)}
+     * @throws IllegalStateException if the move is not legal from the cell
+     */
+    static int resolve(int x, int y, Command move) throws IllegalStateException {
+        if (!canMove(x, y, move)) throw new IllegalStateException("Illegal move " + move + " from (" + x + ", " + y + ")");
+        return transitions[cell(x, y) * DIRECTIONS.length + direction(move)];
+    }
+
+    static int destinationX(int transition) {
+        return (transition & 0xFFFF) % Room.MAP_WIDTH + 1;
+    }
+
+    static int destinationY(int transition) {
+        return (transition & 0xFFFF) / Room.MAP_WIDTH + 1;
+    }
+
+    /**
+     * Determines the room the user is in after a move, before any entrance at the destination is taken into account
+     *
+     * @param transition the transition returned by {@link #resolve(int, int, Command)}
+     * @param currentRoom the room the user was in before the move
+     * @return the room the user is in after the move
+     */
+    static Room roomAfter(int transition, Room currentRoom) {
+        int roomCode = transition >>> 16;
+        if (roomCode == KEEP_ROOM) return currentRoom;
+        if (roomCode == LEAVE_ROOM) return null;
+        return Room.values()[roomCode - 2];
+    }
+
+    /**
+     * Counts the moves on a shortest path between two cells
+     *
+     * @param fromX the column of the starting cell, starting at 1
+     * @param fromY the row of the starting cell, starting at 1
+     * @param toX the column of the destination cell, starting at 1
+     * @param toY the row of the destination cell, starting at 1
+     * @return the number of moves, or -1 if the destination cannot be reached
+     */
+    static int distance(int fromX, int fromY, int toX, int toY) {
+        int distance = distances[cell(fromX, fromY) * CELLS + cell(toX, toY)] & 0xFF;
+        return distance == UNREACHABLE ? -1 : distance;
+    }
+
+    /**
+     * Finds the first move of a shortest path between two cells
+     *
+     * @param fromX the column of the starting cell, starting at 1
+     * @param fromY the row of the starting cell, starting at 1
+     * @param toX the column of the destination cell, starting at 1
+     * @param toY the row of the destination cell, starting at 1
+     * @return the first move, or {@code null} if the cells are the same or the destination cannot be reached
+     */
+    static Command nextMove(int fromX, int fromY, int toX, int toY) {
+        int direction = nextMoves[cell(fromX, fromY) * CELLS + cell(toX, toY)];
+        return direction < 0 ? null : DIRECTIONS[direction];
+    }
+
+    /**
+     * Counts the moves on a shortest path from a cell into the given room, through an entrance or a secret passage
+     *
+     * @param x the column of the cell, starting at 1
+     * @param y the row of the cell, starting at 1
+     * @param room the room to head for
+     * @return the number of moves, which is at least 1 even from inside the room, or -1 if the room cannot be reached
+     */
+    static int distanceTo(int x, int y, Room room) {
+        int distance = roomDistances[cell(x, y) * ROOMS + room.ordinal()] & 0xFF;
+        return distance == UNREACHABLE ? -1 : distance;
+    }
+
+    /**
+     * Finds the first move of a shortest path from a cell into the given room, through an entrance or a secret passage
+     *
+     * @param x the column of the cell, starting at 1
+     * @param y the row of the cell, starting at 1
+     * @param room the room to head for
+     * @return the first move, or {@code null} if the room cannot be reached
+     */
+    static Command stepTowards(int x, int y, Room room) {
+        int direction = roomMoves[cell(x, y) * ROOMS + room.ordinal()];
+        return direction < 0 ? null : DIRECTIONS[direction];
+    }
+
+    /**
+     * Fills in the distances and first moves from a cell to every other cell and into every room by searching breadth first
+     */
+    private static void compilePaths(int start, int[] queue) {
+        int row = start * CELLS;
+        distances[row + start] = 0;
+        int head = 0, tail = 0;
+        queue[tail++] = start;
+        while (head < tail) {
+            int from = queue[head++];
+            int distance = (distances[row + from] & 0xFF) + 1;
+            if (distance >= UNREACHABLE) throw new IllegalStateException("Path too long to compile from cell " + start);
+            for (int direction = 0; direction < DIRECTIONS.length; direction++) {
+                if ((legalMoves[from] & (1 << direction)) == 0) continue;
+                int transition = transitions[from * DIRECTIONS.length + direction];
+                int to = transition & 0xFFFF;
+                byte first = from == start ? (byte) direction : nextMoves[row + from];
+                // Cells are searched in order of distance, so the first move into a room is on a shortest path to it
+                Room entered = (transition >>> 16) > LEAVE_ROOM ? Room.values()[(transition >>> 16) - 2] : Room.atCell(to % Room.MAP_WIDTH + 1, to / Room.MAP_WIDTH + 1);
+                if (entered != null && (roomDistances[start * ROOMS + entered.ordinal()] & 0xFF) == UNREACHABLE) {
+                    roomDistances[start * ROOMS + entered.ordinal()] = (byte) distance;
+                    roomMoves[start * ROOMS + entered.ordinal()] = first;
+                }
+                if ((distances[row + to] & 0xFF) != UNREACHABLE) continue;
+                distances[row + to] = (byte) distance;
+                nextMoves[row + to] = first;
+                queue[tail++] = to;
+            }
+        }
+    }
+
+    private static int cell(int x, int y) {
+        return (y - 1) * Room.MAP_WIDTH + (x - 1);
+    }
+
+    private static int direction(Command move) {
+        return switch (move) {
+            case Command.UP -> 0;
+            case Command.DOWN -> 1;
+            case Command.LEFT -> 2;
+            case Command.RIGHT -> 3;
+            case Command.PASS -> 4;
+            default -> -1;
+        };
+    }
+
+    private static boolean isWall(char cell) {
+        return cell == '|' || cell == '-' || cell == 'X';
+    }
+
+    private static void addMove(int x, int y, Command move, int toX, int toY, int roomCode) {
+        int direction = direction(move);
+        legalMoves[cell(x, y)] |= (byte) (1 << direction);
+        transitions[cell(x, y) * DIRECTIONS.length + direction] = cell(toX, toY) | (roomCode << 16);
+    }
+
+    private static void compileCell(int x, int y) {
+        char currentCell = mapArray[y - 1][x - 1];
+
+        // The staircase can only be left by heading back up
+        if (Room.atCell(x, y) == Room.STAIRCASE) {
+            addMove(x, y, Command.UP, x, y - 1, LEAVE_ROOM);
+            return;
+        }
+
+        // Secret passageways to the room at the opposite corner of the mansion
+        if (currentCell == '/' || currentCell == '\\') {
+            if (x == 1 && y == 3) addMove(x, y, Command.PASS, 19, 24, Room.KITCHEN.ordinal() + 2);
+            else if (x == 19 && y == 24) addMove(x, y, Command.PASS, 1, 3, Room.STUDY.ordinal() + 2);
+            else if (x == 24 && y == 5) addMove(x, y, Command.PASS, 2, 21, Room.CONSERVATORY.ordinal() + 2);
+            else if (x == 2 && y == 21) addMove(x, y, Command.PASS, 24, 5, Room.LOUNGE.ordinal() + 2);
+        }
+
+        char aboveCell = (y == 1 ? ' ' : mapArray[y - 2][x - 1]);
+        char belowCell = (y == Room.MAP_HEIGHT ? ' ' : mapArray[y][x - 1]);
+        char leftCell = (x == 1 ? ' ' : mapArray[y - 1][x - 2]);
+        char rightCell = (x == Room.MAP_WIDTH ? ' ' : mapArray[y - 1][x]);
+
+        if (y != 1 && (currentCell == '^' || !isWall(aboveCell))) {
+            // Diagonal doors of the study and lounge
+            if (x == 7 && y == 5) addMove(x, y, Command.UP, 6, 3, KEEP_ROOM);
+            else if (x == 18 && y == 7) addMove(x, y, Command.UP, 19, 5, KEEP_ROOM);
+            else if (currentCell == '^') addMove(x, y, Command.UP, x, y - 2, LEAVE_ROOM);
+            else addMove(x, y, Command.UP, x, y - 1, KEEP_ROOM);
+        }
+        if (y != Room.MAP_HEIGHT && (currentCell == 'v' || !isWall(belowCell))) {
+            if (x == 6 && y == 3) addMove(x, y, Command.DOWN, 7, 5, LEAVE_ROOM);
+            else if (x == 19 && y == 5) addMove(x, y, Command.DOWN, 18, 7, LEAVE_ROOM);
+            else if (currentCell == 'v') addMove(x, y, Command.DOWN, x, y + 2, LEAVE_ROOM);
+            else addMove(x, y, Command.DOWN, x, y + 1, KEEP_ROOM);
+        }
+        if (x != 1 && (currentCell == '<' || !isWall(leftCell))) {
+            // Diagonal door of the conservatory
+            if (x == 6 && y == 20) addMove(x, y, Command.LEFT, 5, 21, KEEP_ROOM);
+            else if (currentCell == '<') addMove(x, y, Command.LEFT, x - 2, y, LEAVE_ROOM);
+            else addMove(x, y, Command.LEFT, x - 1, y, KEEP_ROOM);
+        }
+        if (x != Room.MAP_WIDTH && (currentCell == '>' || !isWall(rightCell))) {
+            if (x == 5 && y == 21) addMove(x, y, Command.RIGHT, 6, 20, LEAVE_ROOM);
+            else if (currentCell == '>') addMove(x, y, Command.RIGHT, x + 2, y, LEAVE_ROOM);
+            else addMove(x, y, Command.RIGHT, x + 1, y, KEEP_ROOM);
+        }
+    }
+}
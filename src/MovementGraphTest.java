@@ -0,0 +1,58 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import org.junit.Test;
+
+/**
+ * The {@code MovementGraphTest} class provides tests for the shortest paths compiled from the mansion map
+ *
+ * @author Alexander Chang
+ * @version 1.5, 10/17/2026
+ * @since 1.5
+ */
+public class MovementGraphTest {
+
+    @Test
+    public void nextMovesFollowShortestPaths() {
+        for (int from = 0; from < Room.MAP_WIDTH * Room.MAP_HEIGHT; from++) {
+            int fromX = from % Room.MAP_WIDTH + 1, fromY = from / Room.MAP_WIDTH + 1;
+            for (int to = 0; to < Room.MAP_WIDTH * Room.MAP_HEIGHT; to++) {
+                int toX = to % Room.MAP_WIDTH + 1, toY = to / Room.MAP_WIDTH + 1;
+                int distance = MovementGraph.distance(fromX, fromY, toX, toY);
+                if (distance < 0) continue;
+                // Each move brings the destination one move closer
+                int x = fromX, y = fromY;
+                for (int moves = distance; moves > 0; moves--) {
+                    int transition = MovementGraph.resolve(x, y, MovementGraph.nextMove(x, y, toX, toY));
+                    x = MovementGraph.destinationX(transition);
+                    y = MovementGraph.destinationY(transition);
+                    assertEquals(moves - 1, MovementGraph.distance(x, y, toX, toY));
+                }
+                assertEquals(toX, x);
+                assertEquals(toY, y);
+            }
+        }
+    }
+
+    @Test
+    public void everyRoomCanBeReachedFromTheStart() {
+        GameEngine engine = new GameEngine("Tester", "scarlett", 5);
+        for (Room room : Room.values()) {
+            int x = engine.getXPos(), y = engine.getYPos();
+            Room current = engine.getCurrentRoom();
+            int distance = MovementGraph.distanceTo(x, y, room);
+            for (int moves = 0; moves < distance; moves++) {
+                Command move = MovementGraph.stepTowards(x, y, room);
+                assertNotNull(move);
+                int transition = MovementGraph.resolve(x, y, move);
+                x = MovementGraph.destinationX(transition);
+                y = MovementGraph.destinationY(transition);
+                current = MovementGraph.roomAfter(transition, current);
+                if (Room.atCell(x, y) != null) current = Room.atCell(x, y);
+            }
+            assertEquals(room, current);
+        }
+        // The secret passages take a single move
+        assertEquals(1, MovementGraph.distanceTo(1, 3, Room.KITCHEN));
+        assertEquals(Command.PASS, MovementGraph.stepTowards(2, 21, Room.LOUNGE));
+    }
+}
@@ -0,0 +1,191 @@
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+
+/**
+ * The {@code NioGameServer} class serves Clue 2.0 over TCP from a single thread, using a {@code Selector} over non-blocking channels.
+ * Each connection has its own {@code GameSession}, fed every complete line read from the connection, with its output queued
+ * until the channel can take it, up to a limit. Unlike {@code GameServer}, no thread waits on any user, so idle players cost only their buffers.
+ *
+ * @author Alexander Chang
+ * @version 1.5, 10/17/2026
+ * @since 1.5
+ */
+public class NioGameServer implements Closeable {
+    // Lines longer than this are not from a player, so their connection is dropped
+    private static final int MAX_LINE_LENGTH = 1024;
+    // Output queued beyond this many bytes is for a user who has stopped reading, so their connection is dropped
+    private static final int MAX_QUEUED_BYTES = 256 * 1024;
+    // The number of connections that can wait to be accepted while the selector thread is busy
+    private static final int BACKLOG = 1024;
+
+    private final Selector selector;
+    private final ServerSocketChannel server;
+    private volatile boolean closed;
+
+    /**
+     * A connection to a user, with the game it is playing and its buffered input and output
+     */
+    private static final class Connection {
+        private final GameSession session = new GameSession();
+        private final ByteBuffer input = ByteBuffer.allocate(512);
+        private final CharBuffer decoded = CharBuffer.allocate(512);
+        // Malformed input is replaced rather than left in the buffer, where it would stop every later byte from being decoded
+        private final CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        private final StringBuilder line = new StringBuilder();
+        private final ArrayDeque<ByteBuffer> output = new ArrayDeque<>();
+        private int queuedBytes;
+        private boolean inputEnded;
+    }
+
+    /**
+     * Creates a server listening on the given local port
+     *
+     * @param port the port to listen on, or 0 for any free port
+     * @throws IOException if the port cannot be opened
+     */
+    NioGameServer(int port) throws IOException {
+        selector = Selector.open();
+        server = ServerSocketChannel.open();
+        server.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), BACKLOG);
+        server.configureBlocking(false);
+        server.register(selector, SelectionKey.OP_ACCEPT);
+    }
+
+    /**
+     * Accepts connections and plays their games until the server is closed, closing every connection once it is
+     *
+     * @throws IOException if the selector fails
+     */
+    void serve() throws IOException {
+        try {
+            while (!closed) {
+                selector.select();
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    try {
+                        if (key.isAcceptable()) accept();
+                        else if (key.isReadable()) read(key);
+                        if (key.isValid() && key.isWritable()) write(key);
+                    } catch (IOException e) {
+                        // The user disconnected
+                        key.channel().close();
+                    } catch (RuntimeException e) {
+                        // A failure in one game ends only that user's connection, not the server
+                        key.channel().close();
+                    }
+                }
+            }
+        } finally {
+            for (SelectionKey key : selector.keys()) key.channel().close();
+            selector.close();
+        }
+    }
+
+    private void accept() throws IOException {
+        // Take every pending connection at once, so that a burst of users does not overflow the backlog
+        SocketChannel channel;
+        while ((channel = server.accept()) != null) {
+            try {
+                channel.configureBlocking(false);
+                Connection connection = new Connection();
+                SelectionKey key = channel.register(selector, SelectionKey.OP_READ, connection);
+                send(key, connection.session.start());
+            } catch (IOException | RuntimeException e) {
+                // Only the new connection is dropped, since the key being handled is the server's
+                channel.close();
+            }
+        }
+    }
+
+    private void read(SelectionKey key) throws IOException {
+        SocketChannel channel = (SocketChannel) key.channel();
+        Connection connection = (Connection) key.attachment();
+        if (channel.read(connection.input) < 0) {
+            // The user has stopped sending, so close the connection once everything queued for them has been sent
+            connection.inputEnded = true;
+            if (connection.output.isEmpty()) channel.close();
+            else key.interestOps(SelectionKey.OP_WRITE);
+            return;
+        }
+        connection.input.flip();
+        connection.decoder.decode(connection.input, connection.decoded, false);
+        connection.input.compact();
+        connection.decoded.flip();
+        while (connection.decoded.hasRemaining()) {
+            char c = connection.decoded.get();
+            if (c != '\n') {
+                connection.line.append(c);
+                if (connection.line.length() > MAX_LINE_LENGTH) throw new IOException("Line too long");
+                continue;
+            }
+            // Network terminals send a carriage return with each line feed
+            int length = connection.line.length();
+            if (length > 0 && connection.line.charAt(length - 1) == '\r') connection.line.setLength(length - 1);
+            String line = connection.line.toString();
+            connection.line.setLength(0);
+            if (!connection.session.isEnded()) send(key, connection.session.receive(line));
+        }
+        connection.decoded.clear();
+    }
+
+    private void send(SelectionKey key, String text) throws IOException {
+        if (text.isEmpty()) return;
+        Connection connection = (Connection) key.attachment();
+        ByteBuffer buffer = StandardCharsets.UTF_8.encode(SocketTerminal.withCarriageReturns(text));
+        connection.queuedBytes += buffer.remaining();
+        if (connection.queuedBytes > MAX_QUEUED_BYTES) throw new IOException("Too much output queued");
+        connection.output.add(buffer);
+        key.interestOps(key.interestOps() | SelectionKey.OP_WRITE);
+    }
+
+    private void write(SelectionKey key) throws IOException {
+        SocketChannel channel = (SocketChannel) key.channel();
+        Connection connection = (Connection) key.attachment();
+        while (!connection.output.isEmpty()) {
+            ByteBuffer buffer = connection.output.peek();
+            connection.queuedBytes -= channel.write(buffer);
+            // The channel is full, so wait until it can take more
+            if (buffer.hasRemaining()) return;
+            connection.output.remove();
+        }
+        if (connection.session.isEnded() || connection.inputEnded) channel.close();
+        else key.interestOps(SelectionKey.OP_READ);
+    }
+
+    int getPort() {
+        return server.socket().getLocalPort();
+    }
+
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        server.close();
+        selector.wakeup();
+    }
+
+    public static void main(String[] args) throws Exception {
+        // The port can be given as the first argument
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 4000;
+        try (NioGameServer server = new NioGameServer(port)) {
+            System.out.println("Serving Clue 2.0 on port " + server.getPort());
+            server.serve();
+        }
+    }
+}
@@ -0,0 +1,220 @@
+import java.util.Arrays;
+
+/**
+ * The {@code Posterior} class keeps the probability of each of the 324 solutions to the murder given the evidence so far.
+ * Like {@code Deductions}, it trusts the wording of camera footage to give away red herrings, which are never the truth, so it
+ * rules out exactly the solutions the deductions do. It also weighs evidence that only makes a solution less likely, such as
+ * a UV scan that finds nothing or footage that only shows the room.
+ * <p>
+ * The answers are chosen uniformly, so every solution starts out equally likely. Each piece of evidence multiplies the
+ * probability of each solution by the likelihood of the evidence under it, taken from tables precomputed from the chances
+ * used to generate the evidence, and then renormalizes, so an update is a single pass over 324 doubles.
+ *
+ * @author Alexander Chang
+ * @version 1.5, 10/17/2026
+ * @since 1.5
+ */
+public class Posterior {
+    private static final int SUSPECTS = Suspect.values().length;
+    private static final int WEAPONS = Weapon.values().length;
+    private static final int ROOMS = Deductions.MURDER_ROOMS;
+
+    // The chances CameraResult shows the true room, a red herring room, or nothing at all
+    private static final double CAMERA_TRUE_ROOM = 0.8;
+    private static final double CAMERA_OTHER_ROOM = 0.1 / (Room.values().length - 1);
+    private static final double CAMERA_NOTHING = 0.1;
+    // The chances CameraResult shows the true weapon, a red herring weapon, or no weapon when it shows a room
+    private static final double CAMERA_TRUE_WEAPON = 0.35;
+    private static final double CAMERA_OTHER_WEAPON = 0.1 / (WEAPONS - 1);
+    private static final double CAMERA_NO_WEAPON = 0.55;
+    // The chances CameraResult shows the true suspect, a red herring suspect, or no suspect when it shows a room
+    private static final double CAMERA_TRUE_SUSPECT = 0.1;
+    private static final double CAMERA_OTHER_SUSPECT = 0.1 / (SUSPECTS - 1);
+    private static final double CAMERA_NO_SUSPECT = 0.8;
+    // The chance the UV clue is placed in the murder room, and the chance DNA is still found in any other room
+    private static final double UV_CLUE_PLACED = 0.75;
+    private static final double STRAY_DNA = 0.3;
+
+    // The likelihood of the room, weapon, and suspect shown by footage under each true room, weapon, and suspect, indexed by
+    // the ordinal of what was shown plus one, offset by the number of choices if the wording gives it away as a red herring,
+    // with 0 for nothing shown
+    private static final double[][] cameraRoomLikelihoods = likelihoodTable(Room.values().length, ROOMS, CAMERA_NOTHING, CAMERA_TRUE_ROOM, CAMERA_OTHER_ROOM);
+    private static final double[][] cameraWeaponLikelihoods = likelihoodTable(WEAPONS, WEAPONS, CAMERA_NO_WEAPON, CAMERA_TRUE_WEAPON, CAMERA_OTHER_WEAPON);
+    private static final double[][] cameraSuspectLikelihoods = likelihoodTable(SUSPECTS, SUSPECTS, CAMERA_NO_SUSPECT, CAMERA_TRUE_SUSPECT, CAMERA_OTHER_SUSPECT);
+
+    // Factors that leave a dimension unchanged
+    private static final double[] NO_SUSPECT_FACTORS = filled(SUSPECTS, 1);
+    private static final double[] NO_WEAPON_FACTORS = filled(WEAPONS, 1);
+    private static final double[] NO_ROOM_FACTORS = filled(ROOMS, 1);
+
+    private final double[] probabilities = filled(Deductions.SOLUTIONS, 1.0 / Deductions.SOLUTIONS);
+    // Rooms already scanned for bloodspots without finding any, since the clue does not move between scans
+    private final boolean[] scannedWithoutClue = new boolean[Room.values().length];
+    // Factors filled in for each event, kept so that an update allocates nothing
+    private final double[] suspectScratch = new double[SUSPECTS];
+    private final double[] weaponScratch = new double[WEAPONS];
+    private final double[] roomScratch = new double[ROOMS];
+
+    /**
+     * Builds the table of likelihoods of what footage shows of one kind of thing, such as the room, under each true value
+     *
+     * @param choices the number of things footage can show
+     * @param answers the number of things that can be the answer
+     * @param nothing the chance footage shows none of them
+     * @param truth the chance footage shows the answer
+     * @param redHerring the chance footage shows any one red herring, which is never the answer
+     */
+    private static double[][] likelihoodTable(int choices, int answers, double nothing, double truth, double redHerring) {
+        double[][] table = new double[2 * choices + 1][answers];
+        for (int answer = 0; answer < answers; answer++) {
+            table[0][answer] = nothing;
+            table[answer + 1][answer] = truth;
+            for (int shown = 0; shown < choices; shown++) if (shown != answer) table[choices + shown + 1][answer] = redHerring;
+        }
+        return table;
+    }
+
+    /**
+     * Returns the row of a likelihood table for what footage showed
+     */
+    private static int shownIndex(Enum<?> shown, boolean redHerring, int choices) {
+        return shown == null ? 0 : shown.ordinal() + 1 + (redHerring ? choices : 0);
+    }
+
+    private static double[] filled(int length, double value) {
+        double[] array = new double[length];
+        Arrays.fill(array, value);
+        return array;
+    }
+
+    /**
+     * Updates the probabilities with what the given event reveals, ignoring events that reveal nothing about the answer
+     *
+     * @param event an event produced by the game
+     * @throws IllegalStateException if the event rules out every solution still thought possible
+     */
+    void observe(GameEvent event) throws IllegalStateException {
+        switch (event.getType()) {
+            // DNA is always found in the murder room and only sometimes anywhere else
+            case DNA_COLLECTED -> update(NO_SUSPECT_FACTORS, NO_WEAPON_FACTORS, roomFactors(event.getRoom(), 1, STRAY_DNA));
+            case DNA_NOT_FOUND -> update(NO_SUSPECT_FACTORS, NO_WEAPON_FACTORS, roomFactors(event.getRoom(), 0, 1));
+            case DNA_RESULT -> {
+                EvidenceSample sample = event.getSample();
+                if (sample.hasResult()) update(indicator(suspectScratch, sample.getSuspect().ordinal()), NO_WEAPON_FACTORS, roomFactors(sample.getRoom(), 1, 0));
+                else update(NO_SUSPECT_FACTORS, NO_WEAPON_FACTORS, roomFactors(sample.getRoom(), 0, 1));
+            }
+            // The only weapon to be found is the murder weapon, and it carries the murderer's fingerprints
+            case FINGERPRINTS_COLLECTED -> update(NO_SUSPECT_FACTORS, indicator(weaponScratch, ((FingerprintSample) event.getSample()).getWeapon().ordinal()), NO_ROOM_FACTORS);
+            case FINGERPRINT_RESULT -> {
+                FingerprintSample sample = (FingerprintSample) event.getSample();
+                update(indicator(suspectScratch, sample.getSuspect().ordinal()), indicator(weaponScratch, sample.getWeapon().ordinal()), NO_ROOM_FACTORS);
+            }
+            case UV_CLUE_FOUND -> update(NO_SUSPECT_FACTORS, NO_WEAPON_FACTORS, roomFactors(event.getRoom(), 1, 0));
+            case UV_FLUKE, UV_NOTHING -> {
+                Room room = event.getRoom();
+                if (scannedWithoutClue[room.ordinal()]) return;
+                scannedWithoutClue[room.ordinal()] = true;
+                update(NO_SUSPECT_FACTORS, NO_WEAPON_FACTORS, roomFactors(room, 1 - UV_CLUE_PLACED, 1));
+            }
+            case CAMERA_RESULT -> {
+                CameraResult footage = event.getFootage();
+                // Footage that shows nothing is equally likely under every solution
+                if (footage.getRoom() == null) return;
+                update(
+                    cameraSuspectLikelihoods[shownIndex(footage.getSuspect(), footage.isSuspectRedHerring(), SUSPECTS)],
+                    cameraWeaponLikelihoods[shownIndex(footage.getWeapon(), footage.isWeaponRedHerring(), WEAPONS)],
+                    cameraRoomLikelihoods[shownIndex(footage.getRoom(), footage.isRoomRedHerring(), Room.values().length)]);
+            }
+            default -> {}
+        }
+    }
+
+    /**
+     * Returns the likelihood of the given footage if the murder was committed by the given suspect with the given weapon in the given room
+     *
+     * @param footage the footage, judged by what it shows and by which of it the wording gives away as red herrings
+     * @param suspect the suspect
+     * @param weapon the weapon
+     * @param room the murder room
+     * @return the chance that {@code CameraResult} shows exactly what the footage shows, worded the same way
+     */
+    static double likelihood(CameraResult footage, Suspect suspect, Weapon weapon, Room room) {
+        if (footage.getRoom() == null) return footage.getWeapon() == null && footage.getSuspect() == null ? CAMERA_NOTHING : 0;
+        return cameraRoomLikelihoods[shownIndex(footage.getRoom(), footage.isRoomRedHerring(), Room.values().length)][room.ordinal()] *
+            cameraWeaponLikelihoods[shownIndex(footage.getWeapon(), footage.isWeaponRedHerring(), WEAPONS)][weapon.ordinal()] *
+            cameraSuspectLikelihoods[shownIndex(footage.getSuspect(), footage.isSuspectRedHerring(), SUSPECTS)][suspect.ordinal()];
+    }
+
+    /**
+     * Fills in factors for each murder room, with one for the given room and another for the rest
+     */
+    private double[] roomFactors(Room room, double inRoom, double elsewhere) {
+        Arrays.fill(roomScratch, elsewhere);
+        if (room.ordinal() < ROOMS) roomScratch[room.ordinal()] = inRoom;
+        return roomScratch;
+    }
+
+    private static double[] indicator(double[] factors, int index) {
+        Arrays.fill(factors, 0);
+        factors[index] = 1;
+        return factors;
+    }
+
+    /**
+     * Multiplies the probability of each solution by the factors for its suspect, weapon, and room, and renormalizes
+     */
+    private void update(double[] suspectFactors, double[] weaponFactors, double[] roomFactors) {
+        double total = 0;
+        int solution = 0;
+        for (int suspect = 0; suspect < SUSPECTS; suspect++) {
+            for (int weapon = 0; weapon < WEAPONS; weapon++) {
+                double factor = suspectFactors[suspect] * weaponFactors[weapon];
+                for (int room = 0; room < ROOMS; room++, solution++) total += probabilities[solution] *= factor * roomFactors[room];
+            }
+        }
+        if (total == 0) throw new IllegalStateException("The evidence rules out every solution");
+        for (int i = 0; i < probabilities.length; i++) probabilities[i] /= total;
+    }
+
+    double probability(Suspect suspect, Weapon weapon, Room room) {
+        return room.ordinal() < ROOMS ? probabilities[Deductions.indexOf(suspect, weapon, room)] : 0;
+    }
+
+    double probability(Suspect suspect) {
+        double total = 0;
+        int first = suspect.ordinal() * WEAPONS * ROOMS;
+        for (int solution = first; solution < first + WEAPONS * ROOMS; solution++) total += probabilities[solution];
+        return total;
+    }
+
+    double probability(Weapon weapon) {
+        double total = 0;
+        for (int suspect = 0; suspect < SUSPECTS; suspect++) {
+            int first = (suspect * WEAPONS + weapon.ordinal()) * ROOMS;
+            for (int solution = first; solution < first + ROOMS; solution++) total += probabilities[solution];
+        }
+        return total;
+    }
+
+    double probability(Room room) {
+        if (room.ordinal() >= ROOMS) return 0;
+        double total = 0;
+        for (int solution = room.ordinal(); solution < probabilities.length; solution += ROOMS) total += probabilities[solution];
+        return total;
+    }
+
+    /**
+     * Finds the most likely solution
+     *
+     * @return the index of the most likely solution, as used by {@code Deductions}, preferring the lowest index among ties
+     */
+    int mostLikely() {
+        int best = 0;
+        for (int solution = 1; solution < probabilities.length; solution++) if (probabilities[solution] > probabilities[best]) best = solution;
+        return best;
+    }
+
+    double probabilityOf(int solution) {
+        return probabilities[solution];
+    }
+}
@@ -0,0 +1,86 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.Test;
+
+/**
+ * The {@code PosteriorTest} class provides tests for weighing the evidence over every solution
+ *
+ * @author Alexander Chang
+ * @version 1.5, 10/17/2026
+ * @since 1.5
+ */
+public class PosteriorTest {
+
+    @Test
+    public void cameraLikelihoodsMatchFootage() {
+        GameRandom rng = new GameRandom(42);
+        int samples = 200000;
+        HashMap<List<Object>, Integer> counts = new HashMap<>();
+        HashMap<List<Object>, CameraResult> examples = new HashMap<>();
+        for (int i = 0; i < samples; i++) {
+            CameraResult footage = new CameraResult(Room.LIBRARY, Weapon.values()[1], Suspect.PEACOCK, rng);
+            List<Object> shown = new ArrayList<>();
+            shown.add(footage.getRoom());
+            shown.add(footage.isRoomRedHerring());
+            shown.add(footage.getWeapon());
+            shown.add(footage.isWeaponRedHerring());
+            shown.add(footage.getSuspect());
+            shown.add(footage.isSuspectRedHerring());
+            counts.merge(shown, 1, Integer::sum);
+            examples.putIfAbsent(shown, footage);
+        }
+        for (Map.Entry<List<Object>, Integer> outcome : counts.entrySet()) {
+            if (outcome.getValue() < 2000) continue;
+            double expected = Posterior.likelihood(examples.get(outcome.getKey()), Suspect.PEACOCK, Weapon.values()[1], Room.LIBRARY);
+            assertEquals(expected, outcome.getValue() / (double) samples, expected * 0.1);
+        }
+    }
+
+    @Test
+    public void probabilitiesFollowEvidence() {
+        int answerMostLikely = 0;
+        for (long seed = 0; seed < 300; seed++) {
+            GameEngine engine = new GameEngine("Tester", "scarlet", seed);
+            Posterior posterior = new Posterior();
+            GameRandom choices = new GameRandom(seed);
+            while (engine.isGameActive()) {
+                ArrayList<Command> options = new ArrayList<>(engine.availableCommands());
+                options.remove(Command.ACCUSE);
+                engine.apply(options.get(choices.nextInt(options.size()))).forEach(posterior::observe);
+            }
+            // Camera footage of the answer arrives as if requested at the end of the game
+            for (int i = 0; i < 5; i++) posterior.observe(new GameEvent(GameEvent.Type.CAMERA_RESULT, new CameraResult(engine.getAnswerRoom(), engine.getAnswerWeapon(), engine.getAnswerSuspect(), choices)));
+
+            double total = 0;
+            for (int solution = 0; solution < Deductions.SOLUTIONS; solution++) total += posterior.probabilityOf(solution);
+            assertEquals(1, total, 1e-9);
+            assertTrue(posterior.probability(engine.getAnswerSuspect(), engine.getAnswerWeapon(), engine.getAnswerRoom()) > 0);
+            if (posterior.mostLikely() == Deductions.indexOf(engine.getAnswerSuspect(), engine.getAnswerWeapon(), engine.getAnswerRoom())) answerMostLikely++;
+        }
+        // Five clips usually give away the room, but rarely the weapon and suspect
+        assertTrue(answerMostLikely > 0);
+    }
+
+    @Test
+    public void rulesOutWhatDeductionsRuleOut() {
+        for (long seed = 0; seed < 100; seed++) {
+            GameEngine engine = new GameEngine("Tester", "white", seed);
+            Posterior posterior = new Posterior();
+            Deductions deductions = new Deductions();
+            GameRandom choices = new GameRandom(seed);
+            for (int i = 0; i < 5; i++) {
+                GameEvent event = new GameEvent(GameEvent.Type.CAMERA_RESULT, new CameraResult(engine.getAnswerRoom(), engine.getAnswerWeapon(), engine.getAnswerSuspect(), choices));
+                posterior.observe(event);
+                deductions.observe(event);
+            }
+            for (int solution = 0; solution < Deductions.SOLUTIONS; solution++) {
+                boolean possible = deductions.isPossible(Deductions.suspectAt(solution), Deductions.weaponAt(solution), Deductions.roomAt(solution));
+                assertEquals(possible, posterior.probabilityOf(solution) > 0);
+            }
+        }
+    }
+}
@@ -0,0 +1,36 @@
+import java.util.ArrayList;
+import java.util.EnumSet;
+
+/**
+ * The {@code RandomWalkBot} class is the baseline bot, which wanders the mansion taking any turn-using command at random
+ * and accuses a random solution at some point while it is on the staircase.
+ *
+ * @author Alexander Chang
+ * @version 1.5, 10/17/2026
+ * @since 1.5
+ */
+public class RandomWalkBot implements Bot {
+    // The chance of accusing on each turn spent on the staircase
+    private static final double ACCUSE_CHANCE = 0.1;
+    // Commands that do not move the game along
+    private static final EnumSet<Command> IDLE_COMMANDS = EnumSet.of(Command.ACCUSE, Command.INVENTORY, Command.LOG, Command.DISCARD_DNA, Command.DISCARD_FINGERPRINTS);
+
+    private final GameRandom random;
+
+    RandomWalkBot(GameRandom random) {
+        this.random = random;
+    }
+
+    @Override
+    public void playTurn(GameEngine engine) {
+        EnumSet<Command> options = engine.availableCommands();
+        if (options.contains(Command.ACCUSE) && random.nextDouble() < ACCUSE_CHANCE) {
+            engine.accuse(Suspect.values()[random.nextInt(Suspect.values().length)], Weapon.values()[random.nextInt(Weapon.values().length)],
+                Room.values()[random.nextInt(Deductions.MURDER_ROOMS)]);
+            return;
+        }
+        options.removeAll(IDLE_COMMANDS);
+        ArrayList<Command> choices = new ArrayList<>(options);
+        engine.apply(choices.get(random.nextInt(choices.size())));
+    }
+}
@@ -2,7 +2,7 @@
  * The {@code Room} enum type contains functionality for rooms within the game
  * 
  * @author Alexander Chang
- * @version 1.1, 12/29/2024
+ * @version 1.5, 10/17/2026
  * @since 1.0
  */
 public enum Room {
@@ -17,47 +17,26 @@ public enum Room {
     STUDY("Study", new int[][] {{6, 3}}),
     STAIRCASE("Staircase", new int[][] {{11, 9}, {12, 9}, {13, 9}});
 
+    public static final int MAP_WIDTH = 24;
+    public static final int MAP_HEIGHT = 25;
+
+    // The room whose entrance is at each cell of the map, indexed by (y - 1) * MAP_WIDTH + (x - 1)
+    private static final Room[] entranceCells = new Room[MAP_WIDTH * MAP_HEIGHT];
+
+    static {
+        for (Room room : values()) {
+            for (int[] entrance : room.entrances) entranceCells[(entrance[1] - 1) * MAP_WIDTH + entrance[0] - 1] = room;
+        }
+    }
+
     private String name;
     private int[][] entrances;
-    private Item item;
-    private Weapon weapon;
-    private Suspect weaponFingerprints;
-    private Suspect DNA;
-    private boolean UVCluePresent;
 
     Room(String name, int[][] entrances) {
         this.name = name;
         this.entrances = entrances;
     }
 
-    void setItem(Item item) {
-        this.item = item;
-    }
-
-    boolean hasItem() {
-        return item != null;
-    }
-
-    void setWeapon(Weapon weapon) {
-        this.weapon = weapon;
-    }
-
-    boolean hasWeapon() {
-        return weapon != null;
-    }
-
-    void setWeaponFingerprints(Suspect weaponFingerprints) {
-        this.weaponFingerprints = weaponFingerprints;
-    }
-
-    void setDNA(Suspect DNA) {
-        this.DNA = DNA;
-    }
-
-    void setUVCluePresent(boolean UVCluePresent) {
-        this.UVCluePresent = UVCluePresent;
-    }
-
     String getName() {
         return name;
     }
@@ -66,24 +45,33 @@ public enum Room {
         return entrances;
     }
 
-    Item getItem() {
-        return item;
-    }
-
-    Weapon getWeapon() {
-        return weapon;
-    }
-
-    Suspect getWeaponFingerprints() {
-        return weaponFingerprints;
-    }
-
-    Suspect getDNA() {
-        return DNA;
-    }
-
-    boolean isUVCluePresent() {
-        return UVCluePresent;
+    /**
+     * Finds the room with an entrance at the given cell of the map
+     *
+     * @param x the column of the cell, starting at 1
+     * @param y the row of the cell, starting at 1
+     * @return the room with an entrance at the cell, or {@code null} if the cell is not an entrance
+     */
+    static Room atCell(int x, int y) {
+        if (x < 1 || x > MAP_WIDTH || y < 1 || y > MAP_HEIGHT) return null;
+        return entranceCells[(y - 1) * MAP_WIDTH + x - 1];
+    }
+
+    /**
+     * Finds the room the user means by the given name, which may be any part of the room's name that no other room shares
+     *
+     * @param name the name entered by the user, such as "dining room" or "billiard"
+     * @return the room, or {@code null} if no room or more than one room matches the name
+     */
+    static Room named(String name) {
+        Room match = null;
+        for (Room room : values()) {
+            if (room.name.equalsIgnoreCase(name)) return room;
+            if (!room.name.toLowerCase().contains(name.toLowerCase())) continue;
+            if (match != null) return null;
+            match = room;
+        }
+        return match;
     }
 
     @Override
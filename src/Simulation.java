@@ -1,12 +1,59 @@
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
 
 /**
  * The {@code Simulation} class contains the core mechanics of the game including turn actions and prompting for input
  * <p>
  * <strong>Changelog</strong>
  * <p>
+ * Version 1.5 (10/17/2026):
+ * <ul>
+ * <li>
+ * <strong>Additions:</strong>
+ * <ul>
+ * <li><strong>Moved the game rules into the headless {@code GameEngine}, leaving {@code Simulation} to render its events</strong></li>
+ * <li>Moved the items and clues placed in each room from {@code Room} into a per-game {@code BoardState}</li>
+ * <li>Replaced {@code Math.random()} with a seedable per-game {@code GameRandom}</li>
+ * <li>Compiled the map into a {@code MovementGraph} once at startup instead of checking walls every turn</li>
+ * <li>Resolved entered commands and aliases through a static lookup table in {@code Command}</li>
+ * <li>Cached the rendered menu line of each command and the menu for each set of offered commands</li>
+ * <li>Rendered each frame of the map into one buffer written to system output at once</li>
+ * <li>Redrew only the cells of the map and lines of the command menu that changed since the last turn with {@code FrameRenderer}</li>
+ * <li>Compiled the map template into cell glyphs and styles once, leaving each frame to splice in the player</li>
+ * <li>Sent all output through a buffered {@code Terminal} that is flushed at the end of each frame, with implementations for system output, sockets, and in-memory capture</li>
+ * <li>Typed rolling text out on a virtual thread per session with instant, fast, and classic speeds, skipping ahead when enter is pressed and printing at once without a console</li>
+ * <li>Queued the loading animation on the same thread with a configurable length, cancelling it when enter is pressed</li>
+ * <li>Kept the detective's log as typed {@code LogEntry} records with their turn, shown a page at a time</li>
+ * <li>Indexed the detective's log by suspect, weapon, and room, filtered with {@code log <filter>}</li>
+ * <li>Scheduled lab results and camera footage by due turn with {@code EventScheduler}, allowing several to be in progress at once</li>
+ * <li>Added {@code GameServer}, which serves a separate game to each connection on a virtual thread</li>
+ * <li>Added {@code NioGameServer}, which plays each connection's game as a line-driven {@code GameSession} from a single selector thread</li>
+ * <li>Moved the map into {@code MapView}, the wording of the game into {@code GameText}, and its steps and menus into {@code GameFlow}, shared by {@code Simulation} and {@code GameSession}</li>
+ * <li>Added the {@code save} and {@code load} commands, which store a game in progress as a compact versioned {@code GameSnapshot} and are only offered on the console</li>
+ * <li>Journaled each game as its seed and accepted commands with {@code GameJournal} when run with {@code --journal}, which replays and checks recorded games headlessly</li>
+ * <li>Added the {@code notes} command, which lists the suspects, weapons, and rooms the evidence has not ruled out, tracked as a bitset by {@code Deductions}</li>
+ * <li>Added the {@code goto <room>} command and counted moves such as {@code 5d}, which take every step of the trip in a batch and draw only the final frame</li>
+ * </ul>
+ * </li>
+ * <li>
+ * <strong>Bug fixes:</strong>
+ * <ul>
+ * <li>Fixed lab and camera results that finished on the same turn never being delivered</li>
+ * <li>Fixed rooms visited recording the previous room instead of the entered room</li>
+ * <li>Fixed discarded fingerprint samples being reported as DNA samples</li>
+ * <li>Fixed a crash when camera footage picked a red herring weapon or suspect</li>
+ * </ul>
+ * </li>
+ * </ul>
+ * <p>
  * Version 1.4.2 (5/13/2025) Fixed various bugs
  * <p>
  * Version 1.4.1 (1/2/2025) Closed {@code Scanner} object used for input
@@ -43,7 +90,7 @@ import java.util.stream.Collectors;
  * </ul>
  * 
  * @author Alexander Chang
- * @version 1.4.2, 5/13/2025
+ * @version 1.5, 10/17/2026
  * @since 1.0
  */
 public class Simulation {
@@ -72,166 +119,120 @@ public class Simulation {
     public static final String ANSI_WHITE_BACKGROUND = "\u001B[47m";
     public static final String ANSI_GRAY_BACKGROUND = "\u001B[100m";
 
-    // 1 becomes a space and start of room color
-    // 2 becomes a space and end of room color
-    // 3 becomes a slash and end of room color
-    // 4 becomes a backslash and start of room color
-    private static final String map = """
-        XXXXXXXXXXXXXXXXXXXXXXXXXX
-        X1    2X XXXXXXXX X1    2X
-        X1    2|  |1  2|  |1    2X
-        X4    2|  |1  2|  |1    2X
-        X------|  |1  2|  |1    2X
-        XX     ^ >|1  2|  |1    3X
-        X         |1  2|  |------X
-        XX-----   ------  ^     XX
-        X1    2|    ^^           X
-        X1    2|< |1 2|   v     XX
-        X1    2|  |1 2|  |-------X
-        XX-----   |1 2|  |1     2X
-        XXv ^     -----  |1     2X
-        X-----|         >|1     2X
-        X1   2|          |1     2X
-        X1   2|          |--1   2X
-        X1   2|<            -----X
-        X-----|   v    v        XX
-        XX       |------|   v    X
-        X        |1    2|  |----XX
-        XX---|< >|1    2|< |1   2X
-        X1/  2|  |1    2|  |1   2X
-        X1   2|  |1    2|  |1   2X
-        X1   2|  |--12--|  |1   2X
-        X1    2X   |12|   X4    2X
-        XXXXXXXXXX XXXX XXXXXXXXXX
-        XXXXXXXXXXXXXXXXXXXXXXXXXX""";
-
-    private static final char[][] mapArray = {
-        {' ', ' ', ' ', ' ', ' ', ' ', 'X', ' ', 'X', 'X', 'X', 'X', 'X', 'X', 'X', 'X', 'S', 'X', ' ', ' ', ' ', ' ', ' ', ' '},
-        {' ', ' ', ' ', ' ', ' ', ' ', '|', ' ', ' ', '|', ' ', ' ', ' ', ' ', '|', ' ', ' ', '|', ' ', ' ', ' ', ' ', ' ', ' '},
-        {'\\', ' ', ' ', ' ', ' ', 'v', '|', ' ', ' ', '|', ' ', ' ', ' ', ' ', '|', ' ', ' ', '|', ' ', ' ', ' ', ' ', ' ', ' '},
-        {'-', '-', '-', '-', '-', '-', '|', ' ', ' ', '|', ' ', ' ', ' ', ' ', '|', ' ', ' ', '|', ' ', ' ', ' ', ' ', ' ', ' '},
-        {'X', ' ', ' ', ' ', ' ', ' ', '^', ' ', '>', '|', '<', ' ', ' ', ' ', '|', ' ', ' ', '|', 'v', ' ', ' ', ' ', ' ', '/'},
-        {' ', ' ', ' ', ' ', ' ', ' ', ' ', ' ', ' ', '|', ' ', 'v', 'v', ' ', '|', ' ', ' ', '|', '-', '-', '-', '-', '-', '-'},
-        {'X', '-', '-', '-', '-', '-', ' ', ' ', ' ', '-', '-', '-', '-', '-', '|', ' ', ' ', '^', ' ', ' ', ' ', ' ', ' ', 'X'},
-        {' ', ' ', ' ', ' ', ' ', ' ', '|', ' ', ' ', ' ', ' ', '^', '^', ' ', ' ', ' ', ' ', ' ', ' ', ' ', ' ', ' ', ' ', ' '},
-        {' ', ' ', ' ', ' ', ' ', '>', '|', '<', ' ', '|', ' ', ' ', ' ', '|', ' ', ' ', ' ', 'v', ' ', ' ', ' ', ' ', ' ', 'X'},
-        {' ', ' ', ' ', 'v', ' ', ' ', '|', ' ', ' ', '|', ' ', ' ', ' ', '|', ' ', ' ', '|', '-', '-', '-', '-', '-', '-', '-'},
-        {'X', '-', '-', '-', '-', '-', ' ', ' ', ' ', '|', ' ', ' ', ' ', '|', ' ', ' ', '|', '^', ' ', ' ', ' ', ' ', ' ', ' '},
-        {'X', 'v', ' ', '^', ' ', ' ', ' ', ' ', ' ', '-', '-', '-', '-', '-', ' ', ' ', '|', ' ', ' ', ' ', ' ', ' ', ' ', ' '},
-        {'-', '-', '-', '-', '-', '|', ' ', ' ', ' ', ' ', ' ', ' ', ' ', ' ', ' ', '>', '|', '<', ' ', ' ', ' ', ' ', ' ', ' '},
-        {' ', '^', ' ', ' ', ' ', '|', ' ', ' ', ' ', ' ', ' ', ' ', ' ', ' ', ' ', ' ', '|', ' ', ' ', ' ', ' ', ' ', ' ', ' '},
-        {' ', ' ', ' ', ' ', ' ', '|', ' ', ' ', ' ', ' ', ' ', ' ', ' ', ' ', ' ', ' ', '|', '-', '-', ' ', ' ', ' ', ' ', ' '},
-        {' ', ' ', ' ', ' ', '>', '|', '<', ' ', ' ', ' ', ' ', ' ', ' ', ' ', ' ', ' ', ' ', ' ', ' ', '-', '-', '-', '-', '-'},
-        {'-', '-', '-', '-', '-', '|', ' ', ' ', ' ', 'v', ' ', ' ', ' ', ' ', 'v', ' ', ' ', ' ', ' ', ' ', ' ', ' ', ' ', 'X'},
-        {'X', ' ', ' ', ' ', ' ', ' ', ' ', ' ', '|', '-', '-', '-', '-', '-', '-', '|', ' ', ' ', ' ', 'v', ' ', ' ', ' ', ' '},
-        {' ', ' ', ' ', ' ', ' ', ' ', ' ', ' ', '|', '^', ' ', ' ', ' ', ' ', '^', '|', ' ', ' ', '|', '-', '-', '-', '-', 'X'},
-        {'X', '-', '-', '-', '|', '<', ' ', '>', '|', '<', ' ', ' ', ' ', ' ', '>', '|', '<', ' ', '|', '^', ' ', ' ', ' ', ' '},
-        {' ', '/', ' ', ' ', '>', '|', ' ', ' ', '|', ' ', ' ', ' ', ' ', ' ', ' ', '|', ' ', ' ', '|', ' ', ' ', ' ', ' ', ' '},
-        {' ', ' ', ' ', ' ', ' ', '|', ' ', ' ', '|', ' ', ' ', ' ', ' ', ' ', ' ', '|', ' ', ' ', '|', ' ', ' ', ' ', ' ', ' '},
-        {' ', ' ', ' ', ' ', ' ', '|', ' ', ' ', '|', '-', '-', ' ', ' ', '-', '-', '|', ' ', ' ', '|', ' ', ' ', ' ', ' ', ' '},
-        {' ', ' ', ' ', ' ', ' ', ' ', 'X', ' ', ' ', ' ', '|', ' ', ' ', '|', ' ', ' ', ' ', 'X', '\\', ' ', ' ', ' ', ' ', ' '},
-        {'X', 'X', 'X', 'X', 'X', 'X', 'X', 'X', 'X', ' ', 'X', 'X', 'X', 'X', ' ', 'X', 'X', 'X', 'X', 'X', 'X', 'X', 'X', 'X'}
-    };
+    // Marks the end of user input in the queue of entered lines
+    private static final String END_OF_INPUT = new String("end of input");
 
+    private static final EnumSet<Command> YES_NO = EnumSet.of(Command.YES, Command.NO);
+
+    // Types rolling text out in front of the terminal of the session
+    private final Typewriter terminal;
     private Scanner input;
-    private boolean gameActive;
+    // The length of each step of the loading animation, which takes six steps per cycle and one more at the end
+    private final int loadingStepMillis;
+    // Lines entered by the user, read on a separate thread so that pressing enter can skip ahead of rolling text
+    private final BlockingQueue<String> lines = new LinkedBlockingQueue<>();
     private String name;
     private String color;
-    private String character;
-    private String playerANSIColor;
-    private ArrayList<Item> inventory = new ArrayList<>();
-    private String detectivesLog = "";
-    private Room currentRoom;
-    private ArrayList<Room> visitedRooms = new ArrayList<>();
-    private int numDonuts;
-    private int totalDonutsFound;
-    private int xPos; // Starting at 1
-    private int yPos; // Starting at 1
-    private boolean solvedMystery;
-    private boolean tookTooLong;
-
-    private int actionableTurns;
-    private int turns;
-    private int turnsSinceLastDonutFound; // Only donuts found in the kitchen
-    
-    private int totalRoomSearches;
-    private int totalFingerprintsCollected;
-    private int totalFingerprintsAnalyzed;
-    private int totalDNACollected;
-    private int totalDNAAnalyzed;
-    private int totalUVScans;
-    private int totalCamerasRequested;
-    private int totalDonutsEatenByJoseph;
-
-    private FingerprintSample collectedFingerprintSample;
-    private FingerprintSample labFingerprintSample;
-    private int turnsSinceFingerprintsSubmitted;
-
-    private DNASample collectedDNASample;
-    private DNASample labDNASample;
-    private int turnsSinceDNASubmitted;
-    
-    private final int donutsForCameraRequest = (int)(Math.random() * 4) + 2;
-    private CameraResult requestedCameras;
-    private int turnsSinceCamerasRequested;
-
-    private Suspect answerSuspect;
-    private Weapon answerWeapon;
-    private Room answerRoom;
+    // Draws the map in the chosen color
+    private MapView mapView;
+    // Reused for every frame of the map, so that each frame is written to the terminal at once
+    private final StringBuilder frame = new StringBuilder();
+    // Redraws only the parts of the map and command menu that changed since the last turn
+    private final FrameRenderer screen = new FrameRenderer(MapView.ROWS, MapView.COLUMNS);
+    private GameEngine engine;
+    // Anything entered after the last command, or null if nothing was
+    private String commandArgument;
+    // The number of times to repeat the last command entered, as in 5d
+    private int commandCount;
+    // The directory games are saved to and loaded from, or null if games cannot be saved, such as in a server shared by many users
+    private final Path saveDirectory;
+    // The directory each game is journaled to for replay, or null if games are not journaled
+    private final Path journalDirectory;
 
-    private String guessedSuspect;
-    private String guessedWeapon;
-    private String guessedRoom;
+    Simulation() {
+        // Piped and automated runs have no console, so their text is printed at once
+        this(new StdoutTerminal(), System.in, System.console() == null ? Typewriter.Speed.INSTANT : Typewriter.Speed.CLASSIC, 1000, GameSnapshot.SAVE_DIRECTORY, null);
+    }
 
-    private boolean suspectCorrect;
-    private boolean weaponCorrect;
-    private boolean roomCorrect;
+    /**
+     * Runs a game that prints to the given terminal and reads from the given input, such as the streams of a remote session,
+     * without saving, loading, or journaling games
+     *
+     * @param output the terminal to print to
+     * @param in the input to read the user's lines from
+     * @param speed the speed at which to type out rolling text
+     * @param loadingStepMillis the length of each step of the loading animation, or 0 to skip its waits
+     * @throws IllegalArgumentException if {@code loadingStepMillis} is negative
+     */
+    Simulation(Terminal output, InputStream in, Typewriter.Speed speed, int loadingStepMillis) throws IllegalArgumentException {
+        this(output, in, speed, loadingStepMillis, null, null);
+    }
 
-    Simulation() {
-        input = new Scanner(System.in);
+    /**
+     * Runs a game that prints to the given terminal and reads from the given input, such as the streams of a remote session
+     *
+     * @param output the terminal to print to
+     * @param in the input to read the user's lines from
+     * @param speed the speed at which to type out rolling text
+     * @param loadingStepMillis the length of each step of the loading animation, or 0 to skip its waits
+     * @param saveDirectory the directory to save and load games in, or {@code null} to not offer saving and loading
+     * @param journalDirectory the directory to journal each game to, or {@code null} to not journal games
+     * @throws IllegalArgumentException if {@code loadingStepMillis} is negative
+     */
+    Simulation(Terminal output, InputStream in, Typewriter.Speed speed, int loadingStepMillis, Path saveDirectory, Path journalDirectory) throws IllegalArgumentException {
+        if (loadingStepMillis < 0) throw new IllegalArgumentException("Illegal loading animation step length");
+        terminal = new Typewriter(output, speed);
+        this.loadingStepMillis = loadingStepMillis;
+        this.saveDirectory = saveDirectory;
+        this.journalDirectory = journalDirectory;
+        input = new Scanner(in, StandardCharsets.UTF_8);
+        // A virtual thread is enough to wait on input, even with many sessions in one server
+        Thread.ofVirtual().name("Input").start(this::readInput);
 
         clearConsole();
 
-        if (!pollANSISupport()) return;
+        if (!pollANSISupport()) {
+            terminal.flush();
+            terminal.awaitIdle();
+            return;
+        }
         ensureTerminalHeight();
 
         // Welcome the user
-        System.out.println("""
-        -----------------------
-          Welcome to Clue 2.0
-        -----------------------""");
+        terminal.println(GameText.TITLE);
 
-        Command command;
+        boolean played = false;
         do {
             // Prompt for input
-            command = promptInput("Please select from the options below:", true,
-                Command.ABOUT,
-                Command.BEGIN
-            );
+            Command command = promptInput(GameText.MENU_PROMPT, true, GameFlow.mainMenu(saveDirectory != null));
             // Process input and complete the requested task
-            if (command == Command.BEGIN) start();
-            else if (command == Command.ABOUT) about();
-            else throw new IllegalStateException("Invalid command: " + command);
-        } while (command != Command.BEGIN);
+            switch (command) {
+                case Command.ABOUT -> about();
+                case Command.BEGIN -> {
+                    start();
+                    played = true;
+                }
+                case Command.LOAD -> played = load();
+                default -> throw new IllegalStateException("Invalid command: " + command);
+            }
+        } while (!played);
+        terminal.flush();
+        terminal.awaitIdle();
     }
 
     /**
      * Provide a user-guided test to determine whether the user is using a console that supports ANSI escape codes.
      */
     private boolean pollANSISupport() {
-        System.out.println("""
-            -----------------------------------------
-              ANSI Escape Code Support Confirmation
-            -----------------------------------------
-            """);
-        rollingPrint("As noted in the documentation for this project, proper execution of this execution requires the use of a console that supports ANSI escape codes. ");
-        textDelay(1000);
-        rollingPrint("These codes provide essential coloring and the ability to clear the console and directly support smooth gameplay. ");
-        textDelay(1000);
-        rollingPrint("Take a look at the next line:");
-        System.out.println();
-        if (promptYesNo(ANSI_WHITE_BACKGROUND + ANSI_BLACK + " Hello, world! " + ANSI_RESET + "\nDo you see any additional text on the above line apart from the text ' Hello, world! '?", true) == Command.YES) {
-            System.out.println("Please find a console that supports ANSI support codes before running this project.");
+        terminal.println(GameText.ansiCheckHeading());
+        String[] sentences = GameText.ansiCheck();
+        for (int i = 0; i < sentences.length; i++) {
+            if (i > 0) textDelay(1000);
+            rollingPrint(sentences[i]);
+        }
+        terminal.println();
+        if (promptYesNo(GameText.ansiQuestion(), true) == Command.YES) {
+            terminal.println(GameText.ansiUnsupported());
             return false;
         }
         return true;
@@ -244,14 +245,13 @@ public class Simulation {
         String answer;
         do {
             clearConsole();
-            for (int i = 1; i <= 39 - 4; i++) {
-                System.out.println(i);
+            String[] instructions = GameText.terminalCheck();
+            for (int i = 1; i <= GameFlow.TERMINAL_HEIGHT - instructions.length - 1; i++) {
+                terminal.println(i);
             }
-            rollingPrintln("Please ensure that all the above numbers, this line, and the following lines are visible on your terminal window.");
-            rollingPrintln("If they are not, resize and press enter to see these numbers again.");
-            rollingPrintln("To exit this test, type done and press enter.");
-            System.out.print("> ");
-            answer = input.nextLine();
+            for (String instruction : instructions) rollingPrintln(instruction);
+            terminal.print("> ");
+            answer = readLine();
         } while (!answer.equals("done"));
         clearConsole();
     }
@@ -263,18 +263,14 @@ public class Simulation {
         clearConsole();
 
         // Tell the user about Clue 2.0
-        rollingPrintln("""
-            This project attempts to recreate the classic mystery game Clue, adding more modern features and items. This project was completed in its entirety by Alexander Chang. Special thanks to Oliver Waldin for his assistance in decisions and brainstorming of game mechanics. Unauthorized reproduction \u001B[1mor distribution\u001B[0m of this project is prohibited by law.
-            (c) 2024 by Alexander Chang. All rights reserved."""
-        );
+        rollingPrintln(GameText.about());
 
         // Provide instructions to return to the main menu
-        rollingPrint("""
-
-            To return to the main menu, press enter.""");
+        terminal.println();
+        rollingPrint(GameText.RETURN_TO_MENU);
         String answer;
         do {
-            answer = input.nextLine();
+            answer = readLine();
         } while (!answer.equals(""));
 
         clearConsole();
@@ -287,759 +283,334 @@ public class Simulation {
         clearConsole();
 
         // Introduction
-        rollingPrint("Welcome, detective. ");
-        textDelay(1000);
-        
-        String[] messages = {
-            "I've been awaiting your arrival. ",
-            "Thank you for coming on such short notice. ",
-            "I'm Detective Joseph Kenny with the local police department. ",
-            "We recently received a report of a murder of famous millionare Brian Thompson."
-        };
-        for (int i = 0; i < messages.length; i++) {
-            String message = messages[i];
-            rollingPrint(message);
-            textDelay();
+        for (String[] paragraph : GameText.introduction()) {
+            say(paragraph);
+            textDelay(1000);
+            terminal.println();
         }
 
-        System.out.println();
-        System.out.println();
-        rollingPrint("Thompson was killed in his mansion just last night and the mystery killer's been on the run since. ");
-        textDelay();
-        rollingPrint("We need your help in solving this mystery.");
-        textDelay(1000);
-        System.out.println();
-        
         // Confirm user willingness to participate
-        boolean willingToHelp = promptYesNo("Are you willing to help?",true) == Command.YES;
+        boolean willingToHelp = promptYesNo(GameText.HELP_QUESTION, true) == Command.YES;
 
         clearConsole();
 
         // If the user is not willing to help, say farewell and end the execution.
         if (!willingToHelp) {
-            rollingPrint("Well detective, it was nice meeting you. ");
-            textDelay();
-            rollingPrint("Farewell for now.");
+            say(GameText.farewell());
             textDelay();
-            input.close();
             return;
         }
 
         // Collect user details
+        say(GameText.nameQuestion());
+        terminal.println();
+        terminal.print("> ");
+        String answer = readLine();
 
-        rollingPrint("Glad to hear that, detective. ");
-        textDelay();
-        rollingPrint("Also, ");
-        textDelay();
-        rollingPrintln("what's your name?");
-        System.out.print("> ");
-        String answer;
-        answer = input.nextLine();
-        
-        // The length of the name must be between 1 and 26, not inclusive.
-        while (answer.length() > 25 || answer.length() == 1) {
+        while (!GameFlow.isValidName(answer)) {
             clearConsole();
 
             // Provide an error message
-            rollingPrint("Are you sure that's a real name? ");
-            textDelay();
-            rollingPrintln("It seems too " + (answer.length() > 25 ? "long." : "short."));
+            say(GameText.nameProblem(answer));
+            terminal.println();
 
             // Prompt the user for a new name
-            System.out.print("> ");
-            answer = input.nextLine();
+            terminal.print("> ");
+            answer = readLine();
         }
 
         name = answer;
         clearConsole();
 
-        rollingPrint("Nice to meet you, detective " + name + ". ");
-        textDelay();
-        rollingPrint("Finally, what's your favorite color? ");
-        textDelay();
-        rollingPrintln("(scarlet, mustard, white, green, blue, or plum)");
-        color = promptInput(true, "scarlet", "mustard", "white", "green", "blue", "plum");
-        switch (color) {
-            case "scarlet" -> {
-                character = "S";
-                playerANSIColor = ANSI_RED_BACKGROUND;
-            }
-
-            case "mustard" -> {
-                character = "M";
-                playerANSIColor = ANSI_YELLOW_BACKGROUND;
-            }
+        say(GameText.colorQuestion(name));
+        terminal.println();
+        color = promptInput(true, GameFlow.COLORS.toArray(String[]::new));
+        mapView = new MapView(color);
+        say(GameText.colorChosen());
+        textDelay(1000);
 
-            case "white" -> {
-                character = "W";
-                playerANSIColor = ANSI_WHITE_BACKGROUND;
-            }
+        loadingAnimation(2);
 
-            case "green" -> {
-                character = "G";
-                playerANSIColor = ANSI_GREEN_BACKGROUND;
-            }
+        for (String[] paragraph : GameText.arrival()) {
+            say(paragraph);
+            terminal.println();
+            terminal.println();
+            textDelay();
+        }
+        textDelay(5000);
 
-            case "blue" -> {
-                character = "P";
-                playerANSIColor = ANSI_BLUE_BACKGROUND;
-            }
+        // Provide the user key game tips
+        List<String> tips = GameText.tips();
+        terminal.println(tips.get(0));
+        tips.subList(1, tips.size() - 1).forEach(this::rollingPrintln);
+        terminal.println(tips.get(tips.size() - 1));
 
-            case "plum" -> {
-                character = "P";
-                playerANSIColor = ANSI_PURPLE_BACKGROUND;
-            }
-        }
-        rollingPrint("Oh, ");
-        textDelay(250);
-        rollingPrint("nice choice. ");
         textDelay();
-        rollingPrint("Let's head over to the crime scene now.");
-        textDelay(1000);
 
-        loadingAnimation(2);
+        rollingPrint(GameText.BEGIN);
+        readLine();
 
-        rollingPrint("Alright, detective, ");
-        textDelay();
-        rollingPrint("here we are. ");
-        textDelay();
-        rollingPrint("Thompson was killed on the second floor of his mansion, which has 9 rooms wrapped around the central staircase. ");
-        textDelay();
-        rollingPrint("Since the murder's so recent, my team has only gotten a chance to secure the scene and hasn't started any of the investigation yet. ");
-        textDelay();
-        rollingPrint("I've decided to leave it up to you to solve.");
-        textDelay();
-        System.out.println();
-        System.out.println();
-        rollingPrint("Here's a map of the top floor. ");
-        textDelay();
-        rollingPrint("The arrows represent entrances to each room. ");
-        textDelay();
-        rollingPrint("If at any point you need to reach me or can't manage the investigation any longer for whatever reason, I'll be right at the base of the central staircase with the media. ");
-        textDelay();
-        rollingPrint("I'll keep track of any analysis you complete or cameras you request in your detective's log and remember, ");
-        textDelay(250);
-        rollingPrint(ANSI_WHITE_BACKGROUND + ANSI_BOLD + ANSI_BLUE + " time is of the essence. " + ANSI_RESET);
-        textDelay();
-        System.out.println();
-        System.out.println();
-        rollingPrint("Best of luck, ");
-        textDelay(250);
-        rollingPrint("detective.");
-        System.out.println();
-        System.out.println();
-        textDelay(5000);
-        
-        // Provide the user key game tips
-        System.out.println("========================================== KEY GAME TIPS ==========================================");
-        rollingPrintln(" Press enter to exit result and dialogue screens.");
-        rollingPrintln(" Don't rush through. Keep an eye out for your lab results.");
-        rollingPrintln(" Analyze samples you collect with Detective Joseph. Not everything is free. What would a cop want?");
-        rollingPrintln(" Keep track of the clues you have collected. There is no way to go back.");
-        rollingPrintln(" Your position on the board is indicated by a square of your chosen color and its letter.");
-        rollingPrintln(" Enter rooms, marked in grey through the squares with arrows in them.");
-        System.out.println("===================================================================================================");
-
-        textDelay();        
-        
-        rollingPrint("To begin, press enter.");
-        input.nextLine();
-
-        selectAnswers();
-        placeItems();
-        placeClues();
-
-        // Spawn the user
-        switch (color) {
-            case "scarlet":
-                xPos = 17;
-                yPos = 1;
-                break;
-            
-            case "mustard":
-                xPos = 24;
-                yPos = 8;
-                break;
-
-            case "white":
-                xPos = 15;
-                yPos = 25;
-                break;
-            
-            case "green":
-                xPos = 10;
-                yPos = 25;
-                break;
-            
-            case "blue":
-                xPos = 1;
-                yPos = 19;
-                break;
-            
-            case "plum":
-                xPos = 1;
-                yPos = 6;
-                break;
-
-            default:
-                xPos = 8;
-                yPos = 1;
-                break;
-        }
+        // Set up the game and spawn the user
+        engine = new GameEngine(name, color);
 
         // Begin the actual text adventure
         run();
     }
 
     /**
-     * Runs the text adventure, prompting the user for input on each turn
+     * Runs the text adventure, prompting the user for input on each turn and rendering the events produced by the game engine
      */
     private void run() {
-        gameActive = true;
-        while (gameActive) {
-            clearConsole();
-
-            // Deliver lab and camera results
-            if (labDNASample != null && turnsSinceDNASubmitted == labDNASample.getTurnsForAnalysis()) {
-                // Deliver the results
-                System.out.println("===== Lab Results =====");
-                rollingPrintln("The DNA you collected from the " + labDNASample.getRoom().getName().toLowerCase() + (labDNASample.hasResult() ? " was identified as that of " + labDNASample.getSuspect().getName() + "." : " could not be identified."));
-                System.out.println("=======================");
-
-                // Add the results to the detective's log
-                detectivesLog += "DNA sample from " + labDNASample.getRoom().getName().toLowerCase() + (labDNASample.hasResult() ? " was identified as that of " + labDNASample.getSuspect().getName() : " was inconclusive") + ".\n";
-
-                // Require result acknowledgement
-                String answer;
-                do {
-                    System.out.println();
-                    rollingPrintln("To acknowledge these results, please type ok below and then press enter.");
-                    System.out.print("> ");
-                    answer = input.nextLine();
-                } while (!answer.toLowerCase().equals("ok"));
-
-                // Reset DNA sample and clear console
-                labDNASample = null;
-                clearConsole();
-            } else if (labFingerprintSample != null && turnsSinceFingerprintsSubmitted == labFingerprintSample.getTurnsForAnalysis()) {
-                // Deliver the results
-                System.out.println("===== Lab Results =====");
-                rollingPrintln("The fingerprints you collected from the " + labFingerprintSample.getWeapon().getName().toLowerCase() + " in the " + labFingerprintSample.getRoom().getName().toLowerCase() + " were identified as those of " + labFingerprintSample.getSuspect().getName() + ".");
-                System.out.println("=======================");
-
-                // Add the results to the detective's log
-                detectivesLog += "Fingerprints off a " + labFingerprintSample.getWeapon().getName().toLowerCase() + " from " + labFingerprintSample.getRoom().getName().toLowerCase() + " were identified as that of " + labFingerprintSample.getSuspect().getName() + ".\n";
-
-                // Require result acknowledgement
-                String answer;
-                do {
-                    System.out.println();
-                    rollingPrintln("To acknowledge these results, please type ok below and then press enter.");
-                    System.out.print("> ");
-                    answer = input.nextLine();
-                } while (!answer.toLowerCase().equals("ok"));
-
-                // Reset fingerprint sample and clear console
-                labFingerprintSample = null;
-                clearConsole();
-            } else if (requestedCameras != null && turnsSinceCamerasRequested == requestedCameras.getTurnsForAnalysis()) {
-                // Deliver the results
-                System.out.println("===== Camera Results =====");
-                rollingPrintln(requestedCameras.generateMessage());
-                System.out.println("==========================");
-
-                // Add the results to the detective's log
-                detectivesLog += requestedCameras.generateLogMessage();
-
-                // Require result acknowledgement
-                String answer;
-                do {
-                    System.out.println();
-                    rollingPrintln("To acknowledge these results, please type ok below and then press enter.");
-                    System.out.print("> ");
-                    answer = input.nextLine();
-                } while (!answer.toLowerCase().equals("ok"));
-
-                // Reset requested cameras and clear console
-                requestedCameras = null;
-                clearConsole();
-            }
-
-            // Determine the actions available to the user
-            ArrayList<Command> options = new ArrayList<>();
-            char currentCell = mapArray[yPos - 1][xPos - 1];
-
-            if (currentRoom == Room.STAIRCASE) {
-                options.add(Command.UP);
-                if (numDonuts >= 2) {
-                    if (labDNASample == null && labFingerprintSample == null) {
-                        if (collectedDNASample != null) options.add(Command.SUBMIT_DNA);
-                        if (collectedFingerprintSample != null) options.add(Command.SUBMIT_FINGERPRINTS);
-                    }
-                }
-                if (requestedCameras == null && numDonuts >= donutsForCameraRequest) options.add(Command.REQUEST_CAMERAS);
-                options.add(Command.ACCUSE);
-
-            } else {
-                // Determine available movement options
-                char aboveCell = (yPos == 1 ? ' ' : mapArray[yPos - 2][xPos - 1]);
-                char belowCell = (yPos == 25 ? ' ' : mapArray[yPos][xPos - 1]);
-                char leftCell = (xPos == 1 ? ' ' : mapArray[yPos - 1][xPos - 2]);
-                char rightCell = (xPos == 24 ? ' ' : mapArray[yPos - 1][xPos]);
-                if (yPos != 1 && (currentCell == '^' || (aboveCell != '|' && aboveCell != '-' && aboveCell != 'X'))) options.add(Command.UP);
-                if (yPos != 25 && (currentCell == 'v' || (belowCell != '|' && belowCell != '-' && belowCell != 'X'))) options.add(Command.DOWN);
-                if (xPos != 1 && (currentCell == '<' || (leftCell != '|' && leftCell != '-' && leftCell != 'X'))) options.add(Command.LEFT);
-                if (xPos != 24 && (currentCell == '>' || (rightCell != '|' && rightCell != '-' && rightCell != 'X'))) options.add(Command.RIGHT);
-                // Determine available room options
-                if (currentRoom != null && currentRoom != Room.STAIRCASE) {
-                    options.add(Command.SEARCH);
-                    if (inventory.contains(Item.DNA_COLLECTOR) && collectedDNASample == null) options.add(Command.COLLECT_DNA);
-                    if (inventory.contains(Item.FINGERPRINT_COLLECTOR) && collectedFingerprintSample == null) options.add(Command.COLLECT_FINGERPRINTS);
-                    if (inventory.contains(Item.UV_SCANNER)) options.add(Command.UV_SCAN);
-                    if (currentCell == '/' || currentCell == '\\') options.add(Command.PASS);
-                }
-            }
-
-            // Determine if the inventory can be opened
-            if (inventory.size() > 0 || numDonuts > 0) options.add(Command.INVENTORY);
-            // Determine if the detective's log can be opened
-            if (detectivesLog.length() > 0) options.add(Command.LOG);
-            // Determine if a DNA sample can be discarded
-            if (collectedDNASample != null) options.add(Command.DISCARD_DNA);
-            // Determine if a fingerprint sample can be discarded
-            if (collectedFingerprintSample != null) options.add(Command.DISCARD_FINGERPRINTS);
-
+        GameJournal journal = startJournal();
+        while (engine.isGameActive()) {
             // Prompt the user to choose from the available options
-            Command action = promptInputWithMap("So, detective, what do you want to do?", false, options);
-            // If the user is trying to use a secret passageway, process the action.
-            if (action == Command.PASS) {
-                // Top left to bottom right
-                if (xPos == 1 && yPos == 3) {
-                    xPos = 19;
-                    yPos = 24;
-                    currentRoom = Room.KITCHEN;
-                }
-                // Bottom right to top left
-                else if (xPos == 19 && yPos == 24) {
-                    xPos = 1;
-                    yPos = 3;
-                    currentRoom = Room.STUDY;
+            Command action = promptInputWithMap(GameText.COMMAND_PROMPT, false, GameFlow.turnOptions(engine, saveDirectory != null));
+
+            // Apply the action, confirming it with the user where needed
+            List<GameEvent> events = GameFlow.needsConfirmation(action) ? confirm(action) : switch (action) {
+                case Command.SEARCH -> {
+                    loadingAnimation("Searching", 1);
+                    yield engine.apply(action);
                 }
-                // Top right to bottom left
-                else if (xPos == 24 && yPos == 5) {
-                    xPos = 2;
-                    yPos = 21;
-                    currentRoom = Room.CONSERVATORY;
+                case Command.COLLECT_DNA, Command.COLLECT_FINGERPRINTS -> {
+                    loadingAnimation("Collecting", 1);
+                    yield engine.apply(action);
                 }
-                // Bottom left to top right
-                else if (xPos == 2 && yPos == 21) {
-                    xPos = 24;
-                    yPos = 5;
-                    currentRoom = Room.LOUNGE;
-                } else throw new IllegalStateException("Unexpected attempted secret pathway travel");
-            }
-            // If the user is trying to enter or leave a room with a 'diagonal' door (study, lounge, and conservatory), process the action.
-            else if (xPos == 6 && yPos == 3 && action == Command.DOWN) {
-                xPos++;
-                yPos += 2;
-                currentRoom = null;
-            } else if (xPos == 7 && yPos == 5 && action == Command.UP) {
-                xPos--;
-                yPos -= 2;
-            } else if (xPos == 19 && yPos == 5 && action == Command.DOWN) {
-                xPos--;
-                yPos += 2;
-                currentRoom = null;
-            } else if (xPos == 18 && yPos == 7 && action == Command.UP) {
-                xPos++;
-                yPos -= 2;
-            } else if (xPos == 5 && yPos == 21 && action == Command.RIGHT) {
-                xPos++;
-                yPos--;
-                currentRoom = null;
-            } else if (xPos == 6 && yPos == 20 && action == Command.LEFT) {
-                xPos--;
-                yPos++;
-            }
-            // Process any other entry or exit from rooms
-            else if (currentCell == '^' && action == Command.UP) {
-                yPos -= 2;
-                if (currentRoom != null) currentRoom = null;
-            } else if (currentCell == 'v' && action == Command.DOWN) {
-                yPos += 2;
-                if (currentRoom != null) currentRoom = null;
-            } else if (currentCell == '<' && action == Command.LEFT) {
-                xPos -= 2;
-                if (currentRoom != null) currentRoom = null;
-            } else if (currentCell == '>' && action == Command.RIGHT) {
-                xPos += 2;
-                if (currentRoom != null) currentRoom = null;
-            } else if (currentRoom == Room.STAIRCASE && action == Command.UP) {
-                yPos--;
-                currentRoom = null;
-            }
-            // Process standard motion and other actions
-            else switch (action) {
-                case Command.UP -> yPos--;
-                case Command.DOWN -> yPos++;
-                case Command.LEFT -> xPos--;
-                case Command.RIGHT -> xPos++;
-                case Command.INVENTORY -> openInventory();
-                case Command.LOG -> openDetectivesLog();
-                case Command.SEARCH -> searchRoom();
-                case Command.COLLECT_DNA -> collectDNA();
-                case Command.COLLECT_FINGERPRINTS -> collectFingerprints();
-                case Command.UV_SCAN -> scanUV();
-                case Command.DISCARD_DNA -> discardDNA();
-                case Command.DISCARD_FINGERPRINTS -> discardFingerprints();
-                case Command.SUBMIT_DNA -> submitDNA();
-                case Command.SUBMIT_FINGERPRINTS -> submitFingerprints();
-                case Command.REQUEST_CAMERAS -> requestCamera();
-                case Command.ACCUSE -> {
-                    Command answer = promptYesNo("You think you know whodunit? Are you sure you're ready to report your final findings?",true);
-                    if (answer == Command.NO) {
-                        rollingPrint("Alright then, detective. Come back when you're fully sure you got it.");
-                    } else {
-                        solvedMystery = accuse();
-                        gameActive = false;
-                    }
+                case Command.UV_SCAN -> {
+                    loadingAnimation("Scanning", 1);
+                    yield engine.apply(action);
                 }
-                default -> throw new IllegalStateException("Unexpected game command execution");
-            }
-
-            // If the user entered a room, update the currentRoom variable
-            Optional<Room> enteredRoom = Arrays.stream(Room.values()).filter((a) -> Arrays.stream(a.getEntrances()).anyMatch((b) -> b[0] == xPos && b[1] == yPos)).findFirst();
-            if (enteredRoom.isPresent()) {
-                if (!visitedRooms.contains(currentRoom)) visitedRooms.add(currentRoom);
-                if (currentRoom == null) {
-                    clearConsole();
-                    rollingPrint("You have entered the " + enteredRoom.get().getName().toLowerCase() + ".");
-                    input.nextLine();
+                case Command.NOTES -> {
+                    openNotes();
+                    yield List.of();
                 }
-                currentRoom = enteredRoom.get();
-            }
-
-            // Increment the turns counters
-            if ((action == Command.DISCARD_DNA && collectedDNASample == null) || (action == Command.DISCARD_FINGERPRINTS && collectedFingerprintSample == null) || action != Command.INVENTORY) {
-                actionableTurns++;
-                if (labDNASample != null && action != Command.SUBMIT_DNA) turnsSinceDNASubmitted++;
-                if (labFingerprintSample != null && action != Command.SUBMIT_FINGERPRINTS) turnsSinceFingerprintsSubmitted++;
-                if (requestedCameras != null && action != Command.REQUEST_CAMERAS) turnsSinceCamerasRequested++;
-            }
-            turns++;
-            if (totalDonutsFound > 0) turnsSinceLastDonutFound++;
-
-            if (actionableTurns > 250) {
-                gameActive = false;
-                tookTooLong = true;
+                case Command.SAVE -> save(commandArgument != null ? commandArgument : name);
+                // Repeated moves and trips are applied as a batch, so only the frame at the end of them is drawn
+                case Command.UP, Command.DOWN, Command.LEFT, Command.RIGHT -> commandCount > 1 ? engine.applyMoves(action, commandCount) : engine.apply(action);
+                case Command.GOTO -> travel(commandArgument);
+                default -> engine.apply(action);
+            };
+
+            // Render the outcome of the turn
+            for (GameEvent event : events) renderEvent(event);
+
+            // Anything but a plain move prints over the map, so the next map has to be drawn in full
+            if (events.isEmpty() || !events.stream().allMatch((a) -> a.getType() == GameEvent.Type.MOVED || a.getType() == GameEvent.Type.PASSED)) screen.invalidate();
+        }
+        if (journal != null) {
+            engine.setJournal(null);
+            try {
+                journal.close();
+            } catch (IOException e) {
+                // Every turn has already been flushed, so the journal is complete as far as the game went
             }
         }
         end();
     }
 
-    private void end() {
-        clearConsole();
-        if (tookTooLong) {
-            rollingPrint("Unfortunately, detective " + name + ", you took too long in your investigation. ");
-            textDelay();
-            rollingPrint("The suspect's most likely out of the country and out of our control by now. ");
-            textDelay();
-            rollingPrint("Better luck next time.");
-        } else {
-            rollingPrint("Ready to find out together whether you were right, detective? ");
-            textDelay();
-            rollingPrint("When you're ready, press enter and we'll find out.");
-            input.nextLine();
-            System.out.println();
-            rollingPrintln("         Your Guess      | Correct Answer");
-            rollingPrint("Suspect: " + guessedSuspect + repeat(" ", 15 - guessedSuspect.length()) + " | ");
-            textDelay();
-            rollingPrintln((guessedSuspect.equals(answerSuspect.getName()) ? ANSI_GREEN_BACKGROUND : ANSI_RED_BACKGROUND) + answerSuspect + repeat(" ", 15 - answerSuspect.getName().length()) + ANSI_RESET);
-            textDelay();
-            rollingPrint(" Weapon: " + guessedWeapon + repeat(" ", 15 - guessedWeapon.length()) + " | ");
-            textDelay();
-            rollingPrintln((guessedWeapon.equals(answerWeapon.getName()) ? ANSI_GREEN_BACKGROUND : ANSI_RED_BACKGROUND) + answerWeapon + repeat(" ", 15 - answerWeapon.getName().length()) + ANSI_RESET);
-            textDelay();
-            rollingPrint("   Room: " + guessedRoom + repeat(" ", 15 - guessedRoom.length()) + " | ");
-            textDelay();
-            rollingPrintln((guessedRoom.equals(answerRoom.getName()) ? ANSI_GREEN_BACKGROUND : ANSI_RED_BACKGROUND) + answerRoom + repeat(" ", 15 - answerRoom.getName().length()) + ANSI_RESET);
-            System.out.println();
-            if (solvedMystery) {
-                rollingPrint("Very nicely done, detective " + name + "! I'm glad I could trust you.");
-            } else if (
-                (suspectCorrect && weaponCorrect) ||
-                (weaponCorrect && roomCorrect) ||
-                (suspectCorrect && roomCorrect)
-            ) {
-                rollingPrint("Nearly there, detective " + name + "! I'm sure you'll get it next time.");
-            } else if (suspectCorrect || weaponCorrect || roomCorrect) {
-                rollingPrint("Well done on the " + (suspectCorrect ? "suspect" : (weaponCorrect ? "weapon" : "room")) + ". Better luck with the others next time.");
-            } else {
-                rollingPrint("Better luck next time, detective.");
-            }
+    /**
+     * Starts journaling the game to the journal directory, so that it can be replayed for bug reports and regression testing
+     *
+     * @return the journal, or {@code null} if games are not journaled or the journal could not be created
+     */
+    private GameJournal startJournal() {
+        if (journalDirectory == null) return null;
+        try {
+            GameJournal journal = GameJournal.open(GameJournal.pathFor(journalDirectory, engine), engine);
+            engine.setJournal(journal);
+            return journal;
+        } catch (IOException e) {
+            // The game can be played without a journal
+            return null;
         }
-        textDelay(2000);
-        System.out.println();
-        System.out.println();
-        rollingPrintln(" Final inventory: " + inventory.stream().map(Item::getName).collect(Collectors.joining(", ")));
-        rollingPrintln("   Rooms visited: " + visitedRooms.stream().map(Room::getName).filter((a) -> !(a.equals("Staircase"))).collect(Collectors.joining(", ")));
-        System.out.println("-------------------------------------------" + (turns >= 10 ? "-" : "") + (turns >= 100 ? "-" : ""));
-        rollingPrintln("                            Turns taken: " + turns);
-        rollingPrintln("                     Total donuts found: " + totalDonutsFound);
-        rollingPrintln("                    Total room searches: " + totalRoomSearches);
-        rollingPrintln("           Total fingerprints collected: " + totalFingerprintsCollected);
-        rollingPrintln("            Total fingerprints analyzed: " + totalFingerprintsAnalyzed);
-        rollingPrintln("            Total DNA samples collected: " + totalDNACollected);
-        rollingPrintln("             Total DNA samples analyzed: " + totalDNAAnalyzed);
-        rollingPrintln("               Total UV scans completed: " + totalUVScans);
-        rollingPrintln("      Total pieces of footage requested: " + totalCamerasRequested);
-        rollingPrintln(" Total donuts eaten by detective Joseph: " + totalDonutsEatenByJoseph);
-        input.close();
-    }
-
-    private void searchRoom() {
-        loadingAnimation("Searching", 1);
-        totalRoomSearches++;
-        double random = Math.random();
-        if (currentRoom.hasItem() && !(inventory.contains(currentRoom.getItem()))) {
-            getItem(currentRoom.getItem());
-        } else if (currentRoom == Room.KITCHEN) {
-            if ((totalDonutsFound > 0 && turnsSinceLastDonutFound < 10 + 1) || random < 0.2) rollingPrint("You found nothing!");
-            else if (random < 0.3) getDonuts(1);
-            else if (random <= 0.8) getDonuts(2);
-            else if (random <= 0.95) getDonuts(3);
-            else if (random <= 0.99) getDonuts(4);
-            else getDonuts(5);
-        } else if (random < 0.05) getDonuts(1);
-        else rollingPrint("You found nothing!");
-        input.nextLine();
-    }
-
-    private void getDonuts(int numFound) {
-        rollingPrint("You found " + numFound + " donut" + (numFound > 1 ? "s" : "") +"!");
-        numDonuts += numFound;
-        totalDonutsFound += numFound;
-        if (currentRoom == Room.KITCHEN) turnsSinceLastDonutFound = 0;
-    }
-
-    private void getItem(Item itemFound) {
-        rollingPrint("You found a " + itemFound.getName() + "!");
-        inventory.add(itemFound);
-    }
-
-    private void collectDNA() {
-        loadingAnimation("Collecting", 1);
-        // 30% chance you can still find DNA if it is not relevant to the case
-        if (currentRoom.getDNA() != null || Math.random() < 0.3) {
-            rollingPrint("You've collected DNA from the " + currentRoom.getName().toLowerCase() + ". ");
-            textDelay();
-            rollingPrint("Submit it to Detective Joseph at the central staircase for analysis.");
-            totalDNACollected++;
-            collectedDNASample = new DNASample(currentRoom, currentRoom.getDNA());
-        } else rollingPrint("You struggled to find anything to collect DNA from in the " + currentRoom.getName().toLowerCase() + ".");
-        input.nextLine();
     }
 
-    private void collectFingerprints() {
-        loadingAnimation("Collecting", 1);
-        if (currentRoom.hasWeapon()) {
-            rollingPrint("You found a bloody " + currentRoom.getWeapon().getName().toLowerCase() + " with some fingerprints on it in the " + currentRoom.getName().toLowerCase() + "! ");
+    /**
+     * Saves the game to the save directory without using up a turn
+     *
+     * @param saveName the name to save the game under
+     * @return no events, since saving is not a turn
+     */
+    private List<GameEvent> save(String saveName) {
+        clearConsole();
+        try {
+            GameSnapshot.saveTo(engine, GameSnapshot.pathFor(saveDirectory, saveName));
+            rollingPrint("Your investigation has been saved. ");
             textDelay();
-            rollingPrint("Submit it to Detective Joseph at the central staircase for analysis.");
-            totalFingerprintsCollected++;
-            collectedFingerprintSample = new FingerprintSample(currentRoom, currentRoom.getWeapon(), currentRoom.getWeaponFingerprints());
+            rollingPrint("To pick it up again, choose load and enter " + saveName + ".");
+        } catch (IOException e) {
+            rollingPrint("Your investigation could not be saved: " + e.getMessage());
         }
-        else{
-            if (Math.random() < 0.5) rollingPrint("You struggled to find any fingerprints in the " + currentRoom.getName().toLowerCase() + ".");
-            else rollingPrint("You found some weak fingerprints in the corner of the " + currentRoom.getName().toLowerCase() + " but struggled to collect them.");
-        }
-        input.nextLine();
+        readLine();
+        return List.of();
     }
 
-    private void scanUV() {
-        loadingAnimation("Scanning", 1);
-        if (currentRoom.isUVCluePresent()) {
-            rollingPrint("You found a some bloodspots on the wall of the " + currentRoom.getName().toLowerCase() + "!");
-            totalUVScans++;
-        }
-        else{
-            if (Math.random() < 0.5) rollingPrint("You thought you saw something on the wall of the " + currentRoom.getName().toLowerCase() + ", but it turned out to be a fluke.");
-            else rollingPrint("You didn't see a thing when you turned on your UV light in the " + currentRoom.getName().toLowerCase() + ".");
-        }
-        input.nextLine();
+    /**
+     * Heads for the room entered after {@code goto}, taking a turn for each step
+     *
+     * @param destination the room entered by the user, or {@code null} if none was entered
+     * @return the events produced by the trip, or no events if the user cannot head for the room
+     */
+    private List<GameEvent> travel(String destination) {
+        String problem = GameText.travelProblem(destination, engine);
+        if (problem == null) return engine.travelTo(Room.named(destination));
+        clearConsole();
+        rollingPrint(problem);
+        readLine();
+        return List.of();
     }
 
-    private void discardDNA() {
+    /**
+     * Continues a saved game, asking for the name it was saved under
+     *
+     * @return whether a saved game was found and played to its end
+     */
+    private boolean load() {
         clearConsole();
-        String room = collectedDNASample.getRoom().getName().toLowerCase();
-        if (promptYesNo("Are you sure you want to discard the DNA sample you collected in the " + room + "?", true) == Command.NO) return;
-        collectedDNASample = null;
-        rollingPrint("You have discarded the DNA sample you collected in the " + room + ".");
-        input.nextLine();
+        rollingPrintln("What name did you save your investigation under?");
+        terminal.print("> ");
+        try {
+            engine = GameSnapshot.loadFrom(GameSnapshot.pathFor(saveDirectory, readLine()));
+        } catch (NoSuchFileException e) {
+            rollingPrint("I couldn't find an investigation saved under that name.");
+            readLine();
+            clearConsole();
+            return false;
+        } catch (IOException e) {
+            rollingPrint("That investigation could not be loaded: " + e.getMessage());
+            readLine();
+            clearConsole();
+            return false;
+        }
+        name = engine.getName();
+        color = engine.getColor();
+        mapView = new MapView(color);
+        rollingPrint("Welcome back, detective " + name + ". ");
+        textDelay();
+        rollingPrint("Let's pick up where you left off.");
+        readLine();
+        run();
+        return true;
     }
 
-    private void discardFingerprints() {
-        clearConsole();
-        String room = collectedFingerprintSample.getRoom().getName().toLowerCase();
-        if (promptYesNo("Are you sure you want to discard the fingerprint sample you collected in the " + room + "?", true) == Command.NO) return;
-        collectedFingerprintSample = null;
-        rollingPrint("You have discarded the DNA sample you collected in the " + room + ".");
-        input.nextLine();
+    /**
+     * Renders a single event produced by the game engine
+     *
+     * @param event the event to render
+     */
+    private void renderEvent(GameEvent event) {
+        switch (event.getType()) {
+            case MOVED, PASSED, ACCUSED, TIMED_OUT -> {}
+            case INVENTORY_OPENED -> openInventory();
+            case LOG_OPENED -> openDetectivesLog(commandArgument);
+            case DNA_RESULT, FINGERPRINT_RESULT, CAMERA_RESULT -> {
+                clearConsole();
+                String[] frame = GameText.resultFrame(event);
+                terminal.println(frame[0]);
+                rollingPrintln(GameText.describe(event)[0]);
+                terminal.println(frame[1]);
+                acknowledgeResults();
+            }
+            default -> {
+                if (event.getType() == GameEvent.Type.ENTERED_ROOM) clearConsole();
+                say(GameText.describe(event));
+                readLine();
+            }
+        }
     }
 
-    private void submitDNA() {
+    /**
+     * Requires the user to acknowledge delivered lab or camera results before clearing the console
+     */
+    private void acknowledgeResults() {
+        String answer;
+        do {
+            terminal.println();
+            rollingPrintln(GameText.ACKNOWLEDGE);
+            terminal.print("> ");
+            answer = readLine();
+        } while (!answer.equalsIgnoreCase(GameText.ACKNOWLEDGEMENT));
         clearConsole();
-        rollingPrint("You have some DNA for the lab to scan? ");
-        textDelay();
-        rollingPrint("I'll need a couple donuts to do that, please. ");
-        textDelay();
-        Command answer = promptYesNo("Are you willing to give me two?", true);
-        if (answer == Command.YES){
-            rollingPrint("Thanks for the donuts! ");
-            textDelay();
-            rollingPrint("It'll be about 8 turns until the analysis will be ready. ");
-            textDelay();
-            rollingPrint("Nice work, detective.");
-            labDNASample = collectedDNASample;
-            turnsSinceDNASubmitted = 0;
-            collectedDNASample = null;
-            totalDNAAnalyzed++;
-            numDonuts -= 2;
-            totalDonutsEatenByJoseph += 2;
-        } else {
-            rollingPrint("Alright, detective. ");
-            textDelay();
-            rollingPrint("If you bring me two donuts next time, I'll be sure to send it to scan right away.");
-        }
-        input.nextLine();
     }
 
-    private void submitFingerprints() {
+    private void end() {
         clearConsole();
-        rollingPrint("You have some fingerprints for the lab to scan? ");
-        textDelay();
-        Command answer = promptYesNo("Could you maybe give me two donuts for it?", true);
-        if (answer == Command.YES){
-            rollingPrint("Thanks for obliging. ");
-            textDelay();
-            rollingPrint("It'll be about 8 turns until the analysis will be ready. ");
-            textDelay();
-            rollingPrint("Nice work, detective.");
-            labFingerprintSample = collectedFingerprintSample;
-            turnsSinceFingerprintsSubmitted = 0;
-            collectedFingerprintSample = null;
-            totalFingerprintsAnalyzed++;
-            numDonuts -= 2;
-            totalDonutsEatenByJoseph += 2;
+        if (engine.isTookTooLong()) {
+            say(GameText.timedOut(name));
         } else {
-            rollingPrint("Whatever you say, detective. ");
-            textDelay();
-            rollingPrint("If you do happen to have two donuts for me next time, I'll be sure to send it to the lab on the double.");
+            say(GameText.reveal());
+            readLine();
+            terminal.println();
+            rollingPrintln(GameText.ANSWER_HEADER);
+            for (String[] row : GameText.answers(engine)) {
+                rollingPrint(row[0]);
+                textDelay();
+                rollingPrintln(row[1]);
+                textDelay();
+            }
+            terminal.println();
+            rollingPrint(GameText.verdict(engine, name));
         }
-        input.nextLine();
+        textDelay(2000);
+        terminal.println();
+        terminal.println();
+        GameText.summary(engine).forEach(this::rollingPrintln);
+        terminal.println(GameText.separator(engine));
+        GameText.statistics(engine).forEach(this::rollingPrintln);
     }
 
-    private void requestCamera() {
+    /**
+     * Asks the user to confirm the given command, carrying it out if they agree and declining it otherwise
+     *
+     * @param command a command that needs the user's confirmation
+     * @return the events produced by carrying out or declining the command
+     */
+    private List<GameEvent> confirm(Command command) {
         clearConsole();
-        rollingPrint("You want to request all the camera footage from the night of the murder? ");
-        textDelay();
-        rollingPrint("I'd be happy to oblige if you have " + donutsForCameraRequest + " donuts for me. ");
-        textDelay();
-        Command answer = promptYesNo("Do you have some I could take?", true);
-        if (answer == Command.YES){
-            rollingPrint("Thanks for the donuts! ");
-            textDelay();
-            rollingPrint("The clips should be back in about 8 turns.");
-            requestedCameras = new CameraResult(answerRoom, answerWeapon, answerSuspect);
-            turnsSinceCamerasRequested = 0;
-            totalCamerasRequested++;
-            numDonuts -= donutsForCameraRequest;
-            totalDonutsEatenByJoseph += donutsForCameraRequest;
-        } else {
-            rollingPrint("You don't? ");
+        String[] question = GameText.confirmation(command, engine);
+        for (int i = 0; i < question.length - 1; i++) {
+            rollingPrint(question[i]);
             textDelay();
-            rollingPrint("Well maybe next time. ");
-            textDelay();
-            rollingPrint("If you do happen upon some extra, I'd be happy to take them off your hands and find you the footage you need.");
         }
-        input.nextLine();
+        if (promptYesNo(question[question.length - 1], true) == Command.YES) return command == Command.ACCUSE ? accuse() : engine.apply(command);
+        String[] refusal = GameText.refusal(command);
+        say(refusal);
+        if (refusal.length > 0) readLine();
+        return engine.decline(command);
     }
 
-    private boolean accuse() {
+    private List<GameEvent> accuse() {
         clearConsole();
-        rollingPrint("I sure hope you're right. ");
-        textDelay();
-        rollingPrint("Who murdered Thompson? ");
-        textDelay();
-        rollingPrintln("(" + Arrays.stream(Suspect.values()).map(Suspect::getName).collect(Collectors.joining(", ")) + ")");
-        guessedSuspect = promptInput(true, "Miss Scarlett", "Colonel Mustard", "Mrs. White", "Reverend Green", "Mrs. Peacock", "Professor Plum");
-        System.out.println();
-        rollingPrint("What was he murdered with? ");
-        textDelay();
-        rollingPrintln("(" + Arrays.stream(Weapon.values()).map(Weapon::getName).collect(Collectors.joining(", ")) + ")");
-        guessedWeapon = promptInput(true, "Candlestick", "Dagger", "Lead pipe", "Revolver", "Rope", "Wrench");
-        System.out.println();
-        rollingPrint("Where was he murdered? ");
-        textDelay();
-        rollingPrintln("(" + Arrays.stream(Room.values()).limit(9).map(Room::getName).collect(Collectors.joining(", ")) + ")");
-        guessedRoom = promptInput(true, "Hall", "Lounge", "Dining Room", "Kitchen", "Ballroom", "Conservatory", "Billiard Room", "Library", "Study");
-        suspectCorrect = guessedSuspect.equals(answerSuspect.getName());
-        weaponCorrect = guessedWeapon.equals(answerWeapon.getName());
-        roomCorrect = guessedRoom.equals(answerRoom.getName());
-        return suspectCorrect && weaponCorrect && roomCorrect;
+        say(GameText.suspectQuestion());
+        terminal.println();
+        String guessedSuspect = promptInput(true, Arrays.stream(Suspect.values()).map(Suspect::getName).toArray(String[]::new));
+        terminal.println();
+        say(GameText.weaponQuestion());
+        terminal.println();
+        String guessedWeapon = promptInput(true, Arrays.stream(Weapon.values()).map(Weapon::getName).toArray(String[]::new));
+        terminal.println();
+        say(GameText.roomQuestion());
+        terminal.println();
+        String guessedRoom = promptInput(true, GameFlow.accusableRooms().stream().map(Room::getName).toArray(String[]::new));
+        return engine.accuse(GameFlow.suspectNamed(guessedSuspect), GameFlow.weaponNamed(guessedWeapon), GameFlow.accusableRoomNamed(guessedRoom));
     }
 
-    // Game Utility Methods
-
     /**
-     * Place the 3 forensic items in random rooms
+     * Types out the given sentences with a short pause between each
+     *
+     * @param sentences the sentences
      */
-    private void placeItems() {
-        for (Item item : Item.values()) {
-            int random;
-            Room room;
-            do {
-                random = (int)(Math.random() * 10);
-                room = Room.values()[random];
-            } while (room.hasItem());
-            room.setItem(item);
+    private void say(String[] sentences) {
+        for (int i = 0; i < sentences.length; i++) {
+            if (i > 0) textDelay();
+            rollingPrint(sentences[i]);
         }
     }
 
     /**
-     * Select the correct suspect, room, and weapon
-     */
-    private void selectAnswers() {
-        int random;
-        random = (int)(Math.random() * 6);
-        answerSuspect = Suspect.values()[random];
-        random = (int)(Math.random() * 9);
-        answerRoom = Room.values()[random];
-        random = (int)(Math.random() * 6);
-        answerWeapon = Weapon.values()[random];
-    }
-
-    /**
-     * Place clues in various rooms
-     */
-    private void placeClues() {
-        // Place the weapon
-        int random = (int)(Math.random() * 9);
-        Room room = Room.values()[random];
-        room.setWeapon(answerWeapon);
-        room.setWeaponFingerprints(answerSuspect);
-
-        // Place the DNA
-        answerRoom.setDNA(answerSuspect);
-
-        // Place the UV clue (75% chance one is placed)
-        answerRoom.setUVCluePresent(Math.random() < 0.75);
-    }
-    
-    /**
-     * Prints the game map, showing room names on rooms which have been visited.
+     * Draws the game map into the cells of the next frame, showing room names on rooms which have been visited.
      */
-    private void printMap() {
+    private void drawMap() {
         // 24 across 25 down
         /*
          * https://www.unicode.org/charts/PDF/U2500.pdf
@@ -1178,43 +749,7 @@ public class Simulation {
          * XXXXXXXXXX XXXX XXXXXXXXXX
          * XXXXXXXXXXXXXXXXXXXXXXXXXX
          */
-        boolean inRoom = false;
-         for (int i = 0; i < map.length(); i++) {
-            if (map.charAt(i) == '1' || map.charAt(i) == '4') inRoom = true;
-            else if (map.charAt(i) == '2' || map.charAt(i) == '3') inRoom = false;
-            switch (map.charAt(i)) {
-                case 'X':
-                    System.out.print((color.equals("white") ? ANSI_BLUE_BACKGROUND : ANSI_WHITE_BACKGROUND) + '\u00A0');
-                    if (i == map.length() - 1 || map.charAt(i + 1) != 'X') System.out.print(ANSI_RESET);
-                    break;
-                
-                case '1':
-                    if (i == 27 * yPos + xPos) System.out.print(playerANSIColor + ANSI_BOLD + character + ANSI_NOT_BOLD + ANSI_GRAY_BACKGROUND);
-                    else System.out.print(ANSI_GRAY_BACKGROUND + " ");
-                    break;
-                
-                case '2':
-                    if (i == 27 * yPos + xPos) System.out.print(playerANSIColor + ANSI_BOLD + character + ANSI_RESET);
-                    else System.out.print(" " + ANSI_RESET);
-                    break;
-
-                case '3':
-                    if (i == 27 * yPos + xPos) System.out.print(playerANSIColor + "/" + ANSI_RESET);
-                    else System.out.print("/" + ANSI_RESET);
-                    break;
-                
-                case '4':
-                    if (i == 27 * yPos + xPos) System.out.print(playerANSIColor + "\\" + ANSI_GRAY_BACKGROUND);
-                    else System.out.print(ANSI_GRAY_BACKGROUND + "\\");
-                    break;
-
-                default:
-                    if (i == 27 * yPos + xPos) System.out.print(playerANSIColor + ANSI_BOLD + (map.charAt(i) == ' ' ? character : map.charAt(i)) + (inRoom ? ANSI_NOT_BOLD + ANSI_GRAY_BACKGROUND : ANSI_RESET));
-                    else System.out.print(map.charAt(i));
-                    break;
-            }
-        }
-        System.out.println();
+        mapView.draw(screen, engine.getXPos(), engine.getYPos());
     }
 
     /**
@@ -1224,25 +759,50 @@ public class Simulation {
         clearConsole();
 
         rollingPrintln("===== Your Inventory =====");
-        if (numDonuts > 0) rollingPrintln(numDonuts + " donut" + (numDonuts > 1 ? "s" : ""));
-        inventory.forEach((a) -> rollingPrintln(a.getName() + " - " + a.getDescription()));
-        if (collectedFingerprintSample != null) rollingPrintln("A fingerprint sample off a " + collectedFingerprintSample.getWeapon().getName().toLowerCase() + " from the " + collectedFingerprintSample.getRoom().getName().toLowerCase() + " - Submit to Detective Joseph at the central staircase for analysis.");
-        if (collectedDNASample != null) rollingPrintln("A DNA sample from the " + collectedDNASample.getRoom().getName().toLowerCase() + " - Submit to Detective Joseph at the central staircase for analysis.");
-        System.out.println();
-        rollingPrint("To return to the map, press enter.");
-        input.nextLine();
+        GameText.inventory(engine).forEach(this::rollingPrintln);
+        terminal.println();
+        rollingPrint(GameText.RETURN_TO_MAP);
+        readLine();
     }
 
     /**
-     * Opens the player's detective's log
+     * Opens the player's notes on which suspects, weapons, and rooms are still possible, without using up a turn
      */
-    private void openDetectivesLog() {
+    private void openNotes() {
         clearConsole();
-        System.out.println("===== Detective's Log =====");
-        System.out.print(detectivesLog);
-        System.out.println();
-        rollingPrint("To return to the map, press enter.");
-        input.nextLine();
+        rollingPrintln("===== Your Notes =====");
+        GameText.notes(engine.getDeductions()).forEach(this::rollingPrintln);
+        terminal.println();
+        rollingPrint(GameText.RETURN_TO_MAP);
+        readLine();
+    }
+
+    /**
+     * Opens the player's detective's log, showing only the entries about the suspects, weapons, and rooms matching the given filter if there is one
+     *
+     * @param filter the filter entered after the command, or {@code null} to show every entry
+     */
+    private void openDetectivesLog(String filter) {
+        DetectivesLog log = engine.getDetectivesLog();
+        BitSet selection = filter == null ? log.all() : log.select(filter);
+        if (selection == null || selection.isEmpty()) {
+            clearConsole();
+            terminal.println(GameText.logHeading(filter, 0, 0));
+            rollingPrintln(GameText.logEmpty(filter, selection != null));
+            terminal.println();
+            rollingPrint(GameText.RETURN_TO_MAP);
+            readLine();
+            return;
+        }
+        int pages = log.pageCount(selection, GameFlow.LOG_PAGE_SIZE);
+        for (int page = 0; page < pages; page++) {
+            clearConsole();
+            terminal.println(GameText.logHeading(filter, page, pages));
+            terminal.print(log.renderPage(selection, page, GameFlow.LOG_PAGE_SIZE));
+            terminal.println();
+            rollingPrint(page < pages - 1 ? GameText.NEXT_PAGE : GameText.RETURN_TO_MAP);
+            readLine();
+        }
     }
 
     /**
@@ -1254,53 +814,7 @@ public class Simulation {
      * @return the command selected by the user
      */
     public Command promptInput(String message, boolean rolling, Command... commands) {
-        ArrayList<String> acceptedCommands = new ArrayList<>();
-
-        // Print the user prompt
-        rollingPrintln(message);
-
-        // Print the command options and update the list of accepted commands (including aliases)
-        // This list will be used to validate the input
-        for (Command command : commands) {
-            if (rolling) rollingPrintln(ANSI_BLUE_BACKGROUND + ANSI_BLACK + " " + command.getName() + " " + ANSI_RESET + " - " + command.getDescription() +
-                            (command.getAliases().length > 0 ? " (Alias" + (command.getAliases().length > 1 ? "es" : "") + ": " + Arrays.stream(command.getAliases()).limit(command.getAliases().length - 1).collect(Collectors.joining(", ")) + (command.getAliases().length == 1 ? "" : (command.getAliases().length == 2 ? "" : ",") + " and ") + command.getAliases()[command.getAliases().length - 1] + ")" : "")
-            );
-            else System.out.println(ANSI_BLUE_BACKGROUND + ANSI_BLACK + " " + command.getName() + " " + ANSI_RESET + " - " + command.getDescription() +
-                            (command.getAliases().length > 0 ? " (Alias" + (command.getAliases().length > 1 ? "es" : "") + ": " + Arrays.stream(command.getAliases()).limit(command.getAliases().length - 1).collect(Collectors.joining(", ")) + (command.getAliases().length == 1 ? "" : (command.getAliases().length == 2 ? "" : ",") + " and ") + command.getAliases()[command.getAliases().length - 1] + ")" : "")
-            );
-            acceptedCommands.add(command.getName());
-            if (command.containsAliases()) Arrays.stream(command.getAliases()).forEach((alias) -> acceptedCommands.add(alias));
-        }
-        
-        // Allow the user to provide input
-        System.out.print("> ");
-        String answer = input.nextLine().toLowerCase();
-
-        // If the input is not a recognized command or alias, clear the console and prompt the user again.
-        while (!acceptedCommands.contains(answer)) {
-            clearConsole();
-
-            // Print the user prompt
-            if (rolling) rollingPrintln("You can't do that right now.");
-            else System.out.println("You can't do that right now.");
-            rollingPrintln(message);
-
-            // Print the command options
-            for (Command command : commands) {
-                if (rolling) rollingPrintln(ANSI_BLUE_BACKGROUND + ANSI_BLACK + " " + command.getName() + " " + ANSI_RESET + " - " + command.getDescription() +
-                                (command.getAliases().length > 0 ? " (Alias" + (command.getAliases().length > 1 ? "es" : "") + ": " + Arrays.stream(command.getAliases()).limit(command.getAliases().length - 1).collect(Collectors.joining(", ")) + (command.getAliases().length == 1 ? "" : (command.getAliases().length == 2 ? "" : ",") + " and ") + command.getAliases()[command.getAliases().length - 1] + ")" : "")
-                );
-                else System.out.println(ANSI_BLUE_BACKGROUND + ANSI_BLACK + " " + command.getName() + " " + ANSI_RESET + " - " + command.getDescription() +
-                                (command.getAliases().length > 0 ? " (Alias" + (command.getAliases().length > 1 ? "es" : "") + ": " + Arrays.stream(command.getAliases()).limit(command.getAliases().length - 1).collect(Collectors.joining(", ")) + (command.getAliases().length == 1 ? "" : (command.getAliases().length == 2 ? "" : ",") + " and ") + command.getAliases()[command.getAliases().length - 1] + ")" : "")
-                );
-            }
-        
-            // Allow the user to provide input
-            System.out.print("> ");
-            answer = input.nextLine().toLowerCase();
-        }
-        final String finalAnswer = answer;
-        return ((Command)(Arrays.stream(commands).filter((a) -> a.matches(finalAnswer)).toArray()[0]));
+        return promptInput(message, rolling, EnumSet.copyOf(Arrays.asList(commands)));
     }
 
     /**
@@ -1311,54 +825,34 @@ public class Simulation {
      * @param commands the commands to list and accept as valid input
      * @return the command selected by the user
      */
-    public Command promptInput(String message, boolean rolling, ArrayList<Command> commands) {
-        ArrayList<String> acceptedCommands = new ArrayList<>();
-
+    public Command promptInput(String message, boolean rolling, EnumSet<Command> commands) {
         // Print the user prompt
         rollingPrintln(message);
 
-        // Print the command options and update the list of accepted commands (including aliases)
-        // This list will be used to validate the input
-        for (Command command : commands) {
-            if (rolling) rollingPrintln(ANSI_BLUE_BACKGROUND + ANSI_BLACK + " " + command.getName() + " " + ANSI_RESET + " - " + command.getDescription() +
-                            (command.getAliases().length > 0 ? " (Alias" + (command.getAliases().length > 1 ? "es" : "") + ": " + Arrays.stream(command.getAliases()).limit(command.getAliases().length - 1).collect(Collectors.joining(", ")) + (command.getAliases().length == 1 ? "" : (command.getAliases().length == 2 ? "" : ",") + " and ") + command.getAliases()[command.getAliases().length - 1] + ")" : "")
-            );
-            else System.out.println(ANSI_BLUE_BACKGROUND + ANSI_BLACK + " " + command.getName() + " " + ANSI_RESET + " - " + command.getDescription() +
-                            (command.getAliases().length > 0 ? " (Alias" + (command.getAliases().length > 1 ? "es" : "") + ": " + Arrays.stream(command.getAliases()).limit(command.getAliases().length - 1).collect(Collectors.joining(", ")) + (command.getAliases().length == 1 ? "" : (command.getAliases().length == 2 ? "" : ",") + " and ") + command.getAliases()[command.getAliases().length - 1] + ")" : "")
-            );
-            acceptedCommands.add(command.getName());
-            if (command.containsAliases()) Arrays.stream(command.getAliases()).forEach((alias) -> acceptedCommands.add(alias));
-        }
+        // Print the command options
+        printMenu(commands, rolling);
         
         // Allow the user to provide input
-        System.out.print("> ");
-        String answer = input.nextLine().toLowerCase();
+        terminal.print("> ");
+        Command answer = Command.lookup(readLine());
 
-        // If the input is not a recognized command or alias, clear the console and prompt the user again.
-        while (!acceptedCommands.contains(answer)) {
+        // If the input is not an offered command or alias, clear the console and prompt the user again.
+        while (answer == null || !commands.contains(answer)) {
             clearConsole();
 
             // Print the user prompt
-            if (rolling) rollingPrintln("You can't do that right now.");
-            else System.out.println("You can't do that right now.");
+            if (rolling) rollingPrintln(GameText.CANNOT_DO_THAT);
+            else terminal.println(GameText.CANNOT_DO_THAT);
             rollingPrintln(message);
 
             // Print the command options
-            for (Command command : commands) {
-                if (rolling) rollingPrintln(ANSI_BLUE_BACKGROUND + ANSI_BLACK + " " + command.getName() + " " + ANSI_RESET + " - " + command.getDescription() +
-                            (command.getAliases().length > 0 ? " (Alias" + (command.getAliases().length > 1 ? "es" : "") + ": " + Arrays.stream(command.getAliases()).limit(command.getAliases().length - 1).collect(Collectors.joining(", ")) + (command.getAliases().length == 1 ? "" : (command.getAliases().length == 2 ? "" : ",") + " and ") + command.getAliases()[command.getAliases().length - 1] + ")" : "")
-                );
-                else System.out.println(ANSI_BLUE_BACKGROUND + ANSI_BLACK + " " + command.getName() + " " + ANSI_RESET + " - " + command.getDescription() +
-                            (command.getAliases().length > 0 ? " (Alias" + (command.getAliases().length > 1 ? "es" : "") + ": " + Arrays.stream(command.getAliases()).limit(command.getAliases().length - 1).collect(Collectors.joining(", ")) + (command.getAliases().length == 1 ? "" : (command.getAliases().length == 2 ? "" : ",") + " and ") + command.getAliases()[command.getAliases().length - 1] + ")" : "")
-                );
-            }
+            printMenu(commands, rolling);
         
             // Allow the user to provide input
-            System.out.print("> ");
-            answer = input.nextLine().toLowerCase();
+            terminal.print("> ");
+            answer = Command.lookup(readLine());
         }
-        final String finalAnswer = answer;
-        return ((Command)(Arrays.stream(commands.toArray()).filter((a) -> ((Command) a).matches(finalAnswer)).toArray()[0]));
+        return answer;
     }
 
     /**
@@ -1369,58 +863,71 @@ public class Simulation {
      * @param commands the commands to list and accept as valid input
      * @return the command selected by the user
      */
-    public Command promptInputWithMap(String message, boolean rolling, ArrayList<Command> commands) {
-        printMap();
-        ArrayList<String> acceptedCommands = new ArrayList<>();
-
-        // Print the user prompt
-        rollingPrintln(message);
-
-        // Print the command options and update the list of accepted commands (including aliases)
-        // This list will be used to validate the input
-        for (int i = 0; i < commands.size(); i++) {
-            Command command = (Command) commands.get(i);
-            if (rolling) rollingPrintln(ANSI_BLUE_BACKGROUND + ANSI_BLACK + " " + command.getName() + " " + ANSI_RESET + " - " + command.getDescription() +
-                            (command.getAliases().length > 0 ? " (Alias" + (command.getAliases().length > 1 ? "es" : "") + ": " + Arrays.stream(command.getAliases()).limit(command.getAliases().length - 1).collect(Collectors.joining(", ")) + (command.getAliases().length == 1 ? "" : (command.getAliases().length == 2 ? "" : ",") + " and ") + command.getAliases()[command.getAliases().length - 1] + ")" : "")
-            );
-            else System.out.println(ANSI_BLUE_BACKGROUND + ANSI_BLACK + " " + command.getName() + " " + ANSI_RESET + " - " + command.getDescription() +
-                            (command.getAliases().length > 0 ? " (Alias" + (command.getAliases().length > 1 ? "es" : "") + ": " + Arrays.stream(command.getAliases()).limit(command.getAliases().length - 1).collect(Collectors.joining(", ")) + (command.getAliases().length == 1 ? "" : (command.getAliases().length == 2 ? "" : ",") + " and ") + command.getAliases()[command.getAliases().length - 1] + ")" : "")
-            );
-            acceptedCommands.add(command.getName());
-            if (command.containsAliases()) Arrays.stream(command.getAliases()).forEach((alias) -> acceptedCommands.add(alias));
-        }
+    public Command promptInputWithMap(String message, boolean rolling, EnumSet<Command> commands) {
+        printFrame(null, message, rolling, commands);
         
         // Allow the user to provide input
-        System.out.print("> ");
-        String answer = input.nextLine().toLowerCase();
+        Command answer = readCommand();
 
-        // If the input is not a recognized command or alias, clear the console and prompt the user again.
-        while (!acceptedCommands.contains(answer)) {
-            clearConsole();
+        // If the input is not an offered command or alias, prompt the user again.
+        while (answer == null || !commands.contains(answer)) {
+            printFrame(GameText.CANNOT_DO_THAT, message, rolling, commands);
+            answer = readCommand();
+        }
+        return answer;
+    }
 
-            // Print the user prompt
-            if (rolling) rollingPrintln("You can't do that right now.");
-            else System.out.println("You can't do that right now.");
-            System.out.println();
-            printMap();
-            rollingPrintln(message);
+    /**
+     * Reads a command entered by the user, keeping anything entered after it in {@code commandArgument} and the number of times to repeat it in {@code commandCount}
+     *
+     * @return the entered command, or {@code null} if no command has the given name or alias or the command does not accept an argument
+     */
+    private Command readCommand() {
+        String line = readLine();
+        commandArgument = Command.argumentOf(line);
+        commandCount = Command.countOf(line);
+        return Command.parse(line);
+    }
 
-            // Print the command options
-            for (Command command : commands) {
-                if (rolling) rollingPrintln(ANSI_BLUE_BACKGROUND + ANSI_BLACK + " " + command.getName() + " " + ANSI_RESET + " - " + command.getDescription() +
-                            (command.getAliases().length > 0 ? " (Alias" + (command.getAliases().length > 1 ? "es" : "") + ": " + Arrays.stream(command.getAliases()).limit(command.getAliases().length - 1).collect(Collectors.joining(", ")) + (command.getAliases().length == 1 ? "" : (command.getAliases().length == 2 ? "" : ",") + " and ") + command.getAliases()[command.getAliases().length - 1] + ")" : "")
-                );
-                else System.out.println(ANSI_BLUE_BACKGROUND + ANSI_BLACK + " " + command.getName() + " " + ANSI_RESET + " - " + command.getDescription() +
-                            (command.getAliases().length > 0 ? " (Alias" + (command.getAliases().length > 1 ? "es" : "") + ": " + Arrays.stream(command.getAliases()).limit(command.getAliases().length - 1).collect(Collectors.joining(", ")) + (command.getAliases().length == 1 ? "" : (command.getAliases().length == 2 ? "" : ",") + " and ") + command.getAliases()[command.getAliases().length - 1] + ")" : "")
-                );
-            }
-        
-            // Allow the user to provide input
-            System.out.print("> ");
-            answer = input.nextLine().toLowerCase();
+    /**
+     * Prints the map followed by the user prompt and command options, redrawing only what changed since the last frame where possible
+     *
+     * @param notice a line to print above the user prompt, or {@code null} for none
+     * @param message the message with which to prompt the user
+     * @param rolling whether the print of the prompt and command options to system output should be rolling
+     * @param commands the commands to list
+     */
+    private void printFrame(String notice, String message, boolean rolling, EnumSet<Command> commands) {
+        drawMap();
+        screen.clearLines();
+        if (notice != null) screen.addLine(notice);
+        if (!rolling) {
+            screen.addLine(message);
+            for (Command command : commands) screen.addLine(command.getMenuLine());
+        }
+        frame.setLength(0);
+        screen.render(frame);
+        if (!rolling) frame.append("> ");
+        terminal.print(frame);
+
+        if (rolling) {
+            // The rolling lines are not part of the frame, so the next one has to be drawn in full
+            rollingPrintln(message);
+            printMenu(commands, true);
+            terminal.print("> ");
+            screen.invalidate();
         }
-        final String finalAnswer = answer;
-        return ((Command)(Arrays.stream(commands.toArray()).filter((a) -> ((Command) a).matches(finalAnswer)).toArray()[0]));
+    }
+
+    /**
+     * Prints the menu listing the given commands with rolling printing if {@code rolling} is true
+     *
+     * @param commands the commands to list
+     * @param rolling whether the print to system output should be rolling
+     */
+    private void printMenu(EnumSet<Command> commands, boolean rolling) {
+        if (rolling) rollingPrint(Command.menuFor(commands));
+        else terminal.print(Command.menuFor(commands));
     }
 
     /**
@@ -1436,15 +943,15 @@ public class Simulation {
 
         // Print the user prompt
         if (rolling) rollingPrintln(message);
-        else System.out.println(message);
+        else terminal.println(message);
 
         // Update the list of accepted inputs
         // This list will be used to validate the input
         for (String option : options) acceptedOptions.add(option);
         
         // Allow the user to provide input
-        System.out.print("> ");
-        String answer = input.nextLine();
+        terminal.print("> ");
+        String answer = readLine();
 
         // If the input is not a recognized option, prompt the user again.
         while (!acceptedOptions.contains(answer)) {
@@ -1452,11 +959,11 @@ public class Simulation {
 
             // Prompt the user again
             if (rolling) rollingPrintln(message);
-            else System.out.println(message);
+            else terminal.println(message);
 
             // Allow the user to provide input
-            System.out.print("> ");
-            answer = input.nextLine();
+            terminal.print("> ");
+            answer = readLine();
         }
         return answer;
     }
@@ -1476,18 +983,18 @@ public class Simulation {
         for (String option : options) acceptedOptions.add(option);
         
         // Allow the user to provide input
-        System.out.print("> ");
-        String answer = input.nextLine();
+        terminal.print("> ");
+        String answer = readLine();
 
         // If the input is not a recognized option, prompt the user again.
         while (!acceptedOptions.contains(answer)) {
             // Prompt the user again
-            if (rolling) rollingPrintln("That's not an option right now.");
-            else System.out.println("That's not an option right now.");
+            if (rolling) rollingPrintln(GameText.NOT_AN_OPTION);
+            else terminal.println(GameText.NOT_AN_OPTION);
 
             // Allow the user to provide input
-            System.out.print("> ");
-            answer = input.nextLine();
+            terminal.print("> ");
+            answer = readLine();
         }
         return answer;
     }
@@ -1503,11 +1010,11 @@ public class Simulation {
     public String promptConditionalInput(String message, boolean rolling, Predicate<String> tester) {
         // Print the user prompt
         if (rolling) rollingPrintln(message);
-        else System.out.println(message);
+        else terminal.println(message);
         
         // Allow the user to provide input
-        System.out.print("> ");
-        String answer = input.nextLine();
+        terminal.print("> ");
+        String answer = readLine();
 
         // If the input is not valid, clear the console and prompt the user again.
         while (!tester.test(answer)) {
@@ -1518,13 +1025,13 @@ public class Simulation {
                 rollingPrintln("That's not a valid input.");
                 rollingPrintln(message);
             } else {
-                System.out.println("That's not a valid input.");
-                System.out.println(message);
+                terminal.println("That's not a valid input.");
+                terminal.println(message);
             }
         
             // Allow the user to provide input
-            System.out.print("> ");
-            answer = input.nextLine();
+            terminal.print("> ");
+            answer = readLine();
         }
         return answer;
     }
@@ -1539,8 +1046,8 @@ public class Simulation {
      */
     public String promptConditionalInput(boolean rolling, String errorMessage, Predicate<String> tester) {
         // Allow the user to provide input
-        System.out.print("> ");
-        String answer = input.nextLine();
+        terminal.print("> ");
+        String answer = readLine();
 
         // If the input is not valid, clear the console and prompt the user again.
         while (!tester.test(answer)) {
@@ -1548,11 +1055,11 @@ public class Simulation {
 
             // Print the user prompt
             if (rolling) rollingPrintln(errorMessage);
-            else System.out.println(errorMessage);
+            else terminal.println(errorMessage);
         
             // Allow the user to provide input
-            System.out.print("> ");
-            answer = input.nextLine();
+            terminal.print("> ");
+            answer = readLine();
         }
         return answer;
     }
@@ -1565,45 +1072,71 @@ public class Simulation {
      * @return the command selected by the user
      */
     public Command promptYesNo(String message, boolean rolling) {
-        Command[] commands = {Command.YES, Command.NO};
-        ArrayList<String> acceptedCommands = new ArrayList<>();
-
         // Print the user prompt
         if (rolling) rollingPrintln(message);
-        else System.out.println(message);
-
-        // Print the command options and update the list of accepted commands (including aliases)
-        // This list will be used to validate the input
-        for (Command command : commands) {
-            acceptedCommands.add(command.getName());
-            if (command.containsAliases()) Arrays.stream(command.getAliases()).forEach((alias) -> acceptedCommands.add(alias));
-        }
+        else terminal.println(message);
         
         // Allow the user to provide input
-        System.out.print("> ");
-        String answer = input.nextLine().toLowerCase();
+        terminal.print("> ");
+        Command answer = Command.lookup(readLine());
 
         // If the input is not a recognized command or alias, clear the console and prompt the user again.
-        while (!acceptedCommands.contains(answer)) {
+        while (answer == null || !YES_NO.contains(answer)) {
             clearConsole();
 
             // Print the user prompt
             if (rolling) rollingPrintln(message + " (yes/no)");
-            else System.out.println(message + " (yes/no)");
+            else terminal.println(message + " (yes/no)");
         
             // Allow the user to provide input
-            System.out.print("> ");
-            answer = input.nextLine().toLowerCase();
+            terminal.print("> ");
+            answer = Command.lookup(readLine());
+        }
+        return answer;
+    }
+
+    /**
+     * Sends all pending output to the terminal and reads a line entered by the user
+     *
+     * @return the line entered by the user
+     */
+    private String readLine() {
+        terminal.flush();
+        try {
+            String line = lines.take();
+            if (line == END_OF_INPUT) {
+                lines.add(END_OF_INPUT);
+                throw new NoSuchElementException("No line found");
+            }
+            return line;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new NoSuchElementException("Interrupted while waiting for input");
+        }
+    }
+
+    /**
+     * Reads lines entered by the user until the input ends, skipping ahead of any rolling text when the user presses enter
+     */
+    private void readInput() {
+        try {
+            while (true) {
+                String line = input.nextLine();
+                // Pressing enter while text is still rolling only skips ahead
+                if (terminal.skip() && line.isEmpty()) continue;
+                lines.add(line);
+            }
+        } catch (NoSuchElementException | IllegalStateException | UncheckedIOException e) {
+            input.close();
+            lines.add(END_OF_INPUT);
         }
-        final String finalAnswer = answer;
-        return ((Command)(Arrays.stream(commands).filter((a) -> a.matches(finalAnswer)).toArray()[0]));
     }
 
     /**
      * Clears the output console
      */
-    public static void clearConsole() {
-        System.out.print("\033[H\033[2J");
+    public void clearConsole() {
+        terminal.print("\033[H\033[2J");
     }
 
     /**
@@ -1620,12 +1153,8 @@ public class Simulation {
     /**
      * Delays 500 milliseconds to provide a break in the printing to system output.
      */
-    public static void textDelay() {
-        try {
-            Thread.sleep(500);
-        } catch (InterruptedException e) {
-            System.out.println();
-        }
+    public void textDelay() {
+        terminal.pause(500);
     }
 
     /**
@@ -1634,12 +1163,8 @@ public class Simulation {
      * @param millis the number of milliseconds to delay
      * @throws IllegalArgumentException if {@code millis} is negative
      */
-    public static void textDelay(int millis) throws IllegalArgumentException {
-        try {
-            Thread.sleep(millis);
-        } catch (InterruptedException e) {
-            System.out.println();
-        }
+    public void textDelay(int millis) throws IllegalArgumentException {
+        terminal.pause(millis);
     }
 
     /**
@@ -1648,93 +1173,50 @@ public class Simulation {
      * @param cycles the number of times to cycle the loading animation
      * @throws IllegalArgumentException if {@code cycles} is negative or zero.
      */
-    public static void loadingAnimation(int cycles) throws IllegalArgumentException {
-        if (cycles <= 0) throw new IllegalArgumentException("Illegal number of loading animation cycles");
-        clearConsole();
-        for (int i = 0; i < cycles; i++) {
-            for (int j = 0; j < 5; j++) {
-                try {
-                    Thread.sleep(1000);
-                } catch (InterruptedException e) {
-                    System.out.println();
-                }
-                System.out.print(".");
-            }
-            try {
-                Thread.sleep(1000);
-            } catch (InterruptedException e) {
-                System.out.println();
-            }
-            clearConsole();
-        }
-        try {
-            Thread.sleep(1000);
-        } catch (InterruptedException e) {
-            System.out.println();
-        }
+    public void loadingAnimation(int cycles) throws IllegalArgumentException {
+        loadingAnimation("", cycles);
     }
 
     /**
      * Clears the console and prints a loading animations that cycles the given number of times.
+     * The animation is queued behind any rolling text rather than waited out, and pressing enter cancels the rest of it.
      * 
      * @param prefix the string to add before each series of dots
      * @param cycles the number of times to cycle the loading animation
      * @throws IllegalArgumentException if {@code cycles} is negative or zero.
      */
-    public static void loadingAnimation(String prefix, int cycles) throws IllegalArgumentException {
+    public void loadingAnimation(String prefix, int cycles) throws IllegalArgumentException {
         if (cycles <= 0) throw new IllegalArgumentException("Illegal number of loading animation cycles");
         clearConsole();
         for (int i = 0; i < cycles; i++) {
-            System.out.print(prefix);
+            terminal.print(prefix);
             for (int j = 0; j < 5; j++) {
-                try {
-                    Thread.sleep(1000);
-                } catch (InterruptedException e) {
-                    System.out.println();
-                }
-                System.out.print(".");
-            }
-            try {
-                Thread.sleep(1000);
-            } catch (InterruptedException e) {
-                System.out.println();
+                terminal.pause(loadingStepMillis);
+                terminal.print(".");
             }
+            terminal.pause(loadingStepMillis);
             clearConsole();
         }
-        try {
-            Thread.sleep(1000);
-        } catch (InterruptedException e) {
-            System.out.println();
-        }
+        terminal.pause(loadingStepMillis);
     }
 
-    public static void rollingPrint(Object obj) {
-        try {
-            String output = obj.toString();
-            for (int i = 0; i < output.length() - 1; i++) {
-                System.out.print(output.charAt(i));
-                Thread.sleep(15);
-            }
-            System.out.print(output.charAt(output.length() - 1));
-        } catch (InterruptedException e) {
-            System.out.print(obj);
-        }
+    public void rollingPrint(Object obj) {
+        terminal.type(obj.toString());
     }
 
-    public static void rollingPrintln(Object obj) {
-        try {
-            String output = obj.toString();
-            for (int i = 0; i < output.length() - 1; i++) {
-                System.out.print(output.charAt(i));
-                Thread.sleep(15);
-            }
-            System.out.println(output.charAt(output.length() - 1));
-        } catch (InterruptedException e) {
-            System.out.println(obj);
-        }
+    public void rollingPrintln(Object obj) {
+        terminal.type(obj + System.lineSeparator());
     }
 
     public static void main(String[] args) throws Exception {
-        new Simulation();
+        // Games are only journaled to the journal directory when --journal is given, which can come before or after the other arguments
+        List<String> arguments = new ArrayList<>(Arrays.asList(args));
+        Path journalDirectory = arguments.remove("--journal") ? GameJournal.JOURNAL_DIRECTORY : null;
+        // The typing speed can be given as the first argument: instant, fast, or classic
+        // The length of each step of the loading animation in milliseconds can be given as the second argument
+        Typewriter.Speed speed = !arguments.isEmpty() ? Typewriter.Speed.valueOf(arguments.get(0).toUpperCase())
+            : System.console() == null ? Typewriter.Speed.INSTANT : Typewriter.Speed.CLASSIC;
+        int loadingStepMillis = arguments.size() > 1 ? Integer.parseInt(arguments.get(1)) : 1000;
+        new Simulation(new StdoutTerminal(), System.in, speed, loadingStepMillis, GameSnapshot.SAVE_DIRECTORY, journalDirectory);
     }
 }
@@ -0,0 +1,54 @@
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The {@code SocketTerminal} class is a {@code Terminal} that writes UTF-8 text to a connected socket, used for remote sessions.
+ *
+ * @author Alexander Chang
+ * @version 1.5, 10/17/2026
+ * @since 1.5
+ */
+public class SocketTerminal extends BufferedTerminal {
+    private final Writer out;
+
+    /**
+     * Creates a terminal that writes to the given socket
+     *
+     * @param socket the connected socket
+     * @throws IOException if the output stream of the socket cannot be opened
+     */
+    SocketTerminal(Socket socket) throws IOException {
+        out = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8));
+    }
+
+    @Override
+    protected void write(CharSequence text) {
+        try {
+            out.write(withCarriageReturns(text));
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Adds a carriage return before each line feed that lacks one, since network terminals expect one with each line feed
+     *
+     * @param text the text to convert
+     * @return the text with network line endings
+     */
+    static String withCarriageReturns(CharSequence text) {
+        StringBuilder converted = new StringBuilder(text.length() + 32);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '\n' && (i == 0 || text.charAt(i - 1) != '\r')) converted.append('\r');
+            converted.append(c);
+        }
+        return converted.toString();
+    }
+}
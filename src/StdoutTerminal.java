@@ -0,0 +1,18 @@
+import java.io.PrintStream;
+
+/**
+ * The {@code StdoutTerminal} class is a {@code Terminal} that writes to system output, used when the game is played from a console.
+ *
+ * @author Alexander Chang
+ * @version 1.5, 10/17/2026
+ * @since 1.5
+ */
+public class StdoutTerminal extends BufferedTerminal {
+    private final PrintStream out = System.out;
+
+    @Override
+    protected void write(CharSequence text) {
+        out.append(text);
+        out.flush();
+    }
+}
@@ -0,0 +1,39 @@
+/**
+ * The {@code Terminal} interface is the destination of everything shown to a single player.
+ * Output is collected until {@link #flush()} is called at the end of a frame or before waiting on the player,
+ * so that each session can be redirected on its own and its writes are batched.
+ *
+ * @author Alexander Chang
+ * @version 1.5, 10/17/2026
+ * @since 1.5
+ */
+public interface Terminal {
+    /**
+     * Adds text to the pending output
+     *
+     * @param text the text to print
+     */
+    void print(CharSequence text);
+
+    /**
+     * Sends all pending output to its destination
+     */
+    void flush();
+
+    default void print(char c) {
+        print(String.valueOf(c));
+    }
+
+    default void print(Object obj) {
+        print(String.valueOf(obj));
+    }
+
+    default void println() {
+        print(System.lineSeparator());
+    }
+
+    default void println(Object obj) {
+        print(obj);
+        println();
+    }
+}
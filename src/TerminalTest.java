@@ -0,0 +1,34 @@
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+/**
+ * The {@code TerminalTest} class provides tests for buffered terminal output
+ *
+ * @author Alexander Chang
+ * @version 1.5, 10/17/2026
+ * @since 1.5
+ */
+public class TerminalTest {
+
+    @Test
+    public void outputWaitsForFlush() {
+        MemoryTerminal terminal = new MemoryTerminal();
+        terminal.print("Hello, ");
+        terminal.print('w');
+        terminal.print("orld");
+        assertEquals("", terminal.getOutput());
+        terminal.flush();
+        assertEquals("Hello, world", terminal.getOutput());
+    }
+
+    @Test
+    public void flushesAccumulate() {
+        MemoryTerminal terminal = new MemoryTerminal();
+        terminal.println("first");
+        terminal.flush();
+        terminal.print(2);
+        terminal.flush();
+        terminal.flush();
+        assertEquals("first" + System.lineSeparator() + "2", terminal.getOutput());
+    }
+}
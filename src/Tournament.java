@@ -0,0 +1,185 @@
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Function;
+
+/**
+ * The {@code Tournament} class plays many headless games with each strategy in parallel and reports how well each one does.
+ * Game {@code i} of every strategy is played on the board generated from seed {@code firstSeed + i}, so the strategies face
+ * the same mysteries, and each bot draws its own choices from a separate random source seeded from the same number.
+ * Games share nothing, so the games of a strategy are split into ranges that a {@code ForkJoinPool} plays on every core.
+ * <p>
+ * Running this class takes the number of games per strategy, the parallelism, and the first seed, all optional.
+ *
+ * @author Alexander Chang
+ * @version 1.5, 10/17/2026
+ * @since 1.5
+ */
+public class Tournament {
+    // Games are played in ranges of at most this many by a single task
+    private static final int GAMES_PER_TASK = 256;
+
+    /**
+     * The {@code Strategy} enum type contains the bots that can enter a tournament
+     */
+    enum Strategy {
+        RANDOM_WALK("Random walk", RandomWalkBot::new),
+        GREEDY_SEARCH("Greedy search", GreedySearchBot::new),
+        EVIDENCE("Evidence-driven", EvidenceBot::new);
+
+        private final String name;
+        private final Function<GameRandom, Bot> factory;
+
+        Strategy(String name, Function<GameRandom, Bot> factory) {
+            this.name = name;
+            this.factory = factory;
+        }
+
+        String getName() {
+            return name;
+        }
+
+        Bot newBot(GameRandom random) {
+            return factory.apply(random);
+        }
+    }
+
+    /**
+     * The {@code Results} class totals the outcomes of a range of games played with one strategy
+     */
+    static class Results {
+        private int games;
+        private int wins;
+        private int timeouts;
+        private long actionableTurns;
+        private long donutsFound;
+        private long donutsEaten;
+
+        private void add(GameEngine engine) {
+            games++;
+            if (engine.isSolvedMystery()) wins++;
+            if (engine.isTookTooLong()) timeouts++;
+            actionableTurns += engine.getActionableTurns();
+            donutsFound += engine.getTotalDonutsFound();
+            donutsEaten += engine.getTotalDonutsEatenByJoseph();
+        }
+
+        private Results merge(Results other) {
+            games += other.games;
+            wins += other.wins;
+            timeouts += other.timeouts;
+            actionableTurns += other.actionableTurns;
+            donutsFound += other.donutsFound;
+            donutsEaten += other.donutsEaten;
+            return this;
+        }
+
+        int getGames() {
+            return games;
+        }
+
+        int getWins() {
+            return wins;
+        }
+
+        int getTimeouts() {
+            return timeouts;
+        }
+
+        double getWinRate() {
+            return games == 0 ? 0 : (double) wins / games;
+        }
+
+        double getTimeoutRate() {
+            return games == 0 ? 0 : (double) timeouts / games;
+        }
+
+        double getMeanActionableTurns() {
+            return games == 0 ? 0 : (double) actionableTurns / games;
+        }
+
+        double getMeanDonutsFound() {
+            return games == 0 ? 0 : (double) donutsFound / games;
+        }
+
+        double getMeanDonutsEaten() {
+            return games == 0 ? 0 : (double) donutsEaten / games;
+        }
+    }
+
+    /**
+     * Plays a range of games, splitting it in half until it is small enough to play directly
+     */
+    private static class GamesTask extends RecursiveTask<Results> {
+        private static final long serialVersionUID = 1L;
+
+        private final Strategy strategy;
+        private final long firstSeed;
+        private final int games;
+
+        GamesTask(Strategy strategy, long firstSeed, int games) {
+            this.strategy = strategy;
+            this.firstSeed = firstSeed;
+            this.games = games;
+        }
+
+        @Override
+        protected Results compute() {
+            if (games > GAMES_PER_TASK) {
+                GamesTask first = new GamesTask(strategy, firstSeed, games / 2);
+                GamesTask second = new GamesTask(strategy, firstSeed + games / 2, games - games / 2);
+                first.fork();
+                return second.compute().merge(first.join());
+            }
+            Results results = new Results();
+            for (int game = 0; game < games; game++) results.add(play(strategy, firstSeed + game));
+            return results;
+        }
+    }
+
+    private Tournament() {}
+
+    /**
+     * Plays a single game with the given strategy to the end
+     *
+     * @param strategy the strategy
+     * @param seed the seed of the game, which also seeds the bot
+     * @return the finished game
+     */
+    static GameEngine play(Strategy strategy, long seed) {
+        GameEngine engine = new GameEngine("Bot", "white", seed);
+        Bot bot = strategy.newBot(new GameRandom(~seed));
+        while (engine.isGameActive()) bot.playTurn(engine);
+        return engine;
+    }
+
+    /**
+     * Plays the given number of games with a strategy on the given pool
+     *
+     * @param pool the pool to play the games on
+     * @param strategy the strategy
+     * @param firstSeed the seed of the first game, with the rest of the games using the seeds that follow it
+     * @param games the number of games
+     * @return the totals of the games
+     */
+    static Results play(ForkJoinPool pool, Strategy strategy, long firstSeed, int games) {
+        return pool.invoke(new GamesTask(strategy, firstSeed, games));
+    }
+
+    public static void main(String[] args) {
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        int parallelism = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        long firstSeed = args.length > 2 ? Long.parseLong(args[2]) : 0;
+
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        System.out.printf("%,d games per strategy on %d threads%n%n", games, parallelism);
+        System.out.printf("%-16s %9s %11s %13s %13s %9s %9s%n", "Strategy", "Win rate", "Mean turns", "Donuts found", "Donuts eaten", "Timeouts", "Time");
+        for (Strategy strategy : Strategy.values()) {
+            long start = System.nanoTime();
+            Results results = play(pool, strategy, firstSeed, games);
+            long millis = (System.nanoTime() - start) / 1_000_000;
+            System.out.printf("%-16s %8.2f%% %11.1f %13.2f %13.2f %8.2f%% %7.1f s%n", strategy.getName(), 100 * results.getWinRate(), results.getMeanActionableTurns(),
+                results.getMeanDonutsFound(), results.getMeanDonutsEaten(), 100 * results.getTimeoutRate(), millis / 1000.0);
+        }
+        pool.shutdown();
+    }
+}
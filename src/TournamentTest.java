@@ -0,0 +1,60 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.Test;
+
+/**
+ * The {@code TournamentTest} class provides tests for playing games with bots in parallel
+ *
+ * @author Alexander Chang
+ * @version 1.5, 10/17/2026
+ * @since 1.5
+ */
+public class TournamentTest {
+
+    private static void assertSameResults(Tournament.Results expected, Tournament.Results actual) {
+        assertEquals(expected.getGames(), actual.getGames());
+        assertEquals(expected.getWins(), actual.getWins());
+        assertEquals(expected.getTimeouts(), actual.getTimeouts());
+        assertEquals(expected.getMeanActionableTurns(), actual.getMeanActionableTurns(), 0);
+        assertEquals(expected.getMeanDonutsFound(), actual.getMeanDonutsFound(), 0);
+        assertEquals(expected.getMeanDonutsEaten(), actual.getMeanDonutsEaten(), 0);
+    }
+
+    @Test
+    public void resultsDoNotDependOnParallelism() {
+        ForkJoinPool single = new ForkJoinPool(1);
+        ForkJoinPool several = new ForkJoinPool(4);
+        for (Tournament.Strategy strategy : Tournament.Strategy.values()) {
+            // Enough games to be split across tasks
+            assertSameResults(Tournament.play(single, strategy, 11, 300), Tournament.play(several, strategy, 11, 300));
+        }
+        single.shutdown();
+        several.shutdown();
+    }
+
+    @Test
+    public void botsFinishEveryGame() {
+        for (Tournament.Strategy strategy : Tournament.Strategy.values()) {
+            for (long seed = 0; seed < 50; seed++) {
+                GameEngine engine = Tournament.play(strategy, seed);
+                assertTrue(!engine.isGameActive() && engine.getActionableTurns() <= GameEngine.MAX_ACTIONABLE_TURNS + 1);
+                assertTrue(engine.getTotalDonutsEatenByJoseph() <= engine.getTotalDonutsFound());
+            }
+        }
+    }
+
+    @Test
+    public void evidenceBeatsGuessing() {
+        ForkJoinPool pool = new ForkJoinPool(2);
+        Tournament.Results random = Tournament.play(pool, Tournament.Strategy.RANDOM_WALK, 0, 200);
+        Tournament.Results greedy = Tournament.play(pool, Tournament.Strategy.GREEDY_SEARCH, 0, 200);
+        Tournament.Results evidence = Tournament.play(pool, Tournament.Strategy.EVIDENCE, 0, 200);
+        pool.shutdown();
+        assertTrue(greedy.getWinRate() > 0.5 && greedy.getWinRate() > random.getWinRate());
+        assertTrue(evidence.getWinRate() >= greedy.getWinRate() - 0.05);
+        // The bots that look for evidence leave themselves time to accuse
+        assertEquals(0, greedy.getTimeouts());
+        assertEquals(0, evidence.getTimeouts());
+    }
+}
@@ -0,0 +1,247 @@
+import java.util.ArrayDeque;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * The {@code Typewriter} class types rolling text out to a {@code Terminal} one character at a time.
+ * Typed text and pauses are queued and played back by a virtual thread of the typewriter's own, so the caller never sleeps,
+ * and a remote user who stops reading only ever holds up their own output while the write to their socket blocks.
+ * Anything printed while text is still being typed waits its turn in the same queue, keeping the output in order.
+ *
+ * @author Alexander Chang
+ * @version 1.5, 10/17/2026
+ * @since 1.5
+ */
+public class Typewriter implements Terminal {
+    /**
+     * The speeds at which rolling text can be typed out
+     */
+    enum Speed {
+        INSTANT(0),
+        FAST(5),
+        CLASSIC(15);
+
+        private final int millisPerCharacter;
+
+        Speed(int millisPerCharacter) {
+            this.millisPerCharacter = millisPerCharacter;
+        }
+
+        int getMillisPerCharacter() {
+            return millisPerCharacter;
+        }
+    }
+
+    private final Terminal out;
+    private final Speed speed;
+    // A lock rather than synchronized, so that a virtual thread blocked writing to a slow socket does not pin its carrier thread
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition idle = lock.newCondition();
+    private final ArrayDeque<Segment> pending = new ArrayDeque<>();
+    private boolean typing;
+    // Incremented when skipping ahead, so that a typing thread started before the skip stops
+    private int generation;
+
+    /**
+     * A piece of queued output, which is either text printed at once, text typed out, or a pause
+     */
+    private static final class Segment {
+        private final String text;
+        private final boolean typed;
+        private final int pauseMillis;
+        private int position;
+
+        private Segment(String text, boolean typed, int pauseMillis) {
+            this.text = text;
+            this.typed = typed;
+            this.pauseMillis = pauseMillis;
+        }
+    }
+
+    /**
+     * Creates a typewriter in front of the given terminal
+     *
+     * @param out the terminal to type out to
+     * @param speed the speed at which to type
+     */
+    Typewriter(Terminal out, Speed speed) {
+        this.out = out;
+        this.speed = speed;
+    }
+
+    @Override
+    public void print(CharSequence text) {
+        lock.lock();
+        try {
+            if (typing) pending.add(new Segment(text.toString(), false, 0));
+            else out.print(text);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void print(char c) {
+        lock.lock();
+        try {
+            if (typing) pending.add(new Segment(String.valueOf(c), false, 0));
+            else out.print(c);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void flush() {
+        lock.lock();
+        try {
+            // Queued output is flushed as it is typed out
+            if (!typing) out.flush();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Types the given text out one character at a time, or prints it at once at instant speed
+     *
+     * @param text the text to type out
+     */
+    void type(String text) {
+        if (speed == Speed.INSTANT) {
+            print(text);
+            return;
+        }
+        lock.lock();
+        try {
+            enqueue(new Segment(text, true, 0));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Queues a break in the output, which is left out at instant speed
+     *
+     * @param millis the number of milliseconds to pause for
+     * @throws IllegalArgumentException if {@code millis} is negative
+     */
+    void pause(int millis) throws IllegalArgumentException {
+        if (millis < 0) throw new IllegalArgumentException("Illegal pause length");
+        if (speed == Speed.INSTANT || millis == 0) return;
+        lock.lock();
+        try {
+            enqueue(new Segment("", false, millis));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Prints all queued output at once, dropping any pauses
+     *
+     * @return whether any output was still queued
+     */
+    boolean skip() {
+        lock.lock();
+        try {
+            if (!typing) return false;
+            for (Segment segment : pending) out.print(segment.text.substring(segment.position));
+            pending.clear();
+            generation++;
+            typing = false;
+            out.flush();
+            idle.signalAll();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Waits until all queued output has been typed out
+     */
+    void awaitIdle() {
+        lock.lock();
+        try {
+            while (typing) idle.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void enqueue(Segment segment) {
+        pending.add(segment);
+        if (!typing) {
+            typing = true;
+            int startedGeneration = generation;
+            // The thread only lives while there is something to type, so idle sessions hold no thread
+            Thread.ofVirtual().name("Typewriter").start(() -> typeOut(startedGeneration));
+        }
+    }
+
+    /**
+     * Types out the queued output, sleeping between characters and through pauses without holding the lock
+     */
+    private void typeOut(int startedGeneration) {
+        try {
+            while (true) {
+                int millis;
+                lock.lock();
+                try {
+                    if (startedGeneration != generation) return;
+                    millis = typeNext();
+                } finally {
+                    lock.unlock();
+                }
+                if (millis < 0) return;
+                Thread.sleep(millis);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Types the next character or starts the next pause
+     *
+     * @return the milliseconds to wait before typing on, or -1 once everything queued has been typed out
+     */
+    private int typeNext() {
+        try {
+            return typeQueued();
+        } catch (RuntimeException e) {
+            // The terminal is gone, such as when a remote user disconnects, so stop typing and let the session fail on its next flush
+            pending.clear();
+            typing = false;
+            idle.signalAll();
+            return -1;
+        }
+    }
+
+    private int typeQueued() {
+        while (!pending.isEmpty()) {
+            Segment segment = pending.peek();
+            if (segment.pauseMillis > 0) {
+                pending.remove();
+                out.flush();
+                return segment.pauseMillis;
+            }
+            if (!segment.typed || segment.text.isEmpty()) {
+                out.print(segment.text);
+                pending.remove();
+                continue;
+            }
+            out.print(segment.text.charAt(segment.position++));
+            if (segment.position == segment.text.length()) pending.remove();
+            out.flush();
+            return speed.getMillisPerCharacter();
+        }
+        out.flush();
+        typing = false;
+        idle.signalAll();
+        return -1;
+    }
+}
@@ -0,0 +1,77 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import java.util.concurrent.CountDownLatch;
+import org.junit.Test;
+
+/**
+ * The {@code TypewriterTest} class provides tests for typing rolling text out in order
+ *
+ * @author Alexander Chang
+ * @version 1.5, 10/17/2026
+ * @since 1.5
+ */
+public class TypewriterTest {
+
+    @Test
+    public void instantSpeedPrintsAtOnce() {
+        MemoryTerminal terminal = new MemoryTerminal();
+        Typewriter typewriter = new Typewriter(terminal, Typewriter.Speed.INSTANT);
+        typewriter.type("Hello");
+        typewriter.pause(1000);
+        typewriter.print(", world");
+        typewriter.flush();
+        assertEquals("Hello, world", terminal.getOutput());
+        assertFalse(typewriter.skip());
+    }
+
+    @Test
+    public void printsWaitForTypedText() {
+        MemoryTerminal terminal = new MemoryTerminal();
+        Typewriter typewriter = new Typewriter(terminal, Typewriter.Speed.FAST);
+        typewriter.type("Hello");
+        typewriter.pause(10);
+        typewriter.print(", world");
+        typewriter.type("!");
+        typewriter.awaitIdle();
+        assertEquals("Hello, world!", terminal.getOutput());
+    }
+
+    @Test
+    public void skipPrintsQueuedOutput() {
+        MemoryTerminal terminal = new MemoryTerminal();
+        Typewriter typewriter = new Typewriter(terminal, Typewriter.Speed.CLASSIC);
+        typewriter.type("A long paragraph of lab results.");
+        typewriter.pause(60000);
+        typewriter.print(" Done.");
+        assertTrue(typewriter.skip());
+        assertEquals("A long paragraph of lab results. Done.", terminal.getOutput());
+    }
+
+    @Test(timeout = 10000)
+    public void blockedTerminalHoldsUpOnlyItsOwnTyping() throws InterruptedException {
+        // A terminal whose flush blocks like a socket write to a user who stopped reading
+        CountDownLatch released = new CountDownLatch(1);
+        Terminal blocked = new Terminal() {
+            @Override
+            public void print(CharSequence text) {}
+
+            @Override
+            public void flush() {
+                try {
+                    released.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        new Typewriter(blocked, Typewriter.Speed.FAST).type("Are you still there?");
+
+        MemoryTerminal terminal = new MemoryTerminal();
+        Typewriter typewriter = new Typewriter(terminal, Typewriter.Speed.FAST);
+        typewriter.type("Hello");
+        typewriter.awaitIdle();
+        assertEquals("Hello", terminal.getOutput());
+        released.countDown();
+    }
+}